@@ -33,11 +33,23 @@ package org.threeten.bp;
 
 import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
 import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
 
 /**
  * A clock providing access to the current instant, date and time using a time-zone.
@@ -157,6 +169,36 @@ public abstract class Clock {
         return new SystemClock(zone);
     }
 
+    /**
+     * Obtains a clock that returns the current instant with sub-millisecond
+     * resolution by interpolating the system clock using {@link System#nanoTime()}.
+     * <p>
+     * The clock is anchored to {@link System#currentTimeMillis()} and advances
+     * with {@code nanoTime()} between calibrations, which occur at most once per second.
+     * Each calibration keeps the interpolated time if it is still within the current
+     * system millisecond, and otherwise moves it by the smallest amount that brings it
+     * back within that millisecond.
+     * <p>
+     * The instants returned never decrease, across all threads and all instances.
+     * If a calibration would move the time backwards, such as when the system clock
+     * is adjusted backwards, the clock returns the latest instant already returned
+     * until the calibrated time passes it.
+     * <p>
+     * This clock is intended for ordering and measuring events at high resolution.
+     * It is only valid for instants between the years 1677 and 2262.
+     * <p>
+     * This class is not found in Java SE 8.
+     * <p>
+     * The returned implementation is immutable, thread-safe and {@code Serializable}.
+     *
+     * @param zone  the time-zone to use to convert the instant to date-time, not null
+     * @return a clock that interpolates the system clock in the specified zone, not null
+     */
+    public static Clock systemPrecise(ZoneId zone) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        return new PreciseClock(zone);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Obtains a clock that returns the current instant ticking in whole seconds
@@ -255,6 +297,39 @@ public abstract class Clock {
         return new TickClock(baseClock, tickNanos);
     }
 
+    /**
+     * Obtains a clock that returns the instant of the specified clock as it was
+     * at the last refresh, refreshing at the specified interval.
+     * <p>
+     * The instant is obtained from the base clock by a single background daemon thread
+     * shared by all cached clocks, so that reading the clock is a single volatile read.
+     * This is intended for high rate timestamping where an instant that is up to
+     * one refresh interval old is acceptable. The background refreshing stops once
+     * the clock, and all clocks derived from it by {@link #withZone(ZoneId)}, are
+     * no longer referenced.
+     * <p>
+     * If the base clock throws an exception, the previous instant is retained.
+     * <p>
+     * This class is not found in Java SE 8.
+     * <p>
+     * The returned implementation is immutable and thread-safe.
+     * It is not {@code Serializable}.
+     *
+     * @param baseClock  the base clock to cache, not null
+     * @param refreshInterval  the interval between refreshes, positive, not null
+     * @return a clock that caches the instant of the base clock, not null
+     * @throws IllegalArgumentException if the interval is zero or negative
+     * @throws ArithmeticException if the interval is too large to be represented as nanos
+     */
+    public static Clock cached(Clock baseClock, Duration refreshInterval) {
+        Jdk8Methods.requireNonNull(baseClock, "baseClock");
+        Jdk8Methods.requireNonNull(refreshInterval, "refreshInterval");
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive");
+        }
+        return new CachedClock(new CachedInstant(baseClock, refreshInterval.toNanos()), baseClock.getZone());
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains a clock that always returns the same instant.
@@ -439,6 +514,366 @@ public abstract class Clock {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that interpolates {@link System#currentTimeMillis()}
+     * using {@link System#nanoTime()}.
+     */
+    static final class PreciseClock extends Clock implements Serializable {
+        private static final long serialVersionUID = -3167423838471284526L;
+        /**
+         * The number of nanoseconds between calibrations.
+         */
+        static final long CALIBRATION_NANOS = NANOS_PER_SECOND;
+        /**
+         * The number of nanoseconds in a millisecond.
+         */
+        private static final long NANOS_PER_MILLI = 1000000L;
+        /**
+         * The current calibration, shared by all instances.
+         */
+        private static final AtomicReference<Calibration> CALIBRATION =
+                new AtomicReference<Calibration>(calibrate(null, System.nanoTime(), System.currentTimeMillis()));
+        /**
+         * The latest epoch-nanos returned, shared by all instances.
+         */
+        private static final AtomicLong LATEST = new AtomicLong(Long.MIN_VALUE);
+        private final ZoneId zone;
+
+        PreciseClock(ZoneId zone) {
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new PreciseClock(zone);
+        }
+        @Override
+        public long millis() {
+            return Jdk8Methods.floorDiv(epochNanos(), NANOS_PER_MILLI);
+        }
+        @Override
+        public Instant instant() {
+            long epochNanos = epochNanos();
+            return Instant.ofEpochSecond(
+                    Jdk8Methods.floorDiv(epochNanos, NANOS_PER_SECOND), Jdk8Methods.floorMod(epochNanos, NANOS_PER_SECOND));
+        }
+        private static long epochNanos() {
+            Calibration cal = CALIBRATION.get();
+            long nanoTime = System.nanoTime();
+            if (nanoTime - cal.nanoTime >= CALIBRATION_NANOS) {
+                cal = recalibrate(CALIBRATION, cal, nanoTime, System.currentTimeMillis());
+            }
+            return atLeastLatest(LATEST, cal.epochNanos + (nanoTime - cal.nanoTime));
+        }
+        /**
+         * Replaces the calibration, unless another thread has already done so.
+         * <p>
+         * The calibration is only replaced if it is still the one that was observed,
+         * thus a slow thread cannot overwrite a newer calibration with an older one.
+         *
+         * @param calibration  the shared calibration, not null
+         * @param observed  the calibration observed to be expired, not null
+         * @param nanoTime  the value of {@code System.nanoTime()}
+         * @param wallMillis  the value of {@code System.currentTimeMillis()}
+         * @return the calibration to use, not null
+         */
+        static Calibration recalibrate(AtomicReference<Calibration> calibration, Calibration observed, long nanoTime, long wallMillis) {
+            Calibration next = calibrate(observed, nanoTime, wallMillis);
+            if (calibration.compareAndSet(observed, next)) {
+                return next;
+            }
+            return calibration.get();
+        }
+        /**
+         * Returns the epoch-nanos, or the latest value returned if that is later.
+         *
+         * @param latest  the latest value returned, updated by this method, not null
+         * @param epochNanos  the interpolated epoch-nanos
+         * @return the epoch-nanos to return, never less than any previously returned
+         */
+        static long atLeastLatest(AtomicLong latest, long epochNanos) {
+            while (true) {
+                long current = latest.get();
+                if (epochNanos <= current) {
+                    return current;
+                }
+                if (latest.compareAndSet(current, epochNanos)) {
+                    return epochNanos;
+                }
+            }
+        }
+        /**
+         * Calculates a new calibration.
+         *
+         * @param previous  the previous calibration, null if none
+         * @param nanoTime  the value of {@code System.nanoTime()}
+         * @param wallMillis  the value of {@code System.currentTimeMillis()}
+         * @return the new calibration, not null
+         */
+        static Calibration calibrate(Calibration previous, long nanoTime, long wallMillis) {
+            long wallNanos = wallMillis * NANOS_PER_MILLI;
+            long epochNanos = wallNanos;
+            if (previous != null) {
+                long estimate = previous.epochNanos + (nanoTime - previous.nanoTime);
+                if (estimate >= wallNanos + NANOS_PER_MILLI) {
+                    epochNanos = wallNanos + NANOS_PER_MILLI - 1;
+                } else if (estimate > wallNanos) {
+                    epochNanos = estimate;
+                }
+            }
+            return new Calibration(nanoTime, epochNanos);
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof PreciseClock) {
+                return zone.equals(((PreciseClock) obj).zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return zone.hashCode() + 2;
+        }
+        @Override
+        public String toString() {
+            return "PreciseClock[" + zone + "]";
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Implementation of a clock that returns an instant refreshed in the background.
+     */
+    static final class CachedClock extends Clock {
+        private final CachedInstant source;
+        private final ZoneId zone;
+
+        CachedClock(CachedInstant source, ZoneId zone) {
+            this.source = source;
+            this.zone = zone;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            if (zone.equals(this.zone)) {  // intentional NPE
+                return this;
+            }
+            return new CachedClock(source, zone);
+        }
+        @Override
+        public long millis() {
+            return source.instant.toEpochMilli();
+        }
+        @Override
+        public Instant instant() {
+            return source.instant;
+        }
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof CachedClock) {
+                CachedClock other = (CachedClock) obj;
+                return source == other.source && zone.equals(other.zone);
+            }
+            return false;
+        }
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source) ^ zone.hashCode();
+        }
+        @Override
+        public String toString() {
+            return "CachedClock[" + source.baseClock + "," + Duration.ofNanos(source.refreshNanos) + "," + zone + "]";
+        }
+    }
+
+    /**
+     * The instant shared by a cached clock and the clocks derived from it.
+     */
+    static final class CachedInstant {
+        /**
+         * The executor that refreshes all cached instants, using one daemon thread.
+         */
+        private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+        final Clock baseClock;
+        final long refreshNanos;
+        volatile Instant instant;
+
+        CachedInstant(Clock baseClock, long refreshNanos) {
+            this.baseClock = baseClock;
+            this.refreshNanos = refreshNanos;
+            this.instant = baseClock.instant();
+            Refresher refresher = new Refresher(this);
+            refresher.future = EXECUTOR.scheduleAtFixedRate(refresher, refreshNanos, refreshNanos, TimeUnit.NANOSECONDS);
+        }
+        void refresh() {
+            try {
+                instant = baseClock.instant();
+            } catch (RuntimeException ex) {
+                // retain the previous instant
+            }
+        }
+        private static ScheduledThreadPoolExecutor createExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "ThreeTen-CachedClock");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.setKeepAliveTime(1, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * The task that refreshes a cached instant until it is no longer referenced.
+     */
+    static final class Refresher implements Runnable {
+        private final WeakReference<CachedInstant> reference;
+        volatile ScheduledFuture<?> future;
+
+        Refresher(CachedInstant source) {
+            this.reference = new WeakReference<CachedInstant>(source);
+        }
+        @Override
+        public void run() {
+            CachedInstant source = reference.get();
+            if (source != null) {
+                source.refresh();
+            } else if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The date and offset of a zone that apply for a range of instants.
+     * The range ends at the next midnight or the next transition, whichever is first.
+     * <p>
+     * The latest snapshot for each zone is shared by all clocks, so that the
+     * {@code now()} factories avoid looking up the offset and calculating the date
+     * on each call, without holding any state in the clocks.
+     */
+    static final class DaySnapshot {
+        /**
+         * The maximum number of zones to cache.
+         */
+        private static final int MAX_CACHED_ZONES = 1024;
+        /**
+         * The latest snapshot for each zone.
+         */
+        private static final ConcurrentMap<ZoneId, DaySnapshot> CACHE = new ConcurrentHashMap<ZoneId, DaySnapshot>(16, 0.75f, 2);
+
+        /** The rules used to create the snapshot. */
+        final ZoneRules rules;
+        final ZoneOffset offset;
+        /** The epoch-day of the date. */
+        final long epochDay;
+        /** The date, null if outside the range of {@code LocalDate}. */
+        final LocalDate date;
+        /** The epoch-second of the start of the day. */
+        final long dayStart;
+        /** The first epoch-second to which the snapshot applies. */
+        final long validFrom;
+        /** The epoch-second after the last to which the snapshot applies. */
+        final long validUntil;
+
+        private DaySnapshot(ZoneRules rules, ZoneOffset offset, long epochDay, long validFrom, long validUntil) {
+            this.rules = rules;
+            this.offset = offset;
+            this.epochDay = epochDay;
+            this.date = (LocalDate.MIN.toEpochDay() <= epochDay && epochDay <= LocalDate.MAX.toEpochDay() ?
+                    LocalDate.ofEpochDay(epochDay) : null);
+            this.dayStart = epochDay * SECONDS_PER_DAY - offset.getTotalSeconds();
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+        }
+
+        /**
+         * Gets the snapshot of the date and offset in a zone that applies to an instant.
+         * <p>
+         * The cached snapshot is used if it contains the instant and was created
+         * from the current rules of the zone, otherwise it is replaced.
+         *
+         * @param zone  the time-zone, not null
+         * @param instant  the instant, not null
+         * @return the snapshot, not null
+         */
+        static DaySnapshot of(ZoneId zone, Instant instant) {
+            ZoneRules rules = zone.getRules();
+            long epochSecond = instant.getEpochSecond();
+            DaySnapshot snap = CACHE.get(zone);
+            if (snap != null && epochSecond >= snap.validFrom && epochSecond < snap.validUntil &&
+                    (snap.rules == rules || (rules.isFixedOffset() && snap.rules.equals(rules)))) {
+                return snap;
+            }
+            snap = create(rules, instant);
+            if (CACHE.size() < MAX_CACHED_ZONES || CACHE.containsKey(zone)) {
+                CACHE.put(zone, snap);
+            }
+            return snap;
+        }
+
+        private static DaySnapshot create(ZoneRules rules, Instant instant) {
+            ZoneOffset offset = rules.getOffset(instant);
+            long epochSecond = instant.getEpochSecond();
+            long epochDay = Jdk8Methods.floorDiv(epochSecond + offset.getTotalSeconds(), SECONDS_PER_DAY);
+            long validFrom = epochDay * SECONDS_PER_DAY - offset.getTotalSeconds();
+            long validUntil = validFrom + SECONDS_PER_DAY;
+            if (rules.isFixedOffset() == false) {
+                ZoneOffsetTransition next = rules.nextTransition(instant);
+                if (next != null && next.toEpochSecond() < validUntil) {
+                    validUntil = next.toEpochSecond();
+                }
+                if (epochSecond < Instant.MAX.getEpochSecond()) {
+                    ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+                    if (previous != null && previous.toEpochSecond() > validFrom) {
+                        validFrom = previous.toEpochSecond();
+                    }
+                } else {
+                    validFrom = epochSecond;
+                }
+            }
+            return new DaySnapshot(rules, offset, epochDay, validFrom, validUntil);
+        }
+
+        /**
+         * Gets the local time of the instant, which must be within the snapshot.
+         *
+         * @param instant  the instant, not null
+         * @return the local time, not null
+         */
+        LocalTime toLocalTime(Instant instant) {
+            return LocalTime.ofSecondOfDay(instant.getEpochSecond() - dayStart, instant.getNano());
+        }
+    }
+
+    /**
+     * A point at which {@link System#nanoTime()} is anchored to the time-line.
+     */
+    static final class Calibration {
+        final long nanoTime;
+        final long epochNanos;
+
+        Calibration(long nanoTime, long epochNanos) {
+            this.nanoTime = nanoTime;
+            this.epochNanos = epochNanos;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implementation of a clock that always returns the same instant.
@@ -51,8 +51,6 @@ import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -113,13 +111,6 @@ public final class Duration
      * Constant for nanos per second.
      */
     private static final BigInteger BI_NANOS_PER_SECOND = BigInteger.valueOf(NANOS_PER_SECOND);
-    /**
-     * The pattern for parsing.
-     */
-    private final static Pattern PATTERN =
-            Pattern.compile("([-+]?)P(?:([-+]?[0-9]+)D)?" +
-                    "(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)?",
-                    Pattern.CASE_INSENSITIVE);
 
     /**
      * The number of seconds in the duration.
@@ -394,65 +385,136 @@ public final class Duration
      */
     public static Duration parse(CharSequence text) {
         Jdk8Methods.requireNonNull(text, "text");
-        Matcher matcher = PATTERN.matcher(text);
-        if (matcher.matches()) {
-            // check for letter T but no time sections
-            if ("T".equals(matcher.group(3)) == false) {
-                boolean negate = "-".equals(matcher.group(1));
-                String dayMatch = matcher.group(2);
-                String hourMatch = matcher.group(4);
-                String minuteMatch = matcher.group(5);
-                String secondMatch = matcher.group(6);
-                String fractionMatch = matcher.group(7);
-                if (dayMatch != null || hourMatch != null || minuteMatch != null || secondMatch != null) {
-                    long daysAsSecs = parseNumber(text, dayMatch, SECONDS_PER_DAY, "days");
-                    long hoursAsSecs = parseNumber(text, hourMatch, SECONDS_PER_HOUR, "hours");
-                    long minsAsSecs = parseNumber(text, minuteMatch, SECONDS_PER_MINUTE, "minutes");
-                    long seconds = parseNumber(text, secondMatch, 1, "seconds");
-                    boolean negativeSecs = secondMatch != null && secondMatch.charAt(0) == '-';
-                    int nanos = parseFraction(text,  fractionMatch, negativeSecs ? -1 : 1);
-                    try {
-                        return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
-                    } catch (ArithmeticException ex) {
-                        throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
+        // hand-written equivalent of the regex
+        // ([-+]?)P(?:([-+]?[0-9]+)D)?(T(?:([-+]?[0-9]+)H)?(?:([-+]?[0-9]+)M)?(?:([-+]?[0-9]+)(?:[.,]([0-9]{0,9}))?S)?)?
+        int length = text.length();
+        int pos = 0;
+        boolean negate = false;
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negate = text.charAt(pos) == '-';
+            pos++;
+        }
+        if (pos < length && isLetter(text.charAt(pos), 'P')) {
+            pos++;
+            long daysAsSecs = 0;
+            long hoursAsSecs = 0;
+            long minsAsSecs = 0;
+            long seconds = 0;
+            int nanos = 0;
+            boolean found = false;
+            int end = scanNumber(text, pos, 'D');
+            if (end >= 0) {
+                daysAsSecs = parseNumber(text, pos, end, SECONDS_PER_DAY, "days");
+                pos = end + 1;
+                found = true;
+            }
+            if (pos < length && isLetter(text.charAt(pos), 'T')) {
+                // check for letter T but no time sections, case sensitive for compatibility
+                if (text.charAt(pos) == 'T') {
+                    found = false;
+                }
+                pos++;
+                end = scanNumber(text, pos, 'H');
+                if (end >= 0) {
+                    hoursAsSecs = parseNumber(text, pos, end, SECONDS_PER_HOUR, "hours");
+                    pos = end + 1;
+                    found = true;
+                }
+                end = scanNumber(text, pos, 'M');
+                if (end >= 0) {
+                    minsAsSecs = parseNumber(text, pos, end, SECONDS_PER_MINUTE, "minutes");
+                    pos = end + 1;
+                    found = true;
+                }
+                end = scanDigits(text, pos);
+                if (end >= 0 && end < length) {
+                    int secondsEnd = end;
+                    if (text.charAt(end) == '.' || text.charAt(end) == ',') {
+                        end++;
+                        while (end < length && end - secondsEnd <= 9 && isDigit(text.charAt(end))) {
+                            end++;
+                        }
+                    }
+                    if (end < length && isLetter(text.charAt(end), 'S')) {
+                        seconds = parseNumber(text, pos, secondsEnd, 1, "seconds");
+                        boolean negativeSecs = text.charAt(pos) == '-';
+                        nanos = parseFraction(text, secondsEnd + 1, end, negativeSecs ? -1 : 1);
+                        pos = end + 1;
+                        found = true;
                     }
                 }
             }
+            if (found && pos == length) {
+                try {
+                    return create(negate, daysAsSecs, hoursAsSecs, minsAsSecs, seconds, nanos);
+                } catch (ArithmeticException ex) {
+                    throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: overflow", text, 0).initCause(ex);
+                }
+            }
         }
         throw new DateTimeParseException("Text cannot be parsed to a Duration", text, 0);
     }
 
-    private static long parseNumber(CharSequence text, String parsed, int multiplier, String errorText) {
-        // regex limits to [-+]?[0-9]+
-        if (parsed == null) {
-            return 0;
+    private static boolean isLetter(char ch, char upperCase) {
+        // ASCII case insensitive
+        return ch == upperCase || ch == upperCase + ('a' - 'A');
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static int scanDigits(CharSequence text, int pos) {
+        // matches [-+]?[0-9]+ returning the end position, or -1
+        int length = text.length();
+        if (pos < length && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            pos++;
+        }
+        int start = pos;
+        while (pos < length && isDigit(text.charAt(pos))) {
+            pos++;
+        }
+        return pos > start ? pos : -1;
+    }
+
+    private static int scanNumber(CharSequence text, int pos, char letter) {
+        // matches [-+]?[0-9]+ followed by the letter, returning the position of the letter, or -1
+        int end = scanDigits(text, pos);
+        if (end >= 0 && end < text.length() && isLetter(text.charAt(end), letter)) {
+            return end;
+        }
+        return -1;
+    }
+
+    private static long parseNumber(CharSequence text, int start, int end, int multiplier, String errorText) {
+        // scanning limits to [-+]?[0-9]+
+        boolean negative = text.charAt(start) == '-';
+        if (negative || text.charAt(start) == '+') {
+            start++;
         }
         try {
-            if (parsed.startsWith("+")) {
-                parsed = parsed.substring(1);
+            // accumulate negatively to allow for Long.MIN_VALUE
+            long total = 0;
+            for (int i = start; i < end; i++) {
+                total = Jdk8Methods.safeSubtract(Jdk8Methods.safeMultiply(total, 10), text.charAt(i) - '0');
             }
-            long val = Long.parseLong(parsed);
-            return Jdk8Methods.safeMultiply(val, multiplier);
-        } catch (NumberFormatException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: " + errorText, text, 0).initCause(ex);
+            return Jdk8Methods.safeMultiply(negative ? total : Jdk8Methods.safeSubtract(0, total), multiplier);
         } catch (ArithmeticException ex) {
             throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: " + errorText, text, 0).initCause(ex);
         }
     }
 
-    private static int parseFraction(CharSequence text, String parsed, int negate) {
-        // regex limits to [0-9]{0,9}
-        if (parsed == null || parsed.length() == 0) {
-            return 0;
+    private static int parseFraction(CharSequence text, int start, int end, int negate) {
+        // scanning limits to [0-9]{0,9}
+        int fraction = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++, digits++) {
+            fraction = fraction * 10 + (text.charAt(i) - '0');
         }
-        try {
-            parsed = (parsed + "000000000").substring(0, 9);
-            return Integer.parseInt(parsed) * negate;
-        } catch (NumberFormatException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
-        } catch (ArithmeticException ex) {
-            throw (DateTimeParseException) new DateTimeParseException("Text cannot be parsed to a Duration: fraction", text, 0).initCause(ex);
+        for (; digits < 9; digits++) {
+            fraction *= 10;
         }
+        return fraction * negate;
     }
 
     private static Duration create(boolean negate, long daysAsSecs, long hoursAsSecs, long minsAsSecs, long secs, int nanos) {
@@ -170,6 +170,14 @@ public final class Instant
      * The maximum supported epoch second.
      */
     private static final long MAX_SECOND = 31556889864403199L;
+    /**
+     * The epoch second of 0000-01-01T00:00Z.
+     */
+    private static final long SECONDS_0000 = -62167219200L;
+    /**
+     * The epoch second of 10000-01-01T00:00Z.
+     */
+    private static final long SECONDS_10000 = 253402300800L;
     /**
      * The minimum supported {@code Instant}, '-1000000000-01-01T00:00Z'.
      * This could be used by an application as a "far past" instant.
@@ -318,6 +326,20 @@ public final class Instant
         return create(secs, mos * NANOS_PER_MILLI);
     }
 
+    /**
+     * Obtains an instance of {@code Instant} from a packed {@code long}.
+     * <p>
+     * This is the inverse of {@link #toPackedLong()}, which describes the format.
+     *
+     * @param packed  the packed instant
+     * @return an instant, not null
+     */
+    public static Instant ofPackedLong(long packed) {
+        long secs = Jdk8Methods.floorDiv(packed, NANOS_PER_SECOND);
+        int nos = Jdk8Methods.floorMod(packed, NANOS_PER_SECOND);
+        return create(secs, nos);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code Instant} from a temporal object.
@@ -359,6 +381,16 @@ public final class Instant
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static Instant parse(final CharSequence text) {
+        Jdk8Methods.requireNonNull(text, "text");
+        int length = text.length();
+        if (length >= 20 && text.charAt(10) == 'T' && text.charAt(length - 1) == 'Z') {
+            LocalDate date = LocalDate.parseDate(text, 0);
+            long nanoOfDay = (date != null ? LocalTime.parseNanoOfDay(text, 11, length - 1, true) : -1);
+            if (nanoOfDay >= 0) {
+                long secs = date.toEpochDay() * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+                return create(secs, (int) (nanoOfDay % NANOS_PER_SECOND));
+            }
+        }
         return DateTimeFormatter.ISO_INSTANT.parse(text, Instant.FROM);
     }
 
@@ -1071,6 +1103,32 @@ public final class Instant
         }
     }
 
+    /**
+     * Converts this instant to a packed {@code long}.
+     * <p>
+     * The packed value is the number of nanoseconds from the epoch of 1970-01-01T00:00:00Z.
+     * Only instants from 1677-09-21T00:12:43.145224192Z to
+     * 2262-04-11T23:47:16.854775807Z can be packed. The ordering of the packed values is the same
+     * as the ordering of the instants using {@link #compareTo}.
+     * <p>
+     * The format is stable and may be used for long-term storage.
+     * Use {@link #ofPackedLong(long)} to convert back to an instant.
+     *
+     * @return the packed instant
+     * @throws DateTimeException if the instant is outside the supported range
+     */
+    public long toPackedLong() {
+        try {
+            if (seconds >= 0) {
+                return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(seconds, NANOS_PER_SECOND), nanos);
+            }
+            // avoid overflow near the minimum by working from the second closer to zero
+            return Jdk8Methods.safeSubtract(Jdk8Methods.safeMultiply(seconds + 1, NANOS_PER_SECOND), NANOS_PER_SECOND - nanos);
+        } catch (ArithmeticException ex) {
+            throw new DateTimeException("Unable to pack instant " + this + ", packing is only supported from 1677-09-21T00:12:43.145224192Z to 2262-04-11T23:47:16.854775807Z", ex);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this instant to the specified instant.
@@ -1159,7 +1217,58 @@ public final class Instant
      */
     @Override
     public String toString() {
-        return DateTimeFormatter.ISO_INSTANT.format(this);
+        if (seconds < SECONDS_0000 || seconds >= SECONDS_10000) {
+            return DateTimeFormatter.ISO_INSTANT.format(this);
+        }
+        // output matches ISO_INSTANT for years 0000 to 9999
+        LocalDate date = LocalDate.ofEpochDay(Jdk8Methods.floorDiv(seconds, SECONDS_PER_DAY));
+        int secsOfDay = Jdk8Methods.floorMod(seconds, SECONDS_PER_DAY);
+        char[] buf = new char[30];
+        int year = date.getYear();
+        formatDigits(buf, 0, year / 100);
+        formatDigits(buf, 2, year % 100);
+        buf[4] = '-';
+        formatDigits(buf, 5, date.getMonthValue());
+        buf[7] = '-';
+        formatDigits(buf, 8, date.getDayOfMonth());
+        buf[10] = 'T';
+        formatDigits(buf, 11, secsOfDay / SECONDS_PER_HOUR);
+        buf[13] = ':';
+        formatDigits(buf, 14, (secsOfDay / SECONDS_PER_MINUTE) % 60);
+        buf[16] = ':';
+        formatDigits(buf, 17, secsOfDay % SECONDS_PER_MINUTE);
+        int pos = 19;
+        if (nanos != 0) {
+            buf[pos++] = '.';
+            int fraction = nanos;
+            int digits = 9;
+            if (fraction % NANOS_PER_MILLI == 0) {
+                fraction /= NANOS_PER_MILLI;
+                digits = 3;
+            } else if (fraction % 1000 == 0) {
+                fraction /= 1000;
+                digits = 6;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            pos += digits;
+        }
+        buf[pos++] = 'Z';
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * Formats a two digit value into the buffer.
+     *
+     * @param buf  the buffer to format into, not null
+     * @param pos  the position to format at
+     * @param value  the value to format, from 0 to 99
+     */
+    private static void formatDigits(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
     }
 
     //-----------------------------------------------------------------------
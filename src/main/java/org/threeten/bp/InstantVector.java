@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_DAY;
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+
+import java.util.Arrays;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalUnit;
+
+/**
+ * An immutable vector of instants, stored as primitive epoch-seconds and nanos.
+ * <p>
+ * This holds a sequence of instants as a {@code long[]} of epoch-seconds and an
+ * {@code int[]} of nano-of-second, avoiding the memory cost of an array of
+ * {@link Instant} objects. Bulk operations work directly on the primitive values
+ * using the same arithmetic as {@code Instant}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class InstantVector {
+
+    /**
+     * An empty vector.
+     */
+    public static final InstantVector EMPTY = new InstantVector(new long[0], new int[0]);
+    /**
+     * The size below which insertion sort is used.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * The epoch-seconds.
+     */
+    private final long[] seconds;
+    /**
+     * The nano-of-second values.
+     */
+    private final int[] nanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a vector from an array of instants.
+     *
+     * @param instants  the instants, not null, no nulls
+     * @return the vector, not null
+     */
+    public static InstantVector of(Instant... instants) {
+        Jdk8Methods.requireNonNull(instants, "instants");
+        long[] seconds = new long[instants.length];
+        int[] nanos = new int[instants.length];
+        for (int i = 0; i < instants.length; i++) {
+            Instant instant = Jdk8Methods.requireNonNull(instants[i], "instant");
+            seconds[i] = instant.getEpochSecond();
+            nanos[i] = instant.getNano();
+        }
+        return new InstantVector(seconds, nanos);
+    }
+
+    /**
+     * Obtains a vector from an array of epoch-seconds, with zero nanos.
+     * <p>
+     * The array is copied.
+     *
+     * @param epochSeconds  the epoch-seconds, not null
+     * @return the vector, not null
+     * @throws DateTimeException if an epoch-second exceeds the supported range
+     */
+    public static InstantVector ofEpochSeconds(long[] epochSeconds) {
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        return ofEpochSeconds(epochSeconds, new int[epochSeconds.length]);
+    }
+
+    /**
+     * Obtains a vector from arrays of epoch-seconds and nano-of-second.
+     * <p>
+     * The arrays are copied.
+     *
+     * @param epochSeconds  the epoch-seconds, not null
+     * @param nanoOfSeconds  the nano-of-second values, from 0 to 999,999,999, same length as the seconds, not null
+     * @return the vector, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a value exceeds the supported range
+     */
+    public static InstantVector ofEpochSeconds(long[] epochSeconds, int[] nanoOfSeconds) {
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        Jdk8Methods.requireNonNull(nanoOfSeconds, "nanoOfSeconds");
+        if (epochSeconds.length != nanoOfSeconds.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        long[] seconds = epochSeconds.clone();
+        int[] nanos = nanoOfSeconds.clone();
+        for (int i = 0; i < seconds.length; i++) {
+            checkSeconds(seconds[i]);
+            if (nanos[i] < 0 || nanos[i] >= NANOS_PER_SECOND) {
+                throw new DateTimeException("Invalid nano-of-second: " + nanos[i]);
+            }
+        }
+        return new InstantVector(seconds, nanos);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seconds  the epoch-seconds, validated, not null, not copied
+     * @param nanos  the nano-of-second values, validated, not null, not copied
+     */
+    InstantVector(long[] seconds, int[] nanos) {
+        this.seconds = seconds;
+        this.nanos = nanos;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of instants in the vector.
+     *
+     * @return the size
+     */
+    public int size() {
+        return seconds.length;
+    }
+
+    /**
+     * Gets the instant at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the instant, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Instant get(int index) {
+        return Instant.ofEpochSecond(seconds[index], nanos[index]);
+    }
+
+    /**
+     * Gets the epoch-second at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the epoch-second
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public long getEpochSecond(int index) {
+        return seconds[index];
+    }
+
+    /**
+     * Gets the nano-of-second at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the nano-of-second, from 0 to 999,999,999
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getNano(int index) {
+        return nanos[index];
+    }
+
+    /**
+     * Returns a copy of the epoch-seconds.
+     *
+     * @return a copy of the epoch-seconds, not null
+     */
+    public long[] toEpochSeconds() {
+        return seconds.clone();
+    }
+
+    /**
+     * Returns a copy of the nano-of-second values.
+     *
+     * @return a copy of the nano-of-second values, not null
+     */
+    public int[] toNanos() {
+        return nanos.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Combines this vector with a time-zone to create a {@code ZonedDateTimeVector}.
+     *
+     * @param zone  the zone to combine with, not null
+     * @return the zoned date-time vector, not null
+     */
+    public ZonedDateTimeVector atZone(ZoneId zone) {
+        return ZonedDateTimeVector.of(zone, this);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the specified number of seconds added to every instant.
+     *
+     * @param secondsToAdd  the seconds to add, may be negative
+     * @return a vector based on this one with the seconds added, not null
+     * @throws DateTimeException if a result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public InstantVector plusSeconds(long secondsToAdd) {
+        if (secondsToAdd == 0) {
+            return this;
+        }
+        long[] result = new long[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            result[i] = checkSeconds(Jdk8Methods.safeAdd(seconds[i], secondsToAdd));
+        }
+        return new InstantVector(result, nanos);
+    }
+
+    /**
+     * Returns a copy of this vector with the specified number of nanoseconds added to every instant.
+     *
+     * @param nanosToAdd  the nanoseconds to add, may be negative
+     * @return a vector based on this one with the nanoseconds added, not null
+     * @throws DateTimeException if a result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public InstantVector plusNanos(long nanosToAdd) {
+        if (nanosToAdd == 0) {
+            return this;
+        }
+        long secondsToAdd = Jdk8Methods.floorDiv(nanosToAdd, NANOS_PER_SECOND);
+        int nanoAdjust = (int) Jdk8Methods.floorMod(nanosToAdd, NANOS_PER_SECOND);
+        long[] resultSeconds = new long[seconds.length];
+        int[] resultNanos = new int[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            long secs = Jdk8Methods.safeAdd(seconds[i], secondsToAdd);
+            int nos = nanos[i] + nanoAdjust;
+            if (nos >= NANOS_PER_SECOND) {
+                secs = Jdk8Methods.safeAdd(secs, 1);
+                nos -= NANOS_PER_SECOND;
+            }
+            resultSeconds[i] = checkSeconds(secs);
+            resultNanos[i] = nos;
+        }
+        return new InstantVector(resultSeconds, resultNanos);
+    }
+
+    /**
+     * Returns a copy of this vector with every instant truncated to the specified unit.
+     * <p>
+     * This has the same behavior as {@link Instant#truncatedTo(TemporalUnit)}.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return a vector based on this one with the instants truncated, not null
+     * @throws DateTimeException if unable to truncate
+     */
+    public InstantVector truncatedTo(TemporalUnit unit) {
+        Jdk8Methods.requireNonNull(unit, "unit");
+        if (unit == ChronoUnit.NANOS) {
+            return this;
+        }
+        long dur = truncationNanos(unit);
+        long[] resultSeconds = new long[seconds.length];
+        int[] resultNanos = new int[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            long secsOfDay = Jdk8Methods.floorMod(seconds[i], SECONDS_PER_DAY);
+            long nod = secsOfDay * NANOS_PER_SECOND + nanos[i];
+            long truncated = (nod / dur) * dur;
+            resultSeconds[i] = seconds[i] - secsOfDay + truncated / NANOS_PER_SECOND;
+            resultNanos[i] = (int) (truncated % NANOS_PER_SECOND);
+        }
+        return new InstantVector(resultSeconds, resultNanos);
+    }
+
+    /**
+     * Validates a unit for truncation, returning its length in nanoseconds.
+     *
+     * @param unit  the unit, not null
+     * @return the length of the unit in nanoseconds
+     * @throws DateTimeException if unable to truncate to the unit
+     */
+    static long truncationNanos(TemporalUnit unit) {
+        Duration unitDur = unit.getDuration();
+        if (unitDur.getSeconds() > SECONDS_PER_DAY) {
+            throw new DateTimeException("Unit is too large to be used for truncation");
+        }
+        long dur = unitDur.toNanos();
+        if ((NANOS_PER_DAY % dur) != 0) {
+            throw new DateTimeException("Unit must divide into a standard day without remainder");
+        }
+        return dur;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the instants sorted, from earliest to latest.
+     *
+     * @return a sorted vector, not null
+     */
+    public InstantVector sorted() {
+        long[] resultSeconds = seconds.clone();
+        int[] resultNanos = nanos.clone();
+        sort(resultSeconds, resultNanos, seconds.clone(), nanos.clone(), 0, seconds.length);
+        return new InstantVector(resultSeconds, resultNanos);
+    }
+
+    /**
+     * Sorts the parallel arrays using a merge sort.
+     *
+     * @param secs  the seconds to sort, not null
+     * @param nos  the nanos to sort, not null
+     * @param workSecs  the work array of seconds, with the same content as the seconds, not null
+     * @param workNos  the work array of nanos, with the same content as the nanos, not null
+     * @param from  the start index, inclusive
+     * @param to  the end index, exclusive
+     */
+    private static void sort(long[] secs, int[] nos, long[] workSecs, int[] workNos, int from, int to) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                long s = secs[i];
+                int n = nos[i];
+                int j = i - 1;
+                while (j >= from && compare(secs[j], nos[j], s, n) > 0) {
+                    secs[j + 1] = secs[j];
+                    nos[j + 1] = nos[j];
+                    j--;
+                }
+                secs[j + 1] = s;
+                nos[j + 1] = n;
+            }
+            return;
+        }
+        // sort each half into the work arrays, then merge back
+        int mid = (from + to) >>> 1;
+        sort(workSecs, workNos, secs, nos, from, mid);
+        sort(workSecs, workNos, secs, nos, mid, to);
+        for (int i = from, p = from, q = mid; i < to; i++) {
+            if (q >= to || (p < mid && compare(workSecs[p], workNos[p], workSecs[q], workNos[q]) <= 0)) {
+                secs[i] = workSecs[p];
+                nos[i] = workNos[p++];
+            } else {
+                secs[i] = workSecs[q];
+                nos[i] = workNos[q++];
+            }
+        }
+    }
+
+    /**
+     * Searches this sorted vector for the specified instant using binary search.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     * The result follows the same convention as {@link Arrays#binarySearch(long[], long)}.
+     *
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant, if present, otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        int index = lowerBound(instant.getEpochSecond(), instant.getNano());
+        if (index < seconds.length && seconds[index] == instant.getEpochSecond() && nanos[index] == instant.getNano()) {
+            return index;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Returns the part of this sorted vector within the specified range.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     * The range is located using binary search.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the instants in the range, not null
+     */
+    public InstantVector range(Instant startInclusive, Instant endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        int start = lowerBound(startInclusive.getEpochSecond(), startInclusive.getNano());
+        int end = Math.max(start, lowerBound(endExclusive.getEpochSecond(), endExclusive.getNano()));
+        return new InstantVector(Arrays.copyOfRange(seconds, start, end), Arrays.copyOfRange(nanos, start, end));
+    }
+
+    /**
+     * Finds the index of the first instant greater than or equal to the specified value.
+     *
+     * @param secs  the epoch-second to find
+     * @param nos  the nano-of-second to find
+     * @return the index, from zero to the size
+     */
+    private int lowerBound(long secs, int nos) {
+        int low = 0;
+        int high = seconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(seconds[mid], nanos[mid], secs, nos) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static int compare(long secs1, int nos1, long secs2, int nos2) {
+        int cmp = Jdk8Methods.compareLongs(secs1, secs2);
+        return cmp != 0 ? cmp : nos1 - nos2;
+    }
+
+    private static long checkSeconds(long secs) {
+        if (secs < Instant.MIN.getEpochSecond() || secs > Instant.MAX.getEpochSecond()) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant");
+        }
+        return secs;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this vector is equal to another vector.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other vector
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof InstantVector) {
+            InstantVector other = (InstantVector) obj;
+            return Arrays.equals(seconds, other.seconds) && Arrays.equals(nanos, other.nanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this vector.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(seconds) ^ 51 * Arrays.hashCode(nanos);
+    }
+
+    /**
+     * Outputs this vector as a {@code String}, such as {@code [2007-12-03T10:15:30Z]}.
+     *
+     * @return a string representation of this vector, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(seconds.length * 22 + 2);
+        buf.append('[');
+        for (int i = 0; i < seconds.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable interval of time between two instants.
+ * <p>
+ * An interval represents the time on the time-line between two {@link Instant}s.
+ * The class stores the start and end instants, with the start inclusive and the end exclusive.
+ * The end instant is always greater than or equal to the start instant.
+ * <p>
+ * An interval whose start and end are equal is empty.
+ * It contains no instants, but still has a position on the time-line.
+ * <p>
+ * Sets of intervals can be searched efficiently using {@link IntervalSet}.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class Interval {
+
+    /**
+     * The start instant, inclusive.
+     */
+    private final Instant start;
+    /**
+     * The end instant, exclusive.
+     */
+    private final Instant end;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance of {@code Interval} from the start and end instant.
+     * <p>
+     * The end instant must not be before the start instant.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the interval, not null
+     * @throws DateTimeException if the end is before the start
+     */
+    public static Interval of(Instant startInclusive, Instant endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        if (endExclusive.isBefore(startInclusive)) {
+            throw new DateTimeException("End instant must be equal or after start instant");
+        }
+        return new Interval(startInclusive, endExclusive);
+    }
+
+    /**
+     * Obtains an instance of {@code Interval} from the start and a duration.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param duration  the duration from the start to the end, not negative, not null
+     * @return the interval, not null
+     * @throws DateTimeException if the duration is negative or the end exceeds the maximum instant
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static Interval of(Instant startInclusive, Duration duration) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(duration, "duration");
+        if (duration.isNegative()) {
+            throw new DateTimeException("Duration must not be negative");
+        }
+        return new Interval(startInclusive, startInclusive.plus(duration));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startInclusive  the start instant, inclusive, validated not null
+     * @param endExclusive  the end instant, exclusive, validated not null
+     */
+    private Interval(Instant startInclusive, Instant endExclusive) {
+        this.start = startInclusive;
+        this.end = endExclusive;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start of this interval, inclusive.
+     *
+     * @return the start instant, not null
+     */
+    public Instant getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the end of this interval, exclusive.
+     *
+     * @return the end instant, not null
+     */
+    public Instant getEnd() {
+        return end;
+    }
+
+    /**
+     * Checks if this interval is empty, with equal start and end.
+     *
+     * @return true if the interval is empty
+     */
+    public boolean isEmpty() {
+        return start.equals(end);
+    }
+
+    /**
+     * Obtains the duration of this interval.
+     *
+     * @return the duration from the start to the end, not null
+     */
+    public Duration toDuration() {
+        return Duration.between(start, end);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this interval contains the specified instant.
+     * <p>
+     * The instant is contained if it is equal to or after the start and before the end.
+     * An empty interval contains no instants.
+     *
+     * @param instant  the instant, not null
+     * @return true if this interval contains the instant
+     */
+    public boolean contains(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        return start.compareTo(instant) <= 0 && instant.compareTo(end) < 0;
+    }
+
+    /**
+     * Checks if this interval encloses the specified interval.
+     * <p>
+     * This checks if the bounds of the specified interval are within the bounds of this interval.
+     * An empty interval encloses itself.
+     *
+     * @param other  the other interval, not null
+     * @return true if this interval encloses the other interval
+     */
+    public boolean encloses(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return start.compareTo(other.start) <= 0 && other.end.compareTo(end) <= 0;
+    }
+
+    /**
+     * Checks if this interval abuts the specified interval.
+     * <p>
+     * The intervals abut if the end of one is the start of the other,
+     * such that they are adjacent but do not overlap.
+     * An empty interval does not abut itself.
+     *
+     * @param other  the other interval, not null
+     * @return true if this interval abuts the other interval
+     */
+    public boolean abuts(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return end.equals(other.start) ^ start.equals(other.end);
+    }
+
+    /**
+     * Checks if this interval overlaps the specified interval.
+     * <p>
+     * The intervals overlap if there is at least one instant that they share.
+     * An empty interval overlaps an equal interval, but no other interval.
+     *
+     * @param other  the other interval, not null
+     * @return true if this interval overlaps the other interval
+     */
+    public boolean overlaps(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return equals(other) || (start.compareTo(other.end) < 0 && other.start.compareTo(end) < 0);
+    }
+
+    /**
+     * Checks if this interval is connected to the specified interval.
+     * <p>
+     * The intervals are connected if they overlap or abut,
+     * such that they can be combined into a single interval without a gap.
+     *
+     * @param other  the other interval, not null
+     * @return true if this interval is connected to the other interval
+     */
+    public boolean isConnected(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        return start.compareTo(other.end) <= 0 && other.start.compareTo(end) <= 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the interval that is the intersection of this interval and the specified interval.
+     * <p>
+     * This finds the intersection of two intervals, which must be connected.
+     * If the intervals abut, the result is an empty interval.
+     *
+     * @param other  the other interval, not null
+     * @return the intersection, not null
+     * @throws DateTimeException if the intervals are not connected
+     */
+    public Interval intersection(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        if (isConnected(other) == false) {
+            throw new DateTimeException("Intervals are not connected: " + this + " and " + other);
+        }
+        Instant newStart = (start.compareTo(other.start) >= 0 ? start : other.start);
+        Instant newEnd = (end.compareTo(other.end) <= 0 ? end : other.end);
+        return Interval.of(newStart, newEnd);
+    }
+
+    /**
+     * Calculates the smallest interval that encloses this interval and the specified interval.
+     * <p>
+     * The intervals do not need to be connected.
+     *
+     * @param other  the other interval, not null
+     * @return the span, not null
+     */
+    public Interval span(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        Instant newStart = (start.compareTo(other.start) <= 0 ? start : other.start);
+        Instant newEnd = (end.compareTo(other.end) >= 0 ? end : other.end);
+        return Interval.of(newStart, newEnd);
+    }
+
+    /**
+     * Calculates the interval between this interval and the specified interval.
+     * <p>
+     * This returns the interval from the end of the earlier interval to the start of the later,
+     * which must not be connected.
+     *
+     * @param other  the other interval, not null
+     * @return the gap between the intervals, not null and not empty
+     * @throws DateTimeException if the intervals are connected
+     */
+    public Interval gap(Interval other) {
+        Jdk8Methods.requireNonNull(other, "other");
+        if (isConnected(other)) {
+            throw new DateTimeException("Intervals are connected: " + this + " and " + other);
+        }
+        if (end.isBefore(other.start)) {
+            return new Interval(end, other.start);
+        }
+        return new Interval(other.end, start);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this interval is equal to another interval.
+     * <p>
+     * Compares this {@code Interval} with another ensuring that the two instants are the same.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other interval
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof Interval) {
+            Interval other = (Interval) obj;
+            return start.equals(other.start) && end.equals(other.end);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this interval.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return start.hashCode() ^ end.hashCode();
+    }
+
+    /**
+     * Outputs this interval as a {@code String}, such as {@code 2007-12-03T10:15:30Z/2007-12-04T10:15:30Z}.
+     * <p>
+     * The output will be the ISO-8601 format formed by combining the
+     * {@code toString()} methods of the two instants, separated by a forward slash.
+     *
+     * @return a string representation of this interval, not null
+     */
+    @Override
+    public String toString() {
+        return start.toString() + '/' + end.toString();
+    }
+
+}
@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.InstantVector.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * An immutable set of intervals, indexed for point and overlap queries.
+ * <p>
+ * The intervals are held sorted by start, then end, in primitive arrays of
+ * epoch-seconds and nano-of-second, in the same way that {@code StandardZoneRules}
+ * holds transitions. The sorted arrays are treated as an implicit balanced binary tree,
+ * where the root of the index range {@code [low, high)} is the middle index, and the
+ * maximum end within each subtree is held at the index of its root. A query finds the
+ * candidate intervals starting before the point by binary search, then descends the
+ * tree, skipping any subtree whose maximum end cannot reach the point.
+ * Each query takes O(log n) time for each interval found, and a query finding
+ * nothing takes O(log n) time, however the intervals overlap.
+ * <p>
+ * The set may contain overlapping and duplicate intervals.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class IntervalSet {
+
+    /**
+     * An empty set.
+     */
+    public static final IntervalSet EMPTY = new IntervalSet(new Interval[0]);
+    /**
+     * Orders intervals by start, then end.
+     */
+    private static final Comparator<Interval> ORDER = new Comparator<Interval>() {
+        @Override
+        public int compare(Interval interval1, Interval interval2) {
+            int cmp = interval1.getStart().compareTo(interval2.getStart());
+            return (cmp != 0 ? cmp : interval1.getEnd().compareTo(interval2.getEnd()));
+        }
+    };
+
+    /**
+     * The start epoch-seconds, sorted.
+     */
+    private final long[] startSeconds;
+    /**
+     * The start nano-of-second values.
+     */
+    private final int[] startNanos;
+    /**
+     * The end epoch-seconds.
+     */
+    private final long[] endSeconds;
+    /**
+     * The end nano-of-second values.
+     */
+    private final int[] endNanos;
+    /**
+     * The maximum end epoch-seconds of the subtree rooted at each index.
+     */
+    private final long[] maxEndSeconds;
+    /**
+     * The nano-of-second values of the maximum ends.
+     */
+    private final int[] maxEndNanos;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a set from an array of intervals.
+     *
+     * @param intervals  the intervals, in any order, not null, no nulls
+     * @return the set, not null
+     */
+    public static IntervalSet of(Interval... intervals) {
+        Jdk8Methods.requireNonNull(intervals, "intervals");
+        return create(intervals.clone());
+    }
+
+    /**
+     * Obtains a set from a collection of intervals.
+     *
+     * @param intervals  the intervals, in any order, not null, no nulls
+     * @return the set, not null
+     */
+    public static IntervalSet of(Collection<Interval> intervals) {
+        Jdk8Methods.requireNonNull(intervals, "intervals");
+        return create(intervals.toArray(new Interval[intervals.size()]));
+    }
+
+    private static IntervalSet create(Interval[] intervals) {
+        for (Interval interval : intervals) {
+            Jdk8Methods.requireNonNull(interval, "interval");
+        }
+        Arrays.sort(intervals, ORDER);
+        return new IntervalSet(intervals);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param intervals  the intervals, sorted, not null
+     */
+    private IntervalSet(Interval[] intervals) {
+        int size = intervals.length;
+        startSeconds = new long[size];
+        startNanos = new int[size];
+        endSeconds = new long[size];
+        endNanos = new int[size];
+        maxEndSeconds = new long[size];
+        maxEndNanos = new int[size];
+        for (int i = 0; i < size; i++) {
+            Instant start = intervals[i].getStart();
+            Instant end = intervals[i].getEnd();
+            startSeconds[i] = start.getEpochSecond();
+            startNanos[i] = start.getNano();
+            endSeconds[i] = end.getEpochSecond();
+            endNanos[i] = end.getNano();
+        }
+        buildTree(0, size);
+    }
+
+    /**
+     * Calculates the maximum end of the subtree over the specified index range.
+     *
+     * @param low  the first index, inclusive
+     * @param high  the last index, exclusive
+     * @return the index of the root of the subtree, -1 if the range is empty
+     */
+    private int buildTree(int low, int high) {
+        if (low >= high) {
+            return -1;
+        }
+        int mid = (low + high) >>> 1;
+        int left = buildTree(low, mid);
+        int right = buildTree(mid + 1, high);
+        long maxSecs = endSeconds[mid];
+        int maxNos = endNanos[mid];
+        if (left >= 0 && compare(maxEndSeconds[left], maxEndNanos[left], maxSecs, maxNos) > 0) {
+            maxSecs = maxEndSeconds[left];
+            maxNos = maxEndNanos[left];
+        }
+        if (right >= 0 && compare(maxEndSeconds[right], maxEndNanos[right], maxSecs, maxNos) > 0) {
+            maxSecs = maxEndSeconds[right];
+            maxNos = maxEndNanos[right];
+        }
+        maxEndSeconds[mid] = maxSecs;
+        maxEndNanos[mid] = maxNos;
+        return mid;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of intervals in the set.
+     *
+     * @return the size
+     */
+    public int size() {
+        return startSeconds.length;
+    }
+
+    /**
+     * Gets the interval at the specified index, in order of start then end.
+     *
+     * @param index  the index, from 0 to size - 1
+     * @return the interval, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public Interval get(int index) {
+        return Interval.of(
+                Instant.ofEpochSecond(startSeconds[index], startNanos[index]),
+                Instant.ofEpochSecond(endSeconds[index], endNanos[index]));
+    }
+
+    /**
+     * Gets the intervals as a list, in order of start then end.
+     *
+     * @return the list of intervals, not null
+     */
+    public List<Interval> toList() {
+        List<Interval> list = new ArrayList<Interval>(startSeconds.length);
+        for (int i = 0; i < startSeconds.length; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if any interval in the set contains the specified instant.
+     *
+     * @param instant  the instant, not null
+     * @return true if an interval contains the instant
+     */
+    public boolean contains(Instant instant) {
+        return indexOf(instant) >= 0;
+    }
+
+    /**
+     * Finds the index of the interval containing the specified instant.
+     * <p>
+     * If more than one interval contains the instant, the index of the one
+     * with the latest start is returned.
+     *
+     * @param instant  the instant, not null
+     * @return the index of the interval containing the instant, or -1 if none
+     */
+    public int indexOf(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        return indexOf(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Finds the index of the interval containing each of an array of epoch-seconds.
+     * <p>
+     * This is equivalent to {@code indexOf(Instant.ofEpochSecond(epochSeconds[i]))}
+     * for each element, storing the result in {@code out[i]}.
+     *
+     * @param epochSeconds  the epoch-seconds to find, not null
+     * @param out  the array to store the indices in, -1 if none, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public void indexOf(long[] epochSeconds, int[] out) {
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (out.length < epochSeconds.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        for (int i = 0; i < epochSeconds.length; i++) {
+            out[i] = indexOf(epochSeconds[i], 0);
+        }
+    }
+
+    /**
+     * Finds the index of the interval containing each instant in a vector.
+     * <p>
+     * This is equivalent to {@code indexOf(instants.get(i))}
+     * for each element, storing the result in {@code out[i]}.
+     *
+     * @param instants  the instants to find, not null
+     * @param out  the array to store the indices in, -1 if none, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     */
+    public void indexOf(InstantVector instants, int[] out) {
+        Jdk8Methods.requireNonNull(instants, "instants");
+        Jdk8Methods.requireNonNull(out, "out");
+        int size = instants.size();
+        if (out.length < size) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        for (int i = 0; i < size; i++) {
+            out[i] = indexOf(instants.getEpochSecond(i), instants.getNano(i));
+        }
+    }
+
+    private int indexOf(long secs, int nos) {
+        return findLast(0, startSeconds.length, upperBound(secs, nos), secs, nos);
+    }
+
+    /**
+     * Gets the intervals containing the specified instant.
+     *
+     * @param instant  the instant, not null
+     * @return the intervals containing the instant, in order of start then end, not null
+     */
+    public List<Interval> containing(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        long secs = instant.getEpochSecond();
+        int nos = instant.getNano();
+        List<Interval> result = new ArrayList<Interval>();
+        find(0, startSeconds.length, upperBound(secs, nos), secs, nos, result);
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if any interval in the set overlaps the specified interval.
+     * <p>
+     * This uses the definition of {@link Interval#overlaps(Interval)}.
+     *
+     * @param interval  the interval to check, not null
+     * @return true if an interval overlaps the specified interval
+     */
+    public boolean overlaps(Interval interval) {
+        Jdk8Methods.requireNonNull(interval, "interval");
+        return overlapping(interval, null);
+    }
+
+    /**
+     * Gets the intervals that overlap the specified interval.
+     * <p>
+     * This uses the definition of {@link Interval#overlaps(Interval)}.
+     *
+     * @param interval  the interval to check, not null
+     * @return the intervals overlapping the specified interval, in order of start then end, not null
+     */
+    public List<Interval> overlapping(Interval interval) {
+        Jdk8Methods.requireNonNull(interval, "interval");
+        List<Interval> result = new ArrayList<Interval>();
+        overlapping(interval, result);
+        return result;
+    }
+
+    /**
+     * Finds the intervals overlapping the specified interval.
+     *
+     * @param interval  the interval to check, not null
+     * @param result  the list to add to, null to stop at the first overlap
+     * @return true if an interval overlaps
+     */
+    private boolean overlapping(Interval interval, List<Interval> result) {
+        long qStartSecs = interval.getStart().getEpochSecond();
+        int qStartNos = interval.getStart().getNano();
+        long qEndSecs = interval.getEnd().getEpochSecond();
+        int qEndNos = interval.getEnd().getNano();
+        // intervals starting before the query end overlap if they end after the query start
+        int limit = lowerBound(qEndSecs, qEndNos);
+        boolean found = find(0, startSeconds.length, limit, qStartSecs, qStartNos, result);
+        if (interval.isEmpty() && (found == false || result != null)) {
+            // an empty query also overlaps equal empty intervals, which sort first among those starting at the query
+            for (int i = limit; i < startSeconds.length &&
+                    compare(startSeconds[i], startNanos[i], qEndSecs, qEndNos) == 0 &&
+                    compare(endSeconds[i], endNanos[i], qEndSecs, qEndNos) == 0; i++) {
+                if (result == null) {
+                    return true;
+                }
+                result.add(get(i));
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the intervals in a subtree ending after the specified instant, in index order.
+     * <p>
+     * Only indices before the limit are considered.
+     *
+     * @param low  the first index of the subtree, inclusive
+     * @param high  the last index of the subtree, exclusive
+     * @param limit  the index to stop before
+     * @param secs  the epoch-seconds
+     * @param nos  the nano-of-second
+     * @param result  the list to add to, null to stop at the first match
+     * @return true if an interval was found
+     */
+    private boolean find(int low, int high, int limit, long secs, int nos, List<Interval> result) {
+        if (low >= high || low >= limit) {
+            return false;
+        }
+        int mid = (low + high) >>> 1;
+        if (compare(maxEndSeconds[mid], maxEndNanos[mid], secs, nos) <= 0) {
+            return false;
+        }
+        boolean found = find(low, mid, limit, secs, nos, result);
+        if (found && result == null) {
+            return true;
+        }
+        if (mid < limit) {
+            if (compare(endSeconds[mid], endNanos[mid], secs, nos) > 0) {
+                if (result == null) {
+                    return true;
+                }
+                result.add(get(mid));
+                found = true;
+            }
+            found |= find(mid + 1, high, limit, secs, nos, result);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the last interval in a subtree ending after the specified instant.
+     * <p>
+     * Only indices before the limit are considered.
+     *
+     * @param low  the first index of the subtree, inclusive
+     * @param high  the last index of the subtree, exclusive
+     * @param limit  the index to stop before
+     * @param secs  the epoch-seconds
+     * @param nos  the nano-of-second
+     * @return the index of the interval, -1 if none
+     */
+    private int findLast(int low, int high, int limit, long secs, int nos) {
+        if (low >= high || low >= limit) {
+            return -1;
+        }
+        int mid = (low + high) >>> 1;
+        if (compare(maxEndSeconds[mid], maxEndNanos[mid], secs, nos) <= 0) {
+            return -1;
+        }
+        if (mid < limit) {
+            int found = findLast(mid + 1, high, limit, secs, nos);
+            if (found >= 0) {
+                return found;
+            }
+            if (compare(endSeconds[mid], endNanos[mid], secs, nos) > 0) {
+                return mid;
+            }
+        }
+        return findLast(low, mid, limit, secs, nos);
+    }
+
+    /**
+     * Finds the index of the first interval starting at or after the specified instant.
+     *
+     * @param secs  the epoch-seconds
+     * @param nos  the nano-of-second
+     * @return the index, from 0 to size
+     */
+    private int lowerBound(long secs, int nos) {
+        int low = 0;
+        int high = startSeconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], secs, nos) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index of the first interval starting after the specified instant.
+     *
+     * @param secs  the epoch-seconds
+     * @param nos  the nano-of-second
+     * @return the index, from 0 to size
+     */
+    private int upperBound(long secs, int nos) {
+        int low = 0;
+        int high = startSeconds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], secs, nos) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this set is equal to another set.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other set
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof IntervalSet) {
+            IntervalSet other = (IntervalSet) obj;
+            return Arrays.equals(startSeconds, other.startSeconds) && Arrays.equals(startNanos, other.startNanos) &&
+                    Arrays.equals(endSeconds, other.endSeconds) && Arrays.equals(endNanos, other.endNanos);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this set.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(startSeconds) ^ 51 * Arrays.hashCode(startNanos) ^
+                Arrays.hashCode(endSeconds) ^ 31 * Arrays.hashCode(endNanos);
+    }
+
+    /**
+     * Outputs this set as a {@code String}, such as
+     * {@code [2007-12-03T10:15:30Z/2007-12-04T10:15:30Z]}.
+     *
+     * @return a string representation of this set, not null
+     */
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+}
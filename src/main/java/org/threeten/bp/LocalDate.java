@@ -31,7 +31,6 @@
  */
 package org.threeten.bp;
 
-import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
@@ -135,6 +134,35 @@ public final class LocalDate
      * There are 7 leap years from 1970 to 2000.
      */
     static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+    /**
+     * The first year of the epoch-day lookup table.
+     */
+    private static final int TABLE_MIN_YEAR = 1900;
+    /**
+     * The last year of the epoch-day lookup table, inclusive.
+     */
+    private static final int TABLE_MAX_YEAR = 2200;
+    /**
+     * The epoch-day of the first day of each month in the lookup table.
+     * Indexed by the number of months since January of the first year,
+     * with one additional entry holding the day after the end of the table.
+     */
+    private static final int[] MONTH_START_EPOCH_DAYS = buildMonthStartTable();
+    /**
+     * The maximum size of the cache.
+     */
+    private static final int MAX_CACHE_SIZE = 1 << 20;
+    /**
+     * The cache of recently obtained dates, null if caching is disabled.
+     * <p>
+     * Caching is enabled by setting the system property {@code org.threeten.bp.LocalDate.cacheSize}
+     * to the number of dates to retain, which is rounded up to a power of two.
+     * Each date occupies the slot {@code ((year * 12 + month - 1) * 31 + dayOfMonth - 1)}
+     * modulo the size, thus every month is allotted 31 slots, leaving unused slots after
+     * months shorter than 31 days. A run of consecutive days therefore maps to distinct slots
+     * provided it spans no more than {@code size / 31} months.
+     */
+    private static final LocalDate[] CACHE = buildCache();
 
     /**
      * The year.
@@ -194,10 +222,11 @@ public final class LocalDate
     public static LocalDate now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        long epochSec = now.getEpochSecond() + offset.getTotalSeconds();  // overflow caught later
-        long epochDay = Jdk8Methods.floorDiv(epochSec, SECONDS_PER_DAY);
-        return LocalDate.ofEpochDay(epochDay);
+        Clock.DaySnapshot snapshot = Clock.DaySnapshot.of(clock.getZone(), now);
+        if (snapshot.date != null) {
+            return snapshot.date;
+        }
+        return LocalDate.ofEpochDay(snapshot.epochDay);
     }
 
     //-----------------------------------------------------------------------
@@ -279,6 +308,33 @@ public final class LocalDate
      * @throws DateTimeException if the epoch days exceeds the supported date range
      */
     public static LocalDate ofEpochDay(long epochDay) {
+        long packed = packedOfEpochDay(epochDay);
+        return cached((int) (packed >> 9), (int) (packed >> 5) & 0x0F, (int) packed & 0x1F);
+    }
+
+    /**
+     * Converts an epoch-day to a year, month and day packed into a {@code long}.
+     * <p>
+     * The layout is the same as {@link #toPackedInt()}, but without the restriction
+     * on the year, allowing bulk operations to avoid creating {@code LocalDate} instances.
+     *
+     * @param epochDay  the Epoch Day to convert, based on the epoch 1970-01-01
+     * @return the packed year, month and day
+     * @throws DateTimeException if the epoch days exceeds the supported date range
+     */
+    static long packedOfEpochDay(long epochDay) {
+        int[] table = MONTH_START_EPOCH_DAYS;
+        if (epochDay >= table[0] && epochDay < table[table.length - 1]) {
+            int day = (int) epochDay;
+            // estimate using the average month length of 146097 / 4800 days, then correct
+            int index = (int) ((day - table[0]) * 4800L / DAYS_PER_CYCLE);
+            if (table[index] > day) {
+                index--;
+            } else if (table[index + 1] <= day) {
+                index++;
+            }
+            return ((long) (TABLE_MIN_YEAR + index / 12) << 9) | ((index % 12 + 1) << 5) | (day - table[index] + 1);
+        }
         EPOCH_DAY.checkValidValue(epochDay);
         long zeroDay = epochDay + DAYS_0000_TO_1970;
         // find the march-based year
@@ -308,7 +364,20 @@ public final class LocalDate
 
         // check year now we are certain it is correct
         int year = YEAR.checkValidIntValue(yearEst);
-        return new LocalDate(year, month, dom);
+        return ((long) year << 9) | (month << 5) | dom;
+    }
+
+    /**
+     * Obtains an instance of {@code LocalDate} from a packed {@code int}.
+     * <p>
+     * This is the inverse of {@link #toPackedInt()}, which describes the format.
+     *
+     * @param packed  the packed date
+     * @return the local date, not null
+     * @throws DateTimeException if the packed value does not represent a valid date
+     */
+    public static LocalDate ofPackedInt(int packed) {
+        return LocalDate.of(packed >> 9, (packed >> 5) & 0x0F, packed & 0x1F);
     }
 
     //-----------------------------------------------------------------------
@@ -349,6 +418,13 @@ public final class LocalDate
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDate parse(CharSequence text) {
+        Jdk8Methods.requireNonNull(text, "text");
+        if (text.length() == 10) {
+            LocalDate date = parseDate(text, 0);
+            if (date != null) {
+                return date;
+            }
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_DATE);
     }
 
@@ -367,6 +443,30 @@ public final class LocalDate
         return formatter.parse(text, LocalDate.FROM);
     }
 
+    /**
+     * Parses the common form of an ISO-8601 date, {@code yyyy-MM-dd}, without using a formatter.
+     * <p>
+     * Any text not matching that form, or containing an invalid date, is rejected
+     * so that the caller can fall back to the full formatter.
+     *
+     * @param text  the text to parse, at least ten characters from the position, not null
+     * @param position  the position to start parsing from
+     * @return the parsed date, null if the text cannot be parsed by this method
+     */
+    static LocalDate parseDate(CharSequence text, int position) {
+        if (text.charAt(position + 4) != '-' || text.charAt(position + 7) != '-') {
+            return null;
+        }
+        int year = LocalTime.parseDigits(text, position, 4);
+        int month = LocalTime.parseDigits(text, position + 5, 2);
+        int dayOfMonth = LocalTime.parseDigits(text, position + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || dayOfMonth < 1 ||
+                dayOfMonth > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+            return null;
+        }
+        return cached(year, month, dayOfMonth);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local date from the year, month and day fields.
@@ -378,6 +478,19 @@ public final class LocalDate
      * @throws DateTimeException if the day-of-month is invalid for the month-year
      */
     private static LocalDate create(int year, Month month, int dayOfMonth) {
+        checkDayOfMonth(year, month, dayOfMonth);
+        return cached(year, month.getValue(), dayOfMonth);
+    }
+
+    /**
+     * Checks that the day-of-month is valid for the month-year.
+     *
+     * @param year  the year, validated from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year, validated not null
+     * @param dayOfMonth  the day-of-month, validated from 1 to 31
+     * @throws DateTimeException if the day-of-month is invalid for the month-year
+     */
+    private static void checkDayOfMonth(int year, Month month, int dayOfMonth) {
         if (dayOfMonth > 28 && dayOfMonth > month.length(IsoChronology.INSTANCE.isLeapYear(year))) {
             if (dayOfMonth == 29) {
                 throw new DateTimeException("Invalid date 'February 29' as '" + year + "' is not a leap year");
@@ -385,7 +498,27 @@ public final class LocalDate
                 throw new DateTimeException("Invalid date '" + month.name() + " " + dayOfMonth + "'");
             }
         }
-        return new LocalDate(year, month.getValue(), dayOfMonth);
+    }
+
+    /**
+     * Validates a year, month and day, converting them to an epoch-day.
+     * <p>
+     * This is equivalent to {@code LocalDate.of(year, month, dayOfMonth).toEpochDay()},
+     * allowing bulk operations to avoid creating {@code LocalDate} instances.
+     *
+     * @param year  the year to represent, from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year to represent, from 1 (January) to 12 (December)
+     * @param dayOfMonth  the day-of-month to represent, from 1 to 31
+     * @return the epoch-day
+     * @throws DateTimeException if the value of any field is out of range,
+     *  or if the day-of-month is invalid for the month-year
+     */
+    static long epochDayOf(int year, int month, int dayOfMonth) {
+        YEAR.checkValidValue(year);
+        MONTH_OF_YEAR.checkValidValue(month);
+        DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        checkDayOfMonth(year, Month.of(month), dayOfMonth);
+        return toEpochDay(year, month, dayOfMonth);
     }
 
     /**
@@ -411,6 +544,101 @@ public final class LocalDate
         return LocalDate.of(year, month, day);
     }
 
+    /**
+     * Obtains a date from the cache, creating and caching it if necessary.
+     * <p>
+     * Races between threads are benign as dates are immutable,
+     * at worst resulting in an equal instance being returned.
+     *
+     * @param year  the year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year to represent, validated from 1 to 12
+     * @param dayOfMonth  the day-of-month to represent, valid for year-month, from 1 to 31
+     * @return the local date, not null
+     */
+    private static LocalDate cached(int year, int month, int dayOfMonth) {
+        return cached(CACHE, year, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains a date from the specified cache, creating and caching it if necessary.
+     *
+     * @param cache  the cache, null if caching is disabled
+     * @param year  the year to represent, validated from MIN_YEAR to MAX_YEAR
+     * @param month  the month-of-year to represent, validated from 1 to 12
+     * @param dayOfMonth  the day-of-month to represent, valid for year-month, from 1 to 31
+     * @return the local date, not null
+     */
+    static LocalDate cached(LocalDate[] cache, int year, int month, int dayOfMonth) {
+        if (cache == null) {
+            return new LocalDate(year, month, dayOfMonth);
+        }
+        int index = ((year * 12 + month - 1) * 31 + dayOfMonth - 1) & (cache.length - 1);
+        LocalDate date = cache[index];
+        if (date == null || date.day != dayOfMonth || date.month != month || date.year != year) {
+            date = new LocalDate(year, month, dayOfMonth);
+            cache[index] = date;
+        }
+        return date;
+    }
+
+    /**
+     * Builds the cache of dates based on the system property.
+     *
+     * @return the cache, null if disabled
+     */
+    private static LocalDate[] buildCache() {
+        try {
+            return buildCache(System.getProperty("org.threeten.bp.LocalDate.cacheSize"));
+        } catch (SecurityException ex) {
+            return null;  // caching disabled
+        }
+    }
+
+    /**
+     * Builds the cache of dates based on the value of the system property.
+     *
+     * @param str  the requested size, null if not set
+     * @return the cache, null if disabled
+     */
+    static LocalDate[] buildCache(String str) {
+        int size = 0;
+        try {
+            if (str != null) {
+                size = Integer.parseInt(str.trim());
+            }
+        } catch (NumberFormatException ex) {
+            // caching disabled
+        }
+        if (size <= 0) {
+            return null;
+        }
+        int capacity = 1;
+        while (capacity < size && capacity < MAX_CACHE_SIZE) {
+            capacity <<= 1;
+        }
+        return new LocalDate[capacity];
+    }
+
+    /**
+     * Builds the table of month start epoch-days used by {@link #ofEpochDay(long)}.
+     *
+     * @return the table, not null
+     */
+    private static int[] buildMonthStartTable() {
+        int[] table = new int[(TABLE_MAX_YEAR - TABLE_MIN_YEAR + 1) * 12 + 1];
+        int epochDay = -25567;  // 1900-01-01
+        int index = 0;
+        for (int year = TABLE_MIN_YEAR; year <= TABLE_MAX_YEAR; year++) {
+            boolean leap = ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+            for (int month = 1; month <= 12; month++) {
+                table[index++] = epochDay;
+                epochDay += Month.of(month).length(leap);
+            }
+        }
+        table[index] = epochDay;
+        return table;
+    }
+
     /**
      * Constructor, previously validated.
      *
@@ -1441,6 +1669,108 @@ public final class LocalDate
         return (packed2 - packed1) / 32;
     }
 
+    /**
+     * Packs a year, month and day into a single value, as used by {@link #packedOfEpochDay(long)}.
+     *
+     * @param year  the year
+     * @param month  the month-of-year
+     * @param day  the day-of-month
+     * @return the packed year, month and day
+     */
+    static long pack(int year, int month, int day) {
+        return ((long) year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Calculates the amount of time between two packed dates in a date-based unit.
+     * <p>
+     * This matches {@link #until(Temporal, TemporalUnit)} without creating any dates.
+     *
+     * @param startPacked  the packed start date
+     * @param endPacked  the packed end date, exclusive
+     * @param days  the number of days from the start to the end
+     * @param unit  the unit to measure in, not null
+     * @return the amount of time between the dates
+     * @throws UnsupportedTemporalTypeException if the unit is not date-based
+     */
+    static long untilPacked(long startPacked, long endPacked, long days, ChronoUnit unit) {
+        switch (unit) {
+            case DAYS: return days;
+            case WEEKS: return days / 7;
+            case ERAS: return ((endPacked >> 9) >= 1 ? 1 : 0) - ((startPacked >> 9) >= 1 ? 1 : 0);
+            default: break;
+        }
+        // proleptic-month * 32 + day-of-month, as in monthsUntil()
+        long index1 = ((startPacked >> 9) * 12 + ((startPacked >> 5) & 0x0F) - 1) * 32 + (startPacked & 0x1F);
+        long index2 = ((endPacked >> 9) * 12 + ((endPacked >> 5) & 0x0F) - 1) * 32 + (endPacked & 0x1F);
+        long months = (index2 - index1) / 32;
+        switch (unit) {
+            case MONTHS: return months;
+            case YEARS: return months / 12;
+            case DECADES: return months / 120;
+            case CENTURIES: return months / 1200;
+            case MILLENNIA: return months / 12000;
+            default: break;
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    /**
+     * Calculates the amount of time between each of an array of pairs of ISO epoch-days.
+     * <p>
+     * This is equivalent to
+     * {@code LocalDate.ofEpochDay(startEpochDays[i]).until(LocalDate.ofEpochDay(endEpochDays[i]), unit)}
+     * for each element, storing the result in {@code out[i]}.
+     * The units from {@code DAYS} to {@code ERAS} are calculated using integer arithmetic
+     * without creating dates.
+     * The output array may be the same as one of the input arrays.
+     *
+     * @param startEpochDays  the start epoch-days, not null
+     * @param endEpochDays  the end epoch-days, exclusive, the same length as the start, not null
+     * @param unit  the unit to measure the amount in, not null
+     * @param out  the array to store the amounts in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the input arrays differ in length or the output array is too short
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public static void untilEpochDays(long[] startEpochDays, long[] endEpochDays, TemporalUnit unit, long[] out) {
+        Jdk8Methods.requireNonNull(startEpochDays, "startEpochDays");
+        Jdk8Methods.requireNonNull(endEpochDays, "endEpochDays");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(out, "out");
+        int length = startEpochDays.length;
+        if (endEpochDays.length != length) {
+            throw new IllegalArgumentException("Input arrays must be the same length");
+        }
+        if (out.length < length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        if (unit instanceof ChronoUnit) {
+            ChronoUnit f = (ChronoUnit) unit;
+            if (f.isDateBased() == false || f == ChronoUnit.FOREVER) {
+                throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+            if (f == ChronoUnit.DAYS || f == ChronoUnit.WEEKS) {
+                long divisor = (f == ChronoUnit.DAYS ? 1 : 7);
+                for (int i = 0; i < length; i++) {
+                    long start = EPOCH_DAY.checkValidValue(startEpochDays[i]);
+                    long end = EPOCH_DAY.checkValidValue(endEpochDays[i]);
+                    out[i] = (end - start) / divisor;  // no overflow
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    long start = startEpochDays[i];
+                    long end = endEpochDays[i];
+                    out[i] = untilPacked(packedOfEpochDay(start), packedOfEpochDay(end), end - start, f);
+                }
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                out[i] = unit.between(LocalDate.ofEpochDay(startEpochDays[i]), LocalDate.ofEpochDay(endEpochDays[i]));
+            }
+        }
+    }
+
     /**
      * Calculates the period between this date and another date as a {@code Period}.
      * <p>
@@ -1632,6 +1962,18 @@ public final class LocalDate
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Converts a year, month and day to an epoch-day without validation.
+     *
+     * @param year  the year
+     * @param month  the month-of-year, from 1 to 12
+     * @param day  the day-of-month, from 1 to 31
+     * @return the epoch-day
+     */
+    static long toEpochDay(int year, int month, int day) {
         long y = year;
         long m = month;
         long total = 0;
@@ -1645,13 +1987,34 @@ public final class LocalDate
         total += day - 1;
         if (m > 2) {
             total--;
-            if (isLeapYear() == false) {
+            if (IsoChronology.INSTANCE.isLeapYear(year) == false) {
                 total--;
             }
         }
         return total - DAYS_0000_TO_1970;
     }
 
+    /**
+     * Converts this date to a packed {@code int}.
+     * <p>
+     * The year is stored in the high 23 bits, the month-of-year in the next 4 bits
+     * and the day-of-month in the low 5 bits. As such, the year must be within the range
+     * -4,194,304 to 4,194,303. The ordering of the packed values using signed {@code int}
+     * comparison is the same as the ordering of the dates using {@link #compareTo}.
+     * <p>
+     * The format is stable and may be used for long-term storage.
+     * Use {@link #ofPackedInt(int)} to convert back to a date.
+     *
+     * @return the packed date
+     * @throws DateTimeException if the year is outside the supported range
+     */
+    public int toPackedInt() {
+        if (year < -(1 << 22) || year >= (1 << 22)) {
+            throw new DateTimeException("Unable to pack LocalDate as year is out of range: " + this);
+        }
+        return (year << 9) | (month << 5) | day;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this date to another date.
@@ -40,6 +40,9 @@ import static org.threeten.bp.LocalTime.NANOS_PER_HOUR;
 import static org.threeten.bp.LocalTime.NANOS_PER_MINUTE;
 import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
 import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+import static org.threeten.bp.LocalTime.SECONDS_PER_HOUR;
+import static org.threeten.bp.LocalTime.SECONDS_PER_MINUTE;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
 
 import java.io.DataInput;
 import java.io.DataOutput;
@@ -181,8 +184,11 @@ public final class LocalDateTime
     public static LocalDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        return ofEpochSecond(now.getEpochSecond(), now.getNano(), offset);
+        Clock.DaySnapshot snapshot = Clock.DaySnapshot.of(clock.getZone(), now);
+        if (snapshot.date != null) {
+            return new LocalDateTime(snapshot.date, snapshot.toLocalTime(now));
+        }
+        return ofEpochSecond(now.getEpochSecond(), now.getNano(), snapshot.offset);
     }
 
     //-----------------------------------------------------------------------
@@ -382,6 +388,20 @@ public final class LocalDateTime
         return new LocalDateTime(date, time);
     }
 
+    /**
+     * Obtains an instance of {@code LocalDateTime} from a packed {@code long}.
+     * <p>
+     * This is the inverse of {@link #toPackedLong()}, which describes the format.
+     *
+     * @param packed  the packed date-time
+     * @return the local date-time, not null
+     */
+    public static LocalDateTime ofPackedLong(long packed) {
+        LocalDate date = LocalDate.ofEpochDay(Jdk8Methods.floorDiv(packed, NANOS_PER_DAY));
+        LocalTime time = LocalTime.ofNanoOfDay(Jdk8Methods.floorMod(packed, NANOS_PER_DAY));
+        return new LocalDateTime(date, time);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code LocalDateTime} from a temporal object.
@@ -426,6 +446,15 @@ public final class LocalDateTime
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalDateTime parse(CharSequence text) {
+        Jdk8Methods.requireNonNull(text, "text");
+        int length = text.length();
+        if (length >= 16 && text.charAt(10) == 'T') {
+            LocalDate date = LocalDate.parseDate(text, 0);
+            long nanoOfDay = (date != null ? LocalTime.parseNanoOfDay(text, 11, length, false) : -1);
+            if (nanoOfDay >= 0) {
+                return new LocalDateTime(date, LocalTime.ofNanoOfDay(nanoOfDay));
+            }
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
     }
 
@@ -1555,17 +1584,99 @@ public final class LocalDateTime
                 }
                 throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
             }
-            LocalDate endDate = end.date;
-            if (endDate.isAfter(date) && end.time.isBefore(time)) {
-                endDate = endDate.minusDays(1);
-            } else if (endDate.isBefore(date) && end.time.isAfter(time)) {
-                endDate = endDate.plusDays(1);
+            // adjust the end date for an incomplete day, without creating dates
+            long endEpochDay = end.date.toEpochDay();
+            long daysUntil = endEpochDay - date.toEpochDay();  // no overflow
+            long timeUntil = end.time.toNanoOfDay() - time.toNanoOfDay();
+            if (daysUntil > 0 && timeUntil < 0) {
+                daysUntil--;
+                endEpochDay--;
+            } else if (daysUntil < 0 && timeUntil > 0) {
+                daysUntil++;
+                endEpochDay++;
             }
-            return date.until(endDate, unit);
+            long startPacked = LocalDate.pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            return LocalDate.untilPacked(startPacked, LocalDate.packedOfEpochDay(endEpochDay), daysUntil, f);
         }
         return unit.between(this, end);
     }
 
+    /**
+     * Calculates the amount of time between each of an array of pairs of epoch-seconds.
+     * <p>
+     * This is equivalent to
+     * {@code LocalDateTime.ofEpochSecond(startEpochSeconds[i], 0, ZoneOffset.UTC).until(
+     * LocalDateTime.ofEpochSecond(endEpochSeconds[i], 0, ZoneOffset.UTC), unit)}
+     * for each element, storing the result in {@code out[i]}.
+     * For time-based units this is also the amount between the equivalent instants.
+     * The units from {@code NANOS} to {@code ERAS} are calculated using integer arithmetic
+     * without creating date-times.
+     * The output array may be the same as one of the input arrays.
+     *
+     * @param startEpochSeconds  the start epoch-seconds, from 1970-01-01T00:00:00Z, not null
+     * @param endEpochSeconds  the end epoch-seconds, exclusive, the same length as the start, not null
+     * @param unit  the unit to measure the amount in, not null
+     * @param out  the array to store the amounts in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the input arrays differ in length or the output array is too short
+     * @throws DateTimeException if an epoch-second is outside the supported range
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static void untilEpochSeconds(long[] startEpochSeconds, long[] endEpochSeconds, TemporalUnit unit, long[] out) {
+        Jdk8Methods.requireNonNull(startEpochSeconds, "startEpochSeconds");
+        Jdk8Methods.requireNonNull(endEpochSeconds, "endEpochSeconds");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(out, "out");
+        int length = startEpochSeconds.length;
+        if (endEpochSeconds.length != length) {
+            throw new IllegalArgumentException("Input arrays must be the same length");
+        }
+        if (out.length < length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        if (unit instanceof ChronoUnit == false) {
+            for (int i = 0; i < length; i++) {
+                LocalDateTime start = ofEpochSecond(startEpochSeconds[i], 0, ZoneOffset.UTC);
+                out[i] = unit.between(start, ofEpochSecond(endEpochSeconds[i], 0, ZoneOffset.UTC));
+            }
+            return;
+        }
+        ChronoUnit f = (ChronoUnit) unit;
+        if (f == ChronoUnit.FOREVER) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        for (int i = 0; i < length; i++) {
+            long start = startEpochSeconds[i];
+            long end = endEpochSeconds[i];
+            long startEpochDay = EPOCH_DAY.checkValidValue(Jdk8Methods.floorDiv(start, SECONDS_PER_DAY));
+            long endEpochDay = EPOCH_DAY.checkValidValue(Jdk8Methods.floorDiv(end, SECONDS_PER_DAY));
+            long secsUntil = end - start;  // no overflow within the valid range
+            if (f.isTimeBased()) {
+                switch (f) {
+                    case NANOS: out[i] = Jdk8Methods.safeMultiply(secsUntil, NANOS_PER_SECOND); break;
+                    case MICROS: out[i] = Jdk8Methods.safeMultiply(secsUntil, 1000000); break;
+                    case MILLIS: out[i] = Jdk8Methods.safeMultiply(secsUntil, 1000); break;
+                    case SECONDS: out[i] = secsUntil; break;
+                    case MINUTES: out[i] = secsUntil / SECONDS_PER_MINUTE; break;
+                    case HOURS: out[i] = secsUntil / SECONDS_PER_HOUR; break;
+                    default: out[i] = secsUntil / (12 * SECONDS_PER_HOUR); break;
+                }
+            } else {
+                long daysUntil = endEpochDay - startEpochDay;
+                long timeUntil = Jdk8Methods.floorMod(end, SECONDS_PER_DAY) - Jdk8Methods.floorMod(start, SECONDS_PER_DAY);
+                if (daysUntil > 0 && timeUntil < 0) {
+                    daysUntil--;
+                    endEpochDay--;
+                } else if (daysUntil < 0 && timeUntil > 0) {
+                    daysUntil++;
+                    endEpochDay++;
+                }
+                long startPacked = LocalDate.packedOfEpochDay(startEpochDay);
+                out[i] = LocalDate.untilPacked(startPacked, LocalDate.packedOfEpochDay(endEpochDay), daysUntil, f);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Combines this date-time with an offset to create an {@code OffsetDateTime}.
@@ -1641,6 +1752,35 @@ public final class LocalDateTime
         return time;
     }
 
+    /**
+     * Converts this date-time to a packed {@code long}.
+     * <p>
+     * The packed value is the number of nanoseconds from 1970-01-01T00:00,
+     * equivalent to the epoch-day multiplied by the nanoseconds in a day plus the nano-of-day.
+     * Only date-times from 1677-09-21T00:12:43.145224192 to
+     * 2262-04-11T23:47:16.854775807 can be packed. The ordering of the packed values is the same
+     * as the ordering of the date-times using {@link #compareTo}.
+     * <p>
+     * The format is stable and may be used for long-term storage.
+     * Use {@link #ofPackedLong(long)} to convert back to a date-time.
+     *
+     * @return the packed date-time
+     * @throws DateTimeException if the date-time is outside the supported range
+     */
+    public long toPackedLong() {
+        try {
+            long epochDay = date.toEpochDay();
+            long nanoOfDay = time.toNanoOfDay();
+            if (epochDay >= 0) {
+                return Jdk8Methods.safeAdd(Jdk8Methods.safeMultiply(epochDay, NANOS_PER_DAY), nanoOfDay);
+            }
+            // avoid overflow near the minimum by working from the day closer to zero
+            return Jdk8Methods.safeSubtract(Jdk8Methods.safeMultiply(epochDay + 1, NANOS_PER_DAY), NANOS_PER_DAY - nanoOfDay);
+        } catch (ArithmeticException ex) {
+            throw new DateTimeException("Unable to pack date-time " + this + ", packing is only supported from 1677-09-21T00:12:43.145224192 to 2262-04-11T23:47:16.854775807", ex);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Compares this date-time to another date-time.
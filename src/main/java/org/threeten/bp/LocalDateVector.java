@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.Arrays;
+
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * An immutable vector of dates in the ISO-8601 calendar system, stored as primitive epoch-days.
+ * <p>
+ * This holds a sequence of dates as an {@code int[]} of epoch-days, avoiding the
+ * memory cost of an array of {@link LocalDate} objects. Bulk operations work directly
+ * on the primitive values using the same arithmetic as {@code LocalDate}.
+ * Each epoch-day must fit in an {@code int}, from -2,147,483,648 to 2,147,483,647.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class LocalDateVector {
+
+    /**
+     * An empty vector.
+     */
+    public static final LocalDateVector EMPTY = new LocalDateVector(new int[0]);
+
+    /**
+     * The epoch-days.
+     */
+    private final int[] epochDays;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a vector from an array of dates.
+     *
+     * @param dates  the dates, not null, no nulls
+     * @return the vector, not null
+     * @throws DateTimeException if a date has an epoch-day that does not fit in an {@code int}
+     */
+    public static LocalDateVector of(LocalDate... dates) {
+        Jdk8Methods.requireNonNull(dates, "dates");
+        int[] epochDays = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            epochDays[i] = toIntEpochDay(Jdk8Methods.requireNonNull(dates[i], "date").toEpochDay());
+        }
+        return new LocalDateVector(epochDays);
+    }
+
+    /**
+     * Obtains a vector from an array of epoch-days.
+     * <p>
+     * The array is copied.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @return the vector, not null
+     */
+    public static LocalDateVector ofEpochDays(int[] epochDays) {
+        Jdk8Methods.requireNonNull(epochDays, "epochDays");
+        return new LocalDateVector(epochDays.clone());
+    }
+
+    /**
+     * Obtains a vector from arrays of year, month and day-of-month.
+     * <p>
+     * Each date is validated as per {@link LocalDate#of(int, int, int)},
+     * without creating a {@code LocalDate}.
+     *
+     * @param years  the years, not null
+     * @param months  the months-of-year, from 1 to 12, not null
+     * @param daysOfMonth  the days-of-month, from 1 to 31, not null
+     * @return the vector, not null
+     * @throws IllegalArgumentException if the arrays have different lengths
+     * @throws DateTimeException if a date is invalid, or has an epoch-day that does not fit in an {@code int}
+     */
+    public static LocalDateVector of(int[] years, int[] months, int[] daysOfMonth) {
+        Jdk8Methods.requireNonNull(years, "years");
+        Jdk8Methods.requireNonNull(months, "months");
+        Jdk8Methods.requireNonNull(daysOfMonth, "daysOfMonth");
+        if (months.length != years.length || daysOfMonth.length != years.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        int[] epochDays = new int[years.length];
+        for (int i = 0; i < years.length; i++) {
+            epochDays[i] = toIntEpochDay(LocalDate.epochDayOf(years[i], months[i], daysOfMonth[i]));
+        }
+        return new LocalDateVector(epochDays);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param epochDays  the epoch-days, not null, not copied
+     */
+    LocalDateVector(int[] epochDays) {
+        this.epochDays = epochDays;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of dates in the vector.
+     *
+     * @return the size
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Gets the date at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Gets the epoch-day at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the epoch-day
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int getEpochDay(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Returns a copy of the epoch-days.
+     *
+     * @return a copy of the epoch-days, not null
+     */
+    public int[] toEpochDays() {
+        return epochDays.clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from every date.
+     * <p>
+     * The fields {@code DAY_OF_WEEK}, {@code DAY_OF_MONTH}, {@code DAY_OF_YEAR},
+     * {@code MONTH_OF_YEAR}, {@code PROLEPTIC_MONTH}, {@code YEAR} and {@code EPOCH_DAY}
+     * are calculated directly from the epoch-day. Other date-based fields are
+     * obtained from {@link LocalDate#get(org.threeten.bp.temporal.TemporalField)}.
+     *
+     * @param field  the field to extract, not null
+     * @return the array of values, one for each date, not null
+     * @throws UnsupportedTemporalTypeException if the field is not supported by {@code LocalDate}
+     */
+    public int[] get(ChronoField field) {
+        Jdk8Methods.requireNonNull(field, "field");
+        int[] result = new int[epochDays.length];
+        switch (field) {
+            case EPOCH_DAY:
+                System.arraycopy(epochDays, 0, result, 0, epochDays.length);
+                return result;
+            case DAY_OF_WEEK:
+                for (int i = 0; i < epochDays.length; i++) {
+                    result[i] = Jdk8Methods.floorMod(epochDays[i] + 3, 7) + 1;
+                }
+                return result;
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+            case MONTH_OF_YEAR:
+            case PROLEPTIC_MONTH:
+            case YEAR:
+                for (int i = 0; i < epochDays.length; i++) {
+                    result[i] = extract(field, LocalDate.packedOfEpochDay(epochDays[i]));
+                }
+                return result;
+            default:
+                if (field.isDateBased() == false) {
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+                }
+                for (int i = 0; i < epochDays.length; i++) {
+                    result[i] = LocalDate.ofEpochDay(epochDays[i]).get(field);
+                }
+                return result;
+        }
+    }
+
+    /**
+     * Extracts a field from a packed year, month and day.
+     *
+     * @param field  the field, one of those handled directly, not null
+     * @param packed  the packed year, month and day
+     * @return the field value
+     */
+    static int extract(ChronoField field, long packed) {
+        int year = (int) (packed >> 9);
+        int month = (int) (packed >> 5) & 0x0F;
+        int day = (int) packed & 0x1F;
+        switch (field) {
+            case DAY_OF_MONTH: return day;
+            case DAY_OF_YEAR: return Month.of(month).firstDayOfYear(IsoChronology.INSTANCE.isLeapYear(year)) + day - 1;
+            case MONTH_OF_YEAR: return month;
+            case PROLEPTIC_MONTH: return year * 12 + month - 1;
+            default: return year;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the specified number of days added to every date.
+     *
+     * @param daysToAdd  the days to add, may be negative
+     * @return a vector based on this one with the days added, not null
+     * @throws DateTimeException if a result exceeds the supported range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public LocalDateVector plusDays(long daysToAdd) {
+        if (daysToAdd == 0) {
+            return this;
+        }
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = toIntEpochDay(Jdk8Methods.safeAdd(epochDays[i], daysToAdd));
+        }
+        return new LocalDateVector(result);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the dates sorted, from earliest to latest.
+     *
+     * @return a sorted vector, not null
+     */
+    public LocalDateVector sorted() {
+        int[] result = epochDays.clone();
+        Arrays.sort(result);
+        return new LocalDateVector(result);
+    }
+
+    /**
+     * Searches this sorted vector for the specified date using binary search.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     * The result follows the same convention as {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @param date  the date to search for, not null
+     * @return the index of the date, if present, otherwise {@code (-(insertion point) - 1)}
+     */
+    public int binarySearch(LocalDate date) {
+        Jdk8Methods.requireNonNull(date, "date");
+        long epochDay = date.toEpochDay();
+        int index = lowerBound(epochDay);
+        if (index < epochDays.length && epochDays[index] == epochDay) {
+            return index;
+        }
+        return -index - 1;
+    }
+
+    /**
+     * Returns the part of this sorted vector within the specified range.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     * The range is located using binary search.
+     *
+     * @param startInclusive  the start date, inclusive, not null
+     * @param endExclusive  the end date, exclusive, not null
+     * @return the dates in the range, not null
+     */
+    public LocalDateVector range(LocalDate startInclusive, LocalDate endExclusive) {
+        Jdk8Methods.requireNonNull(startInclusive, "startInclusive");
+        Jdk8Methods.requireNonNull(endExclusive, "endExclusive");
+        int start = lowerBound(startInclusive.toEpochDay());
+        int end = Math.max(start, lowerBound(endExclusive.toEpochDay()));
+        return new LocalDateVector(Arrays.copyOfRange(epochDays, start, end));
+    }
+
+    /**
+     * Finds the index of the first epoch-day greater than or equal to the specified value.
+     *
+     * @param epochDay  the epoch-day to find
+     * @return the index, from zero to the size
+     */
+    private int lowerBound(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Validates an epoch-day, converting it to an {@code int}.
+     *
+     * @param epochDay  the epoch-day
+     * @return the epoch-day
+     * @throws DateTimeException if the epoch-day does not fit in an {@code int}
+     */
+    private static int toIntEpochDay(long epochDay) {
+        if (epochDay != (int) epochDay) {
+            throw new DateTimeException("Epoch-day out of range for LocalDateVector: " + epochDay);
+        }
+        return (int) epochDay;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this vector is equal to another vector.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other vector
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LocalDateVector) {
+            return Arrays.equals(epochDays, ((LocalDateVector) obj).epochDays);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this vector.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochDays);
+    }
+
+    /**
+     * Outputs this vector as a {@code String}, such as {@code [2007-12-03, 2007-12-04]}.
+     *
+     * @return a string representation of this vector, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(epochDays.length * 12 + 2);
+        buf.append('[');
+        for (int i = 0; i < epochDays.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(LocalDate.ofEpochDay(epochDays[i]));
+        }
+        return buf.append(']').toString();
+    }
+
+}
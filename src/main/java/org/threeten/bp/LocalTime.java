@@ -129,6 +129,14 @@ public final class LocalTime
         MIN = HOURS[0];
         MAX = new LocalTime(23, 59, 59, 999999999);
     }
+    /**
+     * The cache of times on whole seconds or whole minutes, null if caching is disabled.
+     * <p>
+     * Caching is enabled by setting the system property {@code org.threeten.bp.LocalTime.cache}
+     * to {@code MINUTES}, caching times on a whole minute, or {@code SECONDS},
+     * caching times on a whole second. Entries are created on demand.
+     */
+    private static final LocalTime[] CACHE = buildCache();
 
     /**
      * Hours per day.
@@ -247,13 +255,7 @@ public final class LocalTime
         Jdk8Methods.requireNonNull(clock, "clock");
         // inline OffsetTime factory to avoid creating object and InstantProvider checks
         final Instant now = clock.instant();  // called once
-        ZoneOffset offset = clock.getZone().getRules().getOffset(now);
-        long secsOfDay = now.getEpochSecond() % SECONDS_PER_DAY;
-        secsOfDay = (secsOfDay + offset.getTotalSeconds()) % SECONDS_PER_DAY;
-        if (secsOfDay < 0) {
-            secsOfDay += SECONDS_PER_DAY;
-        }
-        return LocalTime.ofSecondOfDay(secsOfDay, now.getNano());
+        return Clock.DaySnapshot.of(clock.getZone(), now).toLocalTime(now);
     }
 
     //------------------------get-----------------------------------------------
@@ -275,7 +277,7 @@ public final class LocalTime
             return HOURS[hour];  // for performance
         }
         MINUTE_OF_HOUR.checkValidValue(minute);
-        return new LocalTime(hour, minute, 0, 0);
+        return create(hour, minute, 0, 0);
     }
 
     /**
@@ -298,7 +300,7 @@ public final class LocalTime
         }
         MINUTE_OF_HOUR.checkValidValue(minute);
         SECOND_OF_MINUTE.checkValidValue(second);
-        return new LocalTime(hour, minute, second, 0);
+        return create(hour, minute, second, 0);
     }
 
     /**
@@ -419,6 +421,11 @@ public final class LocalTime
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static LocalTime parse(CharSequence text) {
+        Jdk8Methods.requireNonNull(text, "text");
+        long nanoOfDay = parseNanoOfDay(text, 0, text.length(), false);
+        if (nanoOfDay >= 0) {
+            return ofNanoOfDay(nanoOfDay);
+        }
         return parse(text, DateTimeFormatter.ISO_LOCAL_TIME);
     }
 
@@ -437,6 +444,79 @@ public final class LocalTime
         return formatter.parse(text, LocalTime.FROM);
     }
 
+    /**
+     * Parses the common form of an ISO-8601 time, {@code HH:mm:ss.nnnnnnnnn}, without using a formatter.
+     * <p>
+     * The seconds may be omitted if not required, and the fraction is optional.
+     * The fraction, if present, must have between one and nine digits.
+     * Any text not matching that form, or containing an invalid value, is rejected
+     * so that the caller can fall back to the full formatter.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to start parsing from
+     * @param end  the position of the end of the time
+     * @param secondsRequired  whether the seconds must be present
+     * @return the nano-of-day, -1 if the text cannot be parsed by this method
+     */
+    static long parseNanoOfDay(CharSequence text, int position, int end, boolean secondsRequired) {
+        int length = end - position;
+        if (length < 5 || text.charAt(position + 2) != ':') {
+            return -1;
+        }
+        int hour = parseDigits(text, position, 2);
+        int minute = parseDigits(text, position + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        long secondOfDay = hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+        if (length == 5) {
+            return secondsRequired ? -1 : secondOfDay * NANOS_PER_SECOND;
+        }
+        if (length < 8 || text.charAt(position + 5) != ':') {
+            return -1;
+        }
+        int second = parseDigits(text, position + 6, 2);
+        if (second < 0 || second > 59) {
+            return -1;
+        }
+        secondOfDay += second;
+        if (length == 8) {
+            return secondOfDay * NANOS_PER_SECOND;
+        }
+        int fractionLength = length - 9;
+        if (fractionLength < 1 || fractionLength > 9 || text.charAt(position + 8) != '.') {
+            return -1;
+        }
+        int fraction = parseDigits(text, position + 9, fractionLength);
+        if (fraction < 0) {
+            return -1;
+        }
+        for (int i = fractionLength; i < 9; i++) {
+            fraction *= 10;
+        }
+        return secondOfDay * NANOS_PER_SECOND + fraction;
+    }
+
+    /**
+     * Parses a fixed number of ASCII digits.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to start parsing from
+     * @param count  the number of digits, from 1 to 9
+     * @return the parsed value, -1 if any character is not a digit
+     */
+    static int parseDigits(CharSequence text, int position, int count) {
+        int value = 0;
+        for (int i = position; i < position + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a local time from the hour, minute, second and nanosecond fields.
@@ -450,12 +530,69 @@ public final class LocalTime
      * @return the local time, not null
      */
     private static LocalTime create(int hour, int minute, int second, int nanoOfSecond) {
+        return create(CACHE, hour, minute, second, nanoOfSecond);
+    }
+
+    /**
+     * Creates a local time using the specified cache.
+     *
+     * @param cache  the cache, null if caching is disabled
+     * @param hour  the hour-of-day to represent, validated from 0 to 23
+     * @param minute  the minute-of-hour to represent, validated from 0 to 59
+     * @param second  the second-of-minute to represent, validated from 0 to 59
+     * @param nanoOfSecond  the nano-of-second to represent, validated from 0 to 999,999,999
+     * @return the local time, not null
+     */
+    static LocalTime create(LocalTime[] cache, int hour, int minute, int second, int nanoOfSecond) {
         if ((minute | second | nanoOfSecond) == 0) {
             return HOURS[hour];
         }
+        if (cache != null && nanoOfSecond == 0) {
+            int index = hour * MINUTES_PER_HOUR + minute;
+            if (cache.length == SECONDS_PER_DAY) {
+                index = index * SECONDS_PER_MINUTE + second;
+            } else if (second != 0) {
+                return new LocalTime(hour, minute, second, 0);
+            }
+            LocalTime time = cache[index];
+            if (time == null) {
+                // races are benign as times are immutable
+                time = new LocalTime(hour, minute, second, 0);
+                cache[index] = time;
+            }
+            return time;
+        }
         return new LocalTime(hour, minute, second, nanoOfSecond);
     }
 
+    /**
+     * Builds the cache of times based on the system property.
+     *
+     * @return the cache, null if disabled
+     */
+    private static LocalTime[] buildCache() {
+        try {
+            return buildCache(System.getProperty("org.threeten.bp.LocalTime.cache"));
+        } catch (SecurityException ex) {
+            return null;  // caching disabled
+        }
+    }
+
+    /**
+     * Builds the cache of times based on the value of the system property.
+     *
+     * @param str  the requested precision, null if not set
+     * @return the cache, null if disabled
+     */
+    static LocalTime[] buildCache(String str) {
+        if ("MINUTES".equals(str)) {
+            return new LocalTime[MINUTES_PER_DAY];
+        } else if ("SECONDS".equals(str)) {
+            return new LocalTime[SECONDS_PER_DAY];
+        }
+        return null;
+    }
+
     /**
      * Constructor, previously validated.
      *
@@ -207,7 +207,7 @@ public final class OffsetDateTime
     public static OffsetDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone().getRules().getOffset(now));
+        return ofInstant(now, Clock.DaySnapshot.of(clock.getZone(), now).offset);
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * A rule for a recurring event, such as 'the second Tuesday of every month at 09:00'.
+ * <p>
+ * A recurrence is defined by a start date-time, a frequency and an optional adjuster,
+ * similar to the iCalendar RRULE. The frequency is an amount of a date-based unit,
+ * such as 1 day, 2 weeks or 3 months. Each period is found by adding a multiple of the
+ * frequency to the start date, as per {@link LocalDate#plus(long, TemporalUnit)},
+ * so that a monthly recurrence starting on the 31st does not drift.
+ * The adjuster, such as one from {@link org.threeten.bp.temporal.TemporalAdjusters},
+ * is then applied to the date of each period.
+ * <p>
+ * Each occurrence is the adjusted date at the local time of the start, resolved in the zone
+ * of the start using {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}.
+ * In a gap the local time is moved later by the length of the gap, and in an overlap
+ * the earlier offset is used.
+ * Occurrences before the start are not included, thus the first occurrence may be in
+ * a later period than the start.
+ * The recurrence may be limited by a count of occurrences and by an end instant.
+ * <p>
+ * Occurrences are calculated lazily, one period at a time. The adjuster must keep the dates
+ * in order, such that the occurrence of each period is after that of the previous period,
+ * as is the case for the adjusters that pick a day within the period.
+ * This allows {@link #iterator(Instant)} and {@link #next(Instant)} to move directly
+ * to the relevant period without calculating earlier occurrences.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe if the adjuster is immutable and thread-safe.
+ */
+public final class Recurrence implements Iterable<ZonedDateTime> {
+
+    /**
+     * The start date-time.
+     */
+    private final ZonedDateTime start;
+    /**
+     * The number of units in each period.
+     */
+    private final long amount;
+    /**
+     * The unit of each period.
+     */
+    private final TemporalUnit unit;
+    /**
+     * The adjuster applied to the date of each period, null if none.
+     */
+    private final TemporalAdjuster adjuster;
+    /**
+     * The maximum number of occurrences, zero if unlimited.
+     */
+    private final long count;
+    /**
+     * The instant after which there are no occurrences, null if unlimited.
+     */
+    private final Instant until;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a recurrence from a start and a frequency.
+     * <p>
+     * The unit must be date-based, such as {@code DAYS}, {@code WEEKS}, {@code MONTHS},
+     * {@code YEARS} or {@link org.threeten.bp.temporal.IsoFields#QUARTER_YEARS}.
+     *
+     * @param start  the start date-time, defining the first period, local time and zone, not null
+     * @param amount  the number of units in each period, positive
+     * @param unit  the unit of each period, not null
+     * @return the recurrence, not null
+     * @throws IllegalArgumentException if the amount is not positive
+     * @throws UnsupportedTemporalTypeException if the unit is not date-based
+     */
+    public static Recurrence of(ZonedDateTime start, long amount, TemporalUnit unit) {
+        Jdk8Methods.requireNonNull(start, "start");
+        Jdk8Methods.requireNonNull(unit, "unit");
+        if (amount < 1) {
+            throw new IllegalArgumentException("Amount must be positive: " + amount);
+        }
+        if (unit.isDateBased() == false || unit == ChronoUnit.FOREVER) {
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return new Recurrence(start, amount, unit, null, 0, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param start  the start date-time, not null
+     * @param amount  the number of units in each period, positive
+     * @param unit  the unit of each period, not null
+     * @param adjuster  the adjuster, null if none
+     * @param count  the maximum number of occurrences, zero if unlimited
+     * @param until  the instant after which there are no occurrences, null if unlimited
+     */
+    private Recurrence(ZonedDateTime start, long amount, TemporalUnit unit, TemporalAdjuster adjuster, long count, Instant until) {
+        this.start = start;
+        this.amount = amount;
+        this.unit = unit;
+        this.adjuster = adjuster;
+        this.count = count;
+        this.until = until;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this recurrence with the date of each period adjusted.
+     *
+     * @param adjuster  the adjuster to apply to the date of each period, null for none
+     * @return a recurrence based on this one with the adjuster, not null
+     */
+    public Recurrence withAdjuster(TemporalAdjuster adjuster) {
+        return new Recurrence(start, amount, unit, adjuster, count, until);
+    }
+
+    /**
+     * Returns a copy of this recurrence limited to a number of occurrences.
+     *
+     * @param count  the maximum number of occurrences, positive
+     * @return a recurrence based on this one with the count, not null
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public Recurrence withCount(long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        return new Recurrence(start, amount, unit, adjuster, count, until);
+    }
+
+    /**
+     * Returns a copy of this recurrence with no occurrences after an instant.
+     *
+     * @param until  the last instant that an occurrence may be at, inclusive, null for no limit
+     * @return a recurrence based on this one with the limit, not null
+     */
+    public Recurrence withUntil(Instant until) {
+        return new Recurrence(start, amount, unit, adjuster, count, until);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the start date-time.
+     *
+     * @return the start, not null
+     */
+    public ZonedDateTime getStart() {
+        return start;
+    }
+
+    /**
+     * Gets the number of units in each period.
+     *
+     * @return the amount, positive
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the unit of each period.
+     *
+     * @return the unit, not null
+     */
+    public TemporalUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets the adjuster applied to the date of each period.
+     *
+     * @return the adjuster, null if none
+     */
+    public TemporalAdjuster getAdjuster() {
+        return adjuster;
+    }
+
+    /**
+     * Gets the maximum number of occurrences.
+     *
+     * @return the count, zero if unlimited
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the instant after which there are no occurrences.
+     *
+     * @return the last instant that an occurrence may be at, null if unlimited
+     */
+    public Instant getUntil() {
+        return until;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns an iterator over the occurrences, starting from the first.
+     *
+     * @return the iterator, not null
+     */
+    @Override
+    public Iterator<ZonedDateTime> iterator() {
+        return new OccurrenceIterator(firstIndex());
+    }
+
+    /**
+     * Returns an iterator over the occurrences at or after an instant.
+     * <p>
+     * The period containing the instant is found directly, without calculating
+     * the earlier occurrences.
+     *
+     * @param from  the instant to start from, inclusive, not null
+     * @return the iterator, not null
+     */
+    public Iterator<ZonedDateTime> iterator(Instant from) {
+        Jdk8Methods.requireNonNull(from, "from");
+        return new OccurrenceIterator(indexAtOrAfter(from));
+    }
+
+    /**
+     * Gets the first occurrence after an instant.
+     * <p>
+     * This is typically used to find the next time that a scheduled event should fire.
+     *
+     * @param after  the instant to search after, exclusive, not null
+     * @return the next occurrence, null if there are no more occurrences
+     */
+    public ZonedDateTime next(Instant after) {
+        Jdk8Methods.requireNonNull(after, "after");
+        if (after.equals(Instant.MAX)) {
+            return null;
+        }
+        Iterator<ZonedDateTime> it = iterator(after.plusNanos(1));
+        return (it.hasNext() ? it.next() : null);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the candidate occurrence of a period.
+     *
+     * @param index  the index of the period, zero for the period of the start
+     * @return the occurrence, null if beyond the supported range
+     */
+    private ZonedDateTime occurrence(long index) {
+        try {
+            LocalDate date = start.toLocalDate().plus(Jdk8Methods.safeMultiply(index, amount), unit);
+            if (adjuster != null) {
+                date = date.with(adjuster);
+            }
+            return ZonedDateTime.ofLocal(date.atTime(start.toLocalTime()), start.getZone(), null);
+        } catch (DateTimeException ex) {
+            return null;
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the index of the first period whose occurrence is not before the start.
+     *
+     * @return the index
+     */
+    private long firstIndex() {
+        long index = 0;
+        ZonedDateTime occurrence = occurrence(index);
+        while (occurrence != null && occurrence.isBefore(start)) {
+            occurrence = occurrence(++index);
+        }
+        return index;
+    }
+
+    /**
+     * Finds the index of the first period whose occurrence is at or after an instant.
+     * <p>
+     * The index is estimated from the number of units between the start and the instant,
+     * then corrected by moving a period at a time.
+     *
+     * @param from  the instant, not null
+     * @return the index, at least the first index
+     */
+    private long indexAtOrAfter(Instant from) {
+        long first = firstIndex();
+        if (from.isAfter(start.toInstant()) == false) {
+            return first;
+        }
+        LocalDate fromDate;
+        try {
+            fromDate = LocalDateTime.ofEpochSecond(from.getEpochSecond(), 0,
+                    start.getZone().getRules().getOffset(from)).toLocalDate();
+        } catch (DateTimeException ex) {
+            fromDate = LocalDate.MAX;
+        }
+        long index = Math.max(unit.between(start.toLocalDate(), fromDate) / amount, first);
+        if (isAtOrAfter(occurrence(index), from)) {
+            // search backwards, doubling the step so that an estimate beyond the range converges quickly
+            long step = 1;
+            long low;
+            while (true) {
+                if (index == first) {
+                    return first;
+                }
+                long probe = Math.max(index - step, first);
+                if (isAtOrAfter(occurrence(probe), from) == false) {
+                    low = probe;
+                    break;
+                }
+                index = probe;
+                step *= 2;
+            }
+            while (index - low > 1) {
+                long mid = low + (index - low) / 2;
+                if (isAtOrAfter(occurrence(mid), from)) {
+                    index = mid;
+                } else {
+                    low = mid;
+                }
+            }
+            return index;
+        }
+        do {
+            index++;
+        } while (isAtOrAfter(occurrence(index), from) == false);
+        return index;
+    }
+
+    private static boolean isAtOrAfter(ZonedDateTime occurrence, Instant from) {
+        // a null occurrence is beyond the supported range
+        return occurrence == null || occurrence.toInstant().isBefore(from) == false;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this recurrence is equal to another recurrence.
+     * <p>
+     * The comparison is based on the start, frequency, adjuster, count and end.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other recurrence
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof Recurrence) {
+            Recurrence other = (Recurrence) obj;
+            return start.equals(other.start) && amount == other.amount && unit.equals(other.unit) &&
+                    (adjuster == null ? other.adjuster == null : adjuster.equals(other.adjuster)) &&
+                    count == other.count &&
+                    (until == null ? other.until == null : until.equals(other.until));
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this recurrence.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return start.hashCode() ^ ((int) (amount ^ (amount >>> 32))) ^ unit.hashCode() ^
+                (adjuster == null ? 0 : adjuster.hashCode()) ^ ((int) (count ^ (count >>> 32))) ^
+                (until == null ? 0 : until.hashCode());
+    }
+
+    /**
+     * Outputs this recurrence as a {@code String}, such as
+     * {@code Recurrence[2012-01-10T09:00Z every 1 Months count 12]}.
+     *
+     * @return a string representation of this recurrence, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(64);
+        buf.append("Recurrence[").append(start).append(" every ").append(amount).append(' ').append(unit);
+        if (adjuster != null) {
+            buf.append(" adjusted by ").append(adjuster);
+        }
+        if (count > 0) {
+            buf.append(" count ").append(count);
+        }
+        if (until != null) {
+            buf.append(" until ").append(until);
+        }
+        return buf.append(']').toString();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator over the occurrences, calculating each as required.
+     */
+    private final class OccurrenceIterator implements Iterator<ZonedDateTime> {
+        /** The index of the period of the next occurrence. */
+        private long index;
+        /** The index of the period after the last occurrence allowed by the count. */
+        private final long endIndex;
+        /** The next occurrence, null if not yet calculated. */
+        private ZonedDateTime next;
+        /** Whether there are no more occurrences. */
+        private boolean finished;
+
+        private OccurrenceIterator(long index) {
+            this.index = index;
+            this.endIndex = (count > 0 ? firstIndex() + count : Long.MAX_VALUE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && finished == false) {
+                if (index >= endIndex) {
+                    finished = true;
+                } else {
+                    next = occurrence(index++);
+                    if (next == null || (until != null && next.toInstant().isAfter(until))) {
+                        next = null;
+                        finished = true;
+                    }
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ZonedDateTime next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException("No more occurrences");
+            }
+            ZonedDateTime result = next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Recurrence is immutable");
+        }
+    }
+
+}
@@ -77,6 +77,8 @@ final class Ser implements Externalizable {
     static final byte ZONED_DATE_TIME_TYPE = 6;
     static final byte ZONE_REGION_TYPE = 7;
     static final byte ZONE_OFFSET_TYPE = 8;
+    /** A back-reference into a zone table, only written by {@link TemporalCodec}. */
+    static final byte ZONE_REGION_REF_TYPE = 9;
 
     static final byte MONTH_DAY_TYPE = 64;
     static final byte OFFSET_TIME_TYPE = 66;
@@ -84,6 +86,9 @@ final class Ser implements Externalizable {
     static final byte YEAR_MONTH_TYPE = 68;
     static final byte OFFSET_DATE_TIME_TYPE = 69;
 
+    /** A zoned date-time whose region ID is written as a shared object, see {@link ZoneDictionaryOutputStream}. */
+    static final byte ZONED_DATE_TIME_TYPE_VERSION_2 = 26;
+
     /** The type being serialized. */
     private byte type;
     /** The object being serialized. */
@@ -106,6 +111,15 @@ final class Ser implements Externalizable {
         this.object = object;
     }
 
+    /**
+     * Returns the equivalent instance that writes the region ID of a zoned date-time as a shared object.
+     *
+     * @return the instance to write, not null
+     */
+    Ser withSharedZone() {
+        return (type == ZONED_DATE_TIME_TYPE ? new Ser(ZONED_DATE_TIME_TYPE_VERSION_2, object) : this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Implements the {@code Externalizable} interface to write the object.
@@ -113,6 +127,11 @@ final class Ser implements Externalizable {
      * @param out  the data stream to write to, not null
      */
     public void writeExternal(ObjectOutput out) throws IOException {
+        if (type == ZONED_DATE_TIME_TYPE_VERSION_2) {
+            out.writeByte(type);
+            ((ZonedDateTime) object).writeExternalShared(out);
+            return;
+        }
         writeInternal(type, object, out);
     }
 
@@ -171,7 +190,11 @@ final class Ser implements Externalizable {
      */
     public void readExternal(ObjectInput in) throws IOException {
         type = in.readByte();
-        object = readInternal(type, in);
+        if (type == ZONED_DATE_TIME_TYPE_VERSION_2) {
+            object = ZonedDateTime.readExternalShared(in);
+        } else {
+            object = readInternal(type, in);
+        }
     }
 
     static Object read(DataInput in) throws IOException {
@@ -179,7 +202,7 @@ final class Ser implements Externalizable {
         return readInternal(type, in);
     }
 
-    private static Object readInternal(byte type, DataInput in) throws IOException {
+    static Object readInternal(byte type, DataInput in) throws IOException {
         switch (type) {
             case DURATION_TYPE: return Duration.readExternal(in);
             case INSTANT_TYPE: return Instant.readExternal(in);
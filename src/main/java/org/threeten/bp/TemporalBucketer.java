@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * Assigns instants to calendar-aware buckets in a time-zone, such as five minutes,
+ * hours, days, ISO weeks, months or quarters.
+ * <p>
+ * Buckets are defined on the local time-line of the zone. An instant belongs to the
+ * bucket containing its local date-time, found by truncating the local date-time to a
+ * multiple of the bucket length, in the same way as
+ * {@link LocalDateTime#truncatedTo(TemporalUnit)} for time-based units and
+ * {@link org.threeten.bp.temporal.TemporalAdjusters#firstDayOfMonth()} or
+ * {@link org.threeten.bp.temporal.TemporalAdjusters#firstDayOfYear()} for date-based units.
+ * Each bucket has an index. For time-based and day-based units, including weeks, the index
+ * is counted from the bucket containing the local epoch of 1970-01-01T00:00. For month-based
+ * units, including quarters and years, the index is the proleptic-month divided by the
+ * number of months in the bucket, thus counted from January of year zero, such that a
+ * bucket of one month containing 1970-01 has the index 23640.
+ * Weeks start on Monday as per ISO-8601, months are aligned to multiples of the length
+ * from January of year zero, and quarters are as per {@link IsoFields#QUARTER_OF_YEAR}.
+ * <p>
+ * The start of a bucket is the earliest instant in it. If the local start falls in a gap,
+ * the start is the end of the gap, and if it falls in an overlap the earlier offset is used,
+ * matching {@link LocalDate#atStartOfDay(ZoneId)}. As a result, during an overlap a time-based
+ * bucket covers all instants with the same local time, unlike
+ * {@link ZonedDateTime#truncatedTo(TemporalUnit)} which retains the offset.
+ * <p>
+ * Offsets are found from a table of transitions between 1900 and 2100 built from the
+ * {@link ZoneRules} when the bucketer is created. The bulk methods also reuse the bucket
+ * of the previous element, making them especially fast on sorted input.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class TemporalBucketer {
+
+    /**
+     * The epoch-second of 1900-01-01T00:00Z, the start of the transition table.
+     */
+    private static final long TABLE_START = -2208988800L;
+    /**
+     * The epoch-second of 2100-01-01T00:00Z, the end of the transition table.
+     */
+    private static final long TABLE_END = 4102444800L;
+
+    /**
+     * The number of units in each bucket.
+     */
+    private final long amount;
+    /**
+     * The unit of each bucket.
+     */
+    private final TemporalUnit unit;
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The zone rules.
+     */
+    private final ZoneRules rules;
+    /**
+     * The length of a time-based bucket in seconds, zero if not time-based.
+     */
+    private final long seconds;
+    /**
+     * The length of a day-based bucket in days, zero if not day-based.
+     */
+    private final long days;
+    /**
+     * The days from the epoch-day to the start of a day-based bucket.
+     */
+    private final int dayShift;
+    /**
+     * The length of a month-based bucket in months, zero if not month-based.
+     */
+    private final long months;
+    /**
+     * The epoch-second of the start of the transition table, inclusive.
+     */
+    private final long tableStart;
+    /**
+     * The epoch-second of the end of the transition table, exclusive.
+     */
+    private final long tableEnd;
+    /**
+     * The epoch-seconds of the transitions between the start and end of the table.
+     */
+    private final long[] transitions;
+    /**
+     * The offset in seconds before each transition, plus the offset after the last.
+     */
+    private final int[] offsets;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a bucketer for a single unit in the specified time-zone.
+     *
+     * @param unit  the unit of each bucket, not null
+     * @param zone  the time-zone, not null
+     * @return the bucketer, not null
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public static TemporalBucketer of(TemporalUnit unit, ZoneId zone) {
+        return of(1, unit, zone);
+    }
+
+    /**
+     * Obtains a bucketer for an amount of a unit in the specified time-zone.
+     * <p>
+     * The units {@code SECONDS}, {@code MINUTES}, {@code HOURS} and {@code HALF_DAYS} are supported
+     * where the bucket length divides into a standard day without remainder, such as 5 minutes.
+     * The units {@code DAYS}, {@code WEEKS}, {@code MONTHS}, {@code YEARS}, {@code DECADES},
+     * {@code CENTURIES}, {@code MILLENNIA} and {@link IsoFields#QUARTER_YEARS} are supported
+     * for any positive amount.
+     *
+     * @param amount  the number of units in each bucket, positive
+     * @param unit  the unit of each bucket, not null
+     * @param zone  the time-zone, not null
+     * @return the bucketer, not null
+     * @throws IllegalArgumentException if the amount is not positive
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws DateTimeException if the bucket length does not divide into a standard day
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public static TemporalBucketer of(long amount, TemporalUnit unit, ZoneId zone) {
+        Jdk8Methods.requireNonNull(unit, "unit");
+        Jdk8Methods.requireNonNull(zone, "zone");
+        if (amount < 1) {
+            throw new IllegalArgumentException("Amount must be positive: " + amount);
+        }
+        if (unit == IsoFields.QUARTER_YEARS) {
+            return new TemporalBucketer(amount, unit, zone, 0, 0, 0, Jdk8Methods.safeMultiply(amount, 3));
+        }
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case SECONDS:
+                case MINUTES:
+                case HOURS:
+                case HALF_DAYS: {
+                    long secs = Jdk8Methods.safeMultiply(unit.getDuration().getSeconds(), amount);
+                    if (secs > SECONDS_PER_DAY || SECONDS_PER_DAY % secs != 0) {
+                        throw new DateTimeException("Unit must divide into a standard day without remainder");
+                    }
+                    return new TemporalBucketer(amount, unit, zone, secs, 0, 0, 0);
+                }
+                case DAYS:
+                    return new TemporalBucketer(amount, unit, zone, 0, amount, 0, 0);
+                case WEEKS:
+                    // 1970-01-01 is a Thursday, three days after the start of its week
+                    return new TemporalBucketer(amount, unit, zone, 0, Jdk8Methods.safeMultiply(amount, 7), 3, 0);
+                case MONTHS:
+                    return new TemporalBucketer(amount, unit, zone, 0, 0, 0, amount);
+                case YEARS:
+                    return new TemporalBucketer(amount, unit, zone, 0, 0, 0, Jdk8Methods.safeMultiply(amount, 12));
+                case DECADES:
+                    return new TemporalBucketer(amount, unit, zone, 0, 0, 0, Jdk8Methods.safeMultiply(amount, 120));
+                case CENTURIES:
+                    return new TemporalBucketer(amount, unit, zone, 0, 0, 0, Jdk8Methods.safeMultiply(amount, 1200));
+                case MILLENNIA:
+                    return new TemporalBucketer(amount, unit, zone, 0, 0, 0, Jdk8Methods.safeMultiply(amount, 12000));
+                default:
+                    break;
+            }
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param amount  the number of units in each bucket
+     * @param unit  the unit, not null
+     * @param zone  the time-zone, not null
+     * @param seconds  the length of a time-based bucket, zero if not time-based
+     * @param days  the length of a day-based bucket, zero if not day-based
+     * @param dayShift  the days from the epoch-day to the start of a day-based bucket
+     * @param months  the length of a month-based bucket, zero if not month-based
+     */
+    private TemporalBucketer(long amount, TemporalUnit unit, ZoneId zone, long seconds, long days, int dayShift, long months) {
+        this.amount = amount;
+        this.unit = unit;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.seconds = seconds;
+        this.days = days;
+        this.dayShift = dayShift;
+        this.months = months;
+        List<ZoneOffsetTransition> trans = new ArrayList<ZoneOffsetTransition>();
+        if (rules.isFixedOffset()) {
+            // the table covers all instants
+            this.tableStart = Long.MIN_VALUE;
+            this.tableEnd = Long.MAX_VALUE;
+        } else {
+            this.tableStart = TABLE_START;
+            this.tableEnd = TABLE_END;
+            ZoneOffsetTransition next = rules.nextTransition(Instant.ofEpochSecond(TABLE_START - 1));
+            while (next != null && next.toEpochSecond() < TABLE_END) {
+                trans.add(next);
+                next = rules.nextTransition(next.getInstant());
+            }
+        }
+        this.transitions = new long[trans.size()];
+        this.offsets = new int[trans.size() + 1];
+        this.offsets[0] = rules.getOffset(Instant.ofEpochSecond(TABLE_START)).getTotalSeconds();
+        for (int i = 0; i < trans.size(); i++) {
+            transitions[i] = trans.get(i).toEpochSecond();
+            offsets[i + 1] = trans.get(i).getOffsetAfter().getTotalSeconds();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of units in each bucket.
+     *
+     * @return the amount, positive
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the unit of each bucket.
+     *
+     * @return the unit, not null
+     */
+    public TemporalUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Gets the time-zone used to find the local date-time.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the index of the bucket containing an instant.
+     *
+     * @param epochSecond  the epoch-second of the instant
+     * @return the bucket index
+     * @throws DateTimeException if the instant exceeds the supported date range
+     */
+    public long indexOf(long epochSecond) {
+        return localIndexOf(localSecond(epochSecond));
+    }
+
+    /**
+     * Gets the start of the bucket containing an instant.
+     *
+     * @param epochSecond  the epoch-second of the instant
+     * @return the epoch-second of the start of the bucket
+     * @throws DateTimeException if the instant exceeds the supported date range
+     */
+    public long startOf(long epochSecond) {
+        return startOfIndex(indexOf(epochSecond));
+    }
+
+    /**
+     * Gets the start of the bucket containing an instant.
+     *
+     * @param instant  the instant, not null
+     * @return the start of the bucket, not null
+     * @throws DateTimeException if the instant exceeds the supported date range
+     */
+    public Instant startOf(Instant instant) {
+        Jdk8Methods.requireNonNull(instant, "instant");
+        return Instant.ofEpochSecond(startOf(instant.getEpochSecond()));
+    }
+
+    /**
+     * Gets the start of the bucket with the specified index.
+     *
+     * @param index  the bucket index
+     * @return the epoch-second of the start of the bucket
+     * @throws DateTimeException if the bucket exceeds the supported date range
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    public long startOfIndex(long index) {
+        long localStart = localStartOfIndex(index);
+        EPOCH_DAY.checkValidValue(Jdk8Methods.floorDiv(localStart, SECONDS_PER_DAY));
+        return toEpochSecond(localStart);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the index of the bucket containing each of an array of instants.
+     *
+     * @param epochSeconds  the epoch-seconds of the instants, not null
+     * @param out  the array to store the bucket indices in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if an instant exceeds the supported date range
+     */
+    public void indexOf(long[] epochSeconds, long[] out) {
+        bulk(epochSeconds, out, false);
+    }
+
+    /**
+     * Gets the start of the bucket containing each of an array of instants.
+     * <p>
+     * The output array may be the same as the input array.
+     *
+     * @param epochSeconds  the epoch-seconds of the instants, not null
+     * @param out  the array to store the epoch-seconds of the bucket starts in,
+     *  at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if an instant exceeds the supported date range
+     */
+    public void startOf(long[] epochSeconds, long[] out) {
+        bulk(epochSeconds, out, true);
+    }
+
+    private void bulk(long[] epochSeconds, long[] out, boolean start) {
+        Jdk8Methods.requireNonNull(epochSeconds, "epochSeconds");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (out.length < epochSeconds.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        // the offset segment and bucket of the previous element, initially empty
+        long segmentStart = 0;
+        long segmentEnd = 0;
+        int offset = 0;
+        long bucketStart = 0;
+        long bucketEnd = 0;
+        long index = 0;
+        long indexStart = 0;
+        boolean indexStartValid = false;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSecond = epochSeconds[i];
+            if (epochSecond < segmentStart || epochSecond >= segmentEnd) {
+                int segment = segment(epochSecond);
+                if (segment < 0) {
+                    offset = rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+                    segmentStart = epochSecond;
+                    segmentEnd = epochSecond + 1;
+                } else {
+                    offset = offsets[segment];
+                    segmentStart = (segment == 0 ? tableStart : transitions[segment - 1]);
+                    segmentEnd = (segment == transitions.length ? tableEnd : transitions[segment]);
+                }
+            }
+            long localSecond = localSecond(epochSecond, offset);
+            if (localSecond < bucketStart || localSecond >= bucketEnd) {
+                index = localIndexOf(localSecond);
+                bucketStart = localStartOfIndex(index);
+                bucketEnd = localStartOfIndex(index + 1);
+                indexStartValid = false;
+            }
+            if (start) {
+                if (indexStartValid == false) {
+                    indexStart = toEpochSecond(bucketStart);
+                    indexStartValid = true;
+                }
+                out[i] = indexStart;
+            } else {
+                out[i] = index;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the segment of the transition table containing an instant.
+     *
+     * @param epochSecond  the epoch-second
+     * @return the index into the offsets, negative if outside the table
+     */
+    private int segment(long epochSecond) {
+        if (epochSecond < tableStart || epochSecond >= tableEnd) {
+            return -1;
+        }
+        int pos = Arrays.binarySearch(transitions, epochSecond);
+        return (pos >= 0 ? pos + 1 : -pos - 1);
+    }
+
+    /**
+     * Converts an epoch-second to a local epoch-second.
+     *
+     * @param epochSecond  the epoch-second
+     * @return the local epoch-second
+     */
+    private long localSecond(long epochSecond) {
+        int segment = segment(epochSecond);
+        int offset = (segment >= 0 ? offsets[segment] : rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds());
+        return localSecond(epochSecond, offset);
+    }
+
+    /**
+     * Converts an epoch-second to a local epoch-second, validating the result.
+     *
+     * @param epochSecond  the epoch-second
+     * @param offset  the offset in seconds
+     * @return the local epoch-second
+     */
+    private static long localSecond(long epochSecond, int offset) {
+        long localSecond = epochSecond + offset;
+        EPOCH_DAY.checkValidValue(Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY));
+        return localSecond;
+    }
+
+    /**
+     * Gets the index of the bucket containing a local epoch-second.
+     *
+     * @param localSecond  the local epoch-second, within the supported range
+     * @return the bucket index
+     */
+    private long localIndexOf(long localSecond) {
+        if (seconds > 0) {
+            return Jdk8Methods.floorDiv(localSecond, seconds);
+        }
+        long epochDay = Jdk8Methods.floorDiv(localSecond, SECONDS_PER_DAY);
+        if (days > 0) {
+            return Jdk8Methods.floorDiv(epochDay + dayShift, days);
+        }
+        long packed = LocalDate.packedOfEpochDay(epochDay);
+        long prolepticMonth = (packed >> 9) * 12 + ((packed >> 5) & 0x0F) - 1;
+        return Jdk8Methods.floorDiv(prolepticMonth, months);
+    }
+
+    /**
+     * Gets the local epoch-second of the start of a bucket.
+     *
+     * @param index  the bucket index
+     * @return the local epoch-second
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    private long localStartOfIndex(long index) {
+        if (seconds > 0) {
+            return Jdk8Methods.safeMultiply(index, seconds);
+        }
+        long epochDay;
+        if (days > 0) {
+            epochDay = Jdk8Methods.safeSubtract(Jdk8Methods.safeMultiply(index, days), dayShift);
+        } else {
+            long prolepticMonth = Jdk8Methods.safeMultiply(index, months);
+            int year = Jdk8Methods.safeToInt(Jdk8Methods.floorDiv(prolepticMonth, 12));
+            epochDay = LocalDate.toEpochDay(year, Jdk8Methods.floorMod(prolepticMonth, 12) + 1, 1);
+        }
+        return Jdk8Methods.safeMultiply(epochDay, SECONDS_PER_DAY);
+    }
+
+    /**
+     * Converts the local epoch-second of the start of a bucket to the earliest valid instant.
+     *
+     * @param localSecond  the local epoch-second, within the supported range
+     * @return the epoch-second
+     */
+    private long toEpochSecond(long localSecond) {
+        if (rules.isFixedOffset()) {
+            return localSecond - offsets[0];
+        }
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(ldt);
+        if (validOffsets.size() > 0) {
+            // in an overlap the first offset is the earlier one
+            return localSecond - validOffsets.get(0).getTotalSeconds();
+        }
+        return rules.getTransition(ldt).toEpochSecond();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this bucketer is equal to another bucketer.
+     * <p>
+     * The comparison is based on the amount, unit and zone.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other bucketer
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof TemporalBucketer) {
+            TemporalBucketer other = (TemporalBucketer) obj;
+            return amount == other.amount && unit.equals(other.unit) && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this bucketer.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((int) (amount ^ (amount >>> 32))) ^ unit.hashCode() ^ zone.hashCode();
+    }
+
+    /**
+     * Outputs this bucketer as a {@code String}, such as {@code 5 Minutes in Europe/Paris}.
+     *
+     * @return a string representation of this bucketer, not null
+     */
+    @Override
+    public String toString() {
+        return amount + " " + unit + " in " + zone;
+    }
+
+}
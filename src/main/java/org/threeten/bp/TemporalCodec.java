@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * A binary codec for the core date-time types that writes directly to a
+ * {@code DataOutput} without the overhead of Java serialization.
+ * <p>
+ * The tagged methods, {@link #write(Object, DataOutput)} and {@link #read(DataInput)},
+ * use the same format as the Java serialization of each type, minus the
+ * {@code ObjectOutputStream} stream header and class descriptor.
+ * The typed methods, such as {@link #writeLocalDate(LocalDate, DataOutput)},
+ * omit the leading type byte, so the reader must know the type that was written.
+ * <p>
+ * Region-based zone IDs are written in full the first time they are seen and as a
+ * two byte back-reference thereafter. As such, the same codec instance must be used
+ * to read a stream as was used to write it, processing the values in the same order.
+ * Calling {@link #reset()} on both sides discards the table.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe.
+ * A new instance should be used for each stream.
+ */
+public final class TemporalCodec {
+
+    /**
+     * The maximum number of zone IDs in the table.
+     */
+    private static final int MAX_ZONES = 0xFFFF;
+
+    /**
+     * The zone ID indices that have been written.
+     */
+    private final Map<String, Integer> writtenZones = new HashMap<String, Integer>();
+    /**
+     * The zone IDs that have been read.
+     */
+    private final List<ZoneId> readZones = new ArrayList<ZoneId>();
+
+    /**
+     * Constructs a new codec with an empty zone table.
+     */
+    public TemporalCodec() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Clears the zone table.
+     * <p>
+     * This must be called at the same point in the stream by both the writer and the reader.
+     */
+    public void reset() {
+        writtenZones.clear();
+        readZones.clear();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a value preceded by a byte identifying its type.
+     * <p>
+     * The supported types are {@link Duration}, {@link Instant}, {@link LocalDate},
+     * {@link LocalDateTime}, {@link LocalTime}, {@link MonthDay}, {@link OffsetDateTime},
+     * {@link OffsetTime}, {@link Year}, {@link YearMonth}, {@link ZonedDateTime} and {@link ZoneId}.
+     *
+     * @param value  the value to write, not null
+     * @param out  the output to write to, not null
+     * @throws IllegalArgumentException if the type is not supported
+     * @throws IOException if an error occurs writing
+     */
+    public void write(Object value, DataOutput out) throws IOException {
+        Jdk8Methods.requireNonNull(value, "value");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (value instanceof ZonedDateTime) {
+            out.writeByte(Ser.ZONED_DATE_TIME_TYPE);
+            writeZonedDateTime((ZonedDateTime) value, out);
+        } else if (value instanceof ZoneId) {
+            writeZoneId((ZoneId) value, out);
+        } else {
+            Ser.writeInternal(typeOf(value), value, out);
+        }
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof Instant) {
+            return Ser.INSTANT_TYPE;
+        } else if (value instanceof LocalDate) {
+            return Ser.LOCAL_DATE_TYPE;
+        } else if (value instanceof LocalDateTime) {
+            return Ser.LOCAL_DATE_TIME_TYPE;
+        } else if (value instanceof LocalTime) {
+            return Ser.LOCAL_TIME_TYPE;
+        } else if (value instanceof OffsetDateTime) {
+            return Ser.OFFSET_DATE_TIME_TYPE;
+        } else if (value instanceof Duration) {
+            return Ser.DURATION_TYPE;
+        } else if (value instanceof OffsetTime) {
+            return Ser.OFFSET_TIME_TYPE;
+        } else if (value instanceof Year) {
+            return Ser.YEAR_TYPE;
+        } else if (value instanceof YearMonth) {
+            return Ser.YEAR_MONTH_TYPE;
+        } else if (value instanceof MonthDay) {
+            return Ser.MONTH_DAY_TYPE;
+        }
+        throw new IllegalArgumentException("Unsupported type: " + value.getClass().getName());
+    }
+
+    /**
+     * Reads a value written by {@link #write(Object, DataOutput)}.
+     * <p>
+     * This can also read the output of Java serialization for a type in this package
+     * once the stream header and class descriptor have been skipped.
+     *
+     * @param in  the input to read from, not null
+     * @return the value, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public Object read(DataInput in) throws IOException {
+        Jdk8Methods.requireNonNull(in, "in");
+        byte type = in.readByte();
+        switch (type) {
+            case Ser.ZONED_DATE_TIME_TYPE:
+                return readZonedDateTime(in);
+            case Ser.ZONE_REGION_TYPE:
+            case Ser.ZONE_REGION_REF_TYPE:
+            case Ser.ZONE_OFFSET_TYPE:
+                return readZoneId(type, in);
+            default:
+                return readValid(type, in);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a {@code LocalDate} without a type byte.
+     *
+     * @param date  the date to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeLocalDate(LocalDate date, DataOutput out) throws IOException {
+        date.writeExternal(out);
+    }
+
+    /**
+     * Reads a {@code LocalDate} written by {@link #writeLocalDate(LocalDate, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the date, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public LocalDate readLocalDate(DataInput in) throws IOException {
+        return (LocalDate) readValid(Ser.LOCAL_DATE_TYPE, in);
+    }
+
+    /**
+     * Writes a {@code LocalTime} without a type byte.
+     *
+     * @param time  the time to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeLocalTime(LocalTime time, DataOutput out) throws IOException {
+        time.writeExternal(out);
+    }
+
+    /**
+     * Reads a {@code LocalTime} written by {@link #writeLocalTime(LocalTime, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the time, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public LocalTime readLocalTime(DataInput in) throws IOException {
+        return (LocalTime) readValid(Ser.LOCAL_TIME_TYPE, in);
+    }
+
+    /**
+     * Writes a {@code LocalDateTime} without a type byte.
+     *
+     * @param dateTime  the date-time to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeLocalDateTime(LocalDateTime dateTime, DataOutput out) throws IOException {
+        dateTime.writeExternal(out);
+    }
+
+    /**
+     * Reads a {@code LocalDateTime} written by {@link #writeLocalDateTime(LocalDateTime, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the date-time, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public LocalDateTime readLocalDateTime(DataInput in) throws IOException {
+        return (LocalDateTime) readValid(Ser.LOCAL_DATE_TIME_TYPE, in);
+    }
+
+    /**
+     * Writes an {@code Instant} without a type byte.
+     *
+     * @param instant  the instant to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeInstant(Instant instant, DataOutput out) throws IOException {
+        instant.writeExternal(out);
+    }
+
+    /**
+     * Reads an {@code Instant} written by {@link #writeInstant(Instant, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the instant, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public Instant readInstant(DataInput in) throws IOException {
+        return (Instant) readValid(Ser.INSTANT_TYPE, in);
+    }
+
+    /**
+     * Writes an {@code OffsetDateTime} without a type byte.
+     *
+     * @param dateTime  the date-time to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeOffsetDateTime(OffsetDateTime dateTime, DataOutput out) throws IOException {
+        dateTime.writeExternal(out);
+    }
+
+    /**
+     * Reads an {@code OffsetDateTime} written by {@link #writeOffsetDateTime(OffsetDateTime, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the date-time, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public OffsetDateTime readOffsetDateTime(DataInput in) throws IOException {
+        return (OffsetDateTime) readValid(Ser.OFFSET_DATE_TIME_TYPE, in);
+    }
+
+    /**
+     * Writes a {@code Duration} without a type byte.
+     *
+     * @param duration  the duration to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeDuration(Duration duration, DataOutput out) throws IOException {
+        duration.writeExternal(out);
+    }
+
+    /**
+     * Reads a {@code Duration} written by {@link #writeDuration(Duration, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the duration, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public Duration readDuration(DataInput in) throws IOException {
+        return (Duration) readValid(Ser.DURATION_TYPE, in);
+    }
+
+    /**
+     * Writes a {@code ZonedDateTime} without a type byte.
+     * <p>
+     * The zone ID is written using the zone table.
+     *
+     * @param dateTime  the date-time to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeZonedDateTime(ZonedDateTime dateTime, DataOutput out) throws IOException {
+        dateTime.toLocalDateTime().writeExternal(out);
+        dateTime.getOffset().writeExternal(out);
+        writeZoneId(dateTime.getZone(), out);
+    }
+
+    /**
+     * Reads a {@code ZonedDateTime} written by {@link #writeZonedDateTime(ZonedDateTime, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the date-time, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public ZonedDateTime readZonedDateTime(DataInput in) throws IOException {
+        try {
+            LocalDateTime dateTime = LocalDateTime.readExternal(in);
+            ZoneOffset offset = ZoneOffset.readExternal(in);
+            ZoneId zone = readZoneId(in.readByte(), in);
+            return ZonedDateTime.ofLenient(dateTime, offset, zone);
+        } catch (DateTimeException ex) {
+            throw invalid(ex);
+        }
+    }
+
+    /**
+     * Writes a {@code ZoneId}.
+     * <p>
+     * A region-based ID is written in full the first time it is seen and
+     * as a reference into the zone table thereafter.
+     *
+     * @param zone  the zone to write, not null
+     * @param out  the output to write to, not null
+     * @throws IOException if an error occurs writing
+     */
+    public void writeZoneId(ZoneId zone, DataOutput out) throws IOException {
+        if (zone instanceof ZoneRegion) {
+            Integer index = writtenZones.get(zone.getId());
+            if (index != null) {
+                out.writeByte(Ser.ZONE_REGION_REF_TYPE);
+                out.writeShort(index);
+                return;
+            }
+            if (writtenZones.size() < MAX_ZONES) {
+                writtenZones.put(zone.getId(), writtenZones.size());
+            }
+        }
+        zone.write(out);
+    }
+
+    /**
+     * Reads a {@code ZoneId} written by {@link #writeZoneId(ZoneId, DataOutput)}.
+     *
+     * @param in  the input to read from, not null
+     * @return the zone, not null
+     * @throws IOException if an error occurs reading or the stream is invalid
+     */
+    public ZoneId readZoneId(DataInput in) throws IOException {
+        return readZoneId(in.readByte(), in);
+    }
+
+    private ZoneId readZoneId(byte type, DataInput in) throws IOException {
+        switch (type) {
+            case Ser.ZONE_OFFSET_TYPE:
+                return ZoneOffset.readExternal(in);
+            case Ser.ZONE_REGION_TYPE: {
+                ZoneId zone = readRegion(in);
+                if (readZones.size() < MAX_ZONES) {
+                    readZones.add(zone);
+                }
+                return zone;
+            }
+            case Ser.ZONE_REGION_REF_TYPE: {
+                int index = in.readUnsignedShort();
+                if (index >= readZones.size()) {
+                    throw new StreamCorruptedException("Invalid zone reference: " + index);
+                }
+                return readZones.get(index);
+            }
+            default:
+                throw new StreamCorruptedException("Invalid zone type: " + type);
+        }
+    }
+
+    private static ZoneId readRegion(DataInput in) throws IOException {
+        try {
+            return ZoneRegion.readExternal(in);
+        } catch (DateTimeException ex) {
+            throw invalid(ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static Object readValid(byte type, DataInput in) throws IOException {
+        try {
+            return Ser.readInternal(type, in);
+        } catch (DateTimeException ex) {
+            throw invalid(ex);
+        }
+    }
+
+    private static StreamCorruptedException invalid(DateTimeException ex) {
+        StreamCorruptedException corrupt = new StreamCorruptedException(ex.getMessage());
+        corrupt.initCause(ex);
+        return corrupt;
+    }
+
+}
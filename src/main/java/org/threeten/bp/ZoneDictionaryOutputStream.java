@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+/**
+ * An object output stream that writes the region ID of each {@link ZonedDateTime}
+ * only once per stream.
+ * <p>
+ * By default, a serialized {@code ZonedDateTime} writes its region ID in full every time.
+ * This stream instead writes the ID as a shared object, thus each distinct ID is written
+ * once and a back-reference handle is written thereafter, until the stream is reset.
+ * This is useful when writing many date-times in a small number of zones.
+ * <p>
+ * The output can be read by a standard {@code ObjectInputStream}, but not by versions
+ * of this library earlier than the one containing this class. Other streams are unaffected,
+ * so the format is only used where the writer has chosen it.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is mutable and not thread-safe, as per {@code ObjectOutputStream}.
+ */
+public final class ZoneDictionaryOutputStream extends ObjectOutputStream {
+
+    /**
+     * Creates a stream writing to the specified output stream.
+     *
+     * @param out  the output stream to write to, not null
+     * @throws IOException if an error occurs writing the stream header
+     * @throws SecurityException if a security manager denies enabling object replacement
+     */
+    public ZoneDictionaryOutputStream(OutputStream out) throws IOException {
+        super(out);
+        enableReplaceObject(true);
+    }
+
+    /**
+     * Replaces the serialized form of a {@code ZonedDateTime} with one that shares the region ID.
+     *
+     * @param obj  the object to be replaced
+     * @return the object to write
+     */
+    @Override
+    protected Object replaceObject(Object obj) {
+        if (obj instanceof Ser) {
+            return ((Ser) obj).withSharedZone();
+        }
+        return obj;
+    }
+
+}
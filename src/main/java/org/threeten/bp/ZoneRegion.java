@@ -37,6 +37,8 @@ import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.threeten.bp.jdk8.Jdk8Methods;
@@ -72,6 +74,16 @@ final class ZoneRegion extends ZoneId implements Serializable {
      * The regex pattern for region IDs.
      */
     private static final Pattern PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9~/._+-]+");
+    /**
+     * The maximum number of canonical instances.
+     */
+    private static final int MAX_CANONICAL = 1024;
+    /**
+     * The canonical instances used by serialization, keyed by ID.
+     * Only regions with rules are cached. Each entry holds the rules resolved when it was
+     * created, and is replaced once {@link ZoneRulesProvider#refresh()} has updated the rules.
+     */
+    private static final ConcurrentMap<String, Canonical> CANONICAL = new ConcurrentHashMap<String, Canonical>(64, 0.75f, 2);
 
     /**
      * The time-zone ID, not null.
@@ -152,6 +164,35 @@ final class ZoneRegion extends ZoneId implements Serializable {
         return new ZoneRegion(zoneId, rules);
     }
 
+    /**
+     * Obtains the canonical instance of {@code ZoneId} for an identifier read from a stream.
+     * <p>
+     * This avoids the format check and rules lookup when the same ID is read repeatedly.
+     *
+     * @param zoneId  the time-zone ID, not null
+     * @return the zone ID, not null
+     * @throws DateTimeException if the ID format is invalid
+     */
+    static ZoneRegion ofCanonical(String zoneId) {
+        return ofCanonical(zoneId, ZoneRulesProvider.getRefreshCount());
+    }
+
+    /**
+     * Obtains the canonical instance of {@code ZoneId} for an identifier and refresh count.
+     *
+     * @param zoneId  the time-zone ID, not null
+     * @param refreshCount  the current refresh count of the rules provider
+     * @return the zone ID, not null
+     * @throws DateTimeException if the ID format is invalid
+     */
+    static ZoneRegion ofCanonical(String zoneId, int refreshCount) {
+        Canonical cached = CANONICAL.get(zoneId);
+        if (cached != null && cached.refreshCount == refreshCount) {
+            return cached.region;
+        }
+        return ofLenient(zoneId).canonical(refreshCount);
+    }
+
     //-------------------------------------------------------------------------
     /**
      * Constructor.
@@ -177,6 +218,59 @@ final class ZoneRegion extends ZoneId implements Serializable {
         return (rules != null ? rules : ZoneRulesProvider.getRules(id, false));
     }
 
+    /**
+     * Gets the ID of the canonical instance equal to this one.
+     * <p>
+     * The same {@code String} instance is returned for equal regions,
+     * allowing it to be written as a shared object.
+     *
+     * @return the canonical ID, not null
+     */
+    String canonicalId() {
+        return ofCanonical(id).id;
+    }
+
+    /**
+     * Gets the canonical instance equal to this one, caching this instance if there is none.
+     * <p>
+     * This must only be called on an instance whose rules were resolved at the specified refresh count.
+     *
+     * @param refreshCount  the current refresh count of the rules provider
+     * @return the canonical instance, not null
+     */
+    private ZoneRegion canonical(int refreshCount) {
+        Canonical cached = CANONICAL.get(id);
+        if (cached != null && cached.refreshCount == refreshCount) {
+            return cached.region;
+        }
+        if (rules == null || (cached == null && CANONICAL.size() >= MAX_CANONICAL)) {
+            return this;
+        }
+        Canonical created = new Canonical(this, refreshCount);
+        if (cached == null) {
+            cached = CANONICAL.putIfAbsent(id, created);
+            if (cached != null && cached.refreshCount == refreshCount) {
+                return cached.region;
+            }
+        } else {
+            CANONICAL.replace(id, cached, created);
+        }
+        return this;
+    }
+
+    /**
+     * A canonical region, with the refresh count at which its rules were resolved.
+     */
+    private static final class Canonical {
+        private final ZoneRegion region;
+        private final int refreshCount;
+
+        private Canonical(ZoneRegion region, int refreshCount) {
+            this.region = region;
+            this.refreshCount = refreshCount;
+        }
+    }
+
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.ZONE_REGION_TYPE, this);
@@ -203,7 +297,7 @@ final class ZoneRegion extends ZoneId implements Serializable {
 
     static ZoneId readExternal(DataInput in) throws IOException {
         String id = in.readUTF();
-        return ofLenient(id);
+        return ofCanonical(id);
     }
 
 }
@@ -39,8 +39,11 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.List;
 
 import org.threeten.bp.chrono.ChronoZonedDateTime;
@@ -200,7 +203,13 @@ public final class ZonedDateTime
     public static ZonedDateTime now(Clock clock) {
         Jdk8Methods.requireNonNull(clock, "clock");
         final Instant now = clock.instant();  // called once
-        return ofInstant(now, clock.getZone());
+        ZoneId zone = clock.getZone();
+        Clock.DaySnapshot snapshot = Clock.DaySnapshot.of(zone, now);
+        if (snapshot.date != null) {
+            LocalDateTime ldt = LocalDateTime.of(snapshot.date, snapshot.toLocalTime(now));
+            return new ZonedDateTime(ldt, snapshot.offset, zone);
+        }
+        return ofInstant(now, zone);
     }
 
     //-----------------------------------------------------------------------
@@ -478,7 +487,7 @@ public final class ZonedDateTime
      * @param zone  the time-zone, not null
      * @return the zoned date-time, not null
      */
-    private static ZonedDateTime ofLenient(LocalDateTime localDateTime, ZoneOffset offset, ZoneId zone) {
+    static ZonedDateTime ofLenient(LocalDateTime localDateTime, ZoneOffset offset, ZoneId zone) {
         Jdk8Methods.requireNonNull(localDateTime, "localDateTime");
         Jdk8Methods.requireNonNull(offset, "offset");
         Jdk8Methods.requireNonNull(zone, "zone");
@@ -2123,4 +2132,40 @@ public final class ZonedDateTime
         return ZonedDateTime.ofLenient(dateTime, offset, zone);
     }
 
+    void writeExternalShared(ObjectOutput out) throws IOException {
+        dateTime.writeExternal(out);
+        offset.writeExternal(out);
+        if (zone instanceof ZoneRegion) {
+            // the canonical ID string allows the stream to write a back-reference
+            out.writeByte(Ser.ZONE_REGION_TYPE);
+            out.writeObject(((ZoneRegion) zone).canonicalId());
+        } else {
+            zone.write(out);
+        }
+    }
+
+    static ZonedDateTime readExternalShared(ObjectInput in) throws IOException {
+        LocalDateTime dateTime = LocalDateTime.readExternal(in);
+        ZoneOffset offset = ZoneOffset.readExternal(in);
+        byte type = in.readByte();
+        ZoneId zone;
+        if (type == Ser.ZONE_REGION_TYPE) {
+            Object id;
+            try {
+                id = in.readObject();
+            } catch (ClassNotFoundException ex) {
+                throw new StreamCorruptedException("Invalid zone ID");
+            }
+            if (id instanceof String == false) {
+                throw new StreamCorruptedException("Invalid zone ID");
+            }
+            zone = ZoneRegion.ofCanonical((String) id);
+        } else if (type == Ser.ZONE_OFFSET_TYPE) {
+            zone = ZoneOffset.readExternal(in);
+        } else {
+            throw new StreamCorruptedException("Invalid zone type");
+        }
+        return ZonedDateTime.ofLenient(dateTime, offset, zone);
+    }
+
 }
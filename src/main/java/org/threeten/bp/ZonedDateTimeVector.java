@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.threeten.bp.LocalTime.NANOS_PER_SECOND;
+import static org.threeten.bp.LocalTime.SECONDS_PER_DAY;
+import static org.threeten.bp.LocalTime.SECONDS_PER_HOUR;
+import static org.threeten.bp.LocalTime.SECONDS_PER_MINUTE;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+import org.threeten.bp.zone.ZoneRules;
+
+/**
+ * An immutable vector of date-times sharing a single time-zone, stored as primitive values.
+ * <p>
+ * This holds a sequence of date-times as an {@link InstantVector} and a shared {@link ZoneId},
+ * avoiding the memory cost of an array of {@link ZonedDateTime} objects.
+ * Each element is equivalent to {@code ZonedDateTime.ofInstant(instant, zone)}.
+ * <p>
+ * Bulk operations have the same behavior as the equivalent method on {@code ZonedDateTime}.
+ * Where the zone has a fixed offset they work directly on the primitive values,
+ * otherwise the zone rules are consulted for each element.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class ZonedDateTimeVector {
+
+    /**
+     * The instants.
+     */
+    private final InstantVector instants;
+    /**
+     * The time-zone.
+     */
+    private final ZoneId zone;
+    /**
+     * The zone rules.
+     */
+    private final ZoneRules rules;
+    /**
+     * The fixed offset, null if the rules are not fixed.
+     */
+    private final ZoneOffset fixedOffset;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a vector from a time-zone and a vector of instants.
+     *
+     * @param zone  the time-zone, not null
+     * @param instants  the instants, not null
+     * @return the vector, not null
+     */
+    public static ZonedDateTimeVector of(ZoneId zone, InstantVector instants) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        Jdk8Methods.requireNonNull(instants, "instants");
+        return new ZonedDateTimeVector(instants, zone);
+    }
+
+    /**
+     * Obtains a vector from a time-zone and an array of date-times.
+     * <p>
+     * Each date-time is converted to the specified zone retaining the instant,
+     * as per {@link ZonedDateTime#withZoneSameInstant(ZoneId)}. The zone and offset
+     * of each date-time are not retained, thus the element at each index of the vector
+     * may have a different local date-time to the date-time passed in.
+     *
+     * @param zone  the time-zone, not null
+     * @param dateTimes  the date-times, not null, no nulls
+     * @return the vector, not null
+     */
+    public static ZonedDateTimeVector of(ZoneId zone, ZonedDateTime... dateTimes) {
+        Jdk8Methods.requireNonNull(zone, "zone");
+        Jdk8Methods.requireNonNull(dateTimes, "dateTimes");
+        long[] seconds = new long[dateTimes.length];
+        int[] nanos = new int[dateTimes.length];
+        for (int i = 0; i < dateTimes.length; i++) {
+            ZonedDateTime zdt = Jdk8Methods.requireNonNull(dateTimes[i], "dateTime");
+            seconds[i] = zdt.toEpochSecond();
+            nanos[i] = zdt.getNano();
+        }
+        return new ZonedDateTimeVector(new InstantVector(seconds, nanos), zone);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param instants  the instants, not null
+     * @param zone  the time-zone, not null
+     */
+    private ZonedDateTimeVector(InstantVector instants, ZoneId zone) {
+        this.instants = instants;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixedOffset = (rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the time-zone shared by all the date-times.
+     *
+     * @return the time-zone, not null
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the number of date-times in the vector.
+     *
+     * @return the size
+     */
+    public int size() {
+        return instants.size();
+    }
+
+    /**
+     * Gets the date-time at the specified index.
+     *
+     * @param index  the index, zero-based
+     * @return the date-time, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public ZonedDateTime get(int index) {
+        return ZonedDateTime.ofInstant(instants.get(index), zone);
+    }
+
+    /**
+     * Converts this vector to a vector of instants.
+     *
+     * @return the instants, not null
+     */
+    public InstantVector toInstantVector() {
+        return instants;
+    }
+
+    /**
+     * Converts this vector to a vector of the local dates.
+     *
+     * @return the local dates, not null
+     * @throws DateTimeException if a local epoch-day does not fit in an {@code int}
+     */
+    public LocalDateVector toLocalDateVector() {
+        int size = instants.size();
+        int[] epochDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            long epochDay = Jdk8Methods.floorDiv(localSecond(i), SECONDS_PER_DAY);
+            if (epochDay != (int) epochDay) {
+                throw new DateTimeException("Epoch-day out of range for LocalDateVector: " + epochDay);
+            }
+            epochDays[i] = (int) epochDay;
+        }
+        return new LocalDateVector(epochDays);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from every date-time.
+     * <p>
+     * The time fields {@code NANO_OF_SECOND}, {@code SECOND_OF_MINUTE}, {@code SECOND_OF_DAY},
+     * {@code MINUTE_OF_HOUR}, {@code MINUTE_OF_DAY}, {@code HOUR_OF_DAY} and {@code OFFSET_SECONDS}
+     * are calculated directly. Date-based fields are calculated as per
+     * {@link LocalDateVector#get(ChronoField)}. Other fields are obtained from
+     * {@link ZonedDateTime#get(org.threeten.bp.temporal.TemporalField)}.
+     *
+     * @param field  the field to extract, not null
+     * @return the array of values, one for each date-time, not null
+     * @throws UnsupportedTemporalTypeException if the field cannot be obtained as an {@code int}
+     */
+    public int[] get(ChronoField field) {
+        Jdk8Methods.requireNonNull(field, "field");
+        if (field.isDateBased()) {
+            return toLocalDateVector().get(field);
+        }
+        int size = instants.size();
+        int[] result = new int[size];
+        switch (field) {
+            case NANO_OF_SECOND:
+                for (int i = 0; i < size; i++) {
+                    result[i] = instants.getNano(i);
+                }
+                return result;
+            case OFFSET_SECONDS:
+                for (int i = 0; i < size; i++) {
+                    result[i] = offsetSeconds(instants.getEpochSecond(i));
+                }
+                return result;
+            case SECOND_OF_MINUTE:
+            case SECOND_OF_DAY:
+            case MINUTE_OF_HOUR:
+            case MINUTE_OF_DAY:
+            case HOUR_OF_DAY:
+                for (int i = 0; i < size; i++) {
+                    int secsOfDay = Jdk8Methods.floorMod(localSecond(i), SECONDS_PER_DAY);
+                    switch (field) {
+                        case SECOND_OF_MINUTE: result[i] = secsOfDay % SECONDS_PER_MINUTE; break;
+                        case SECOND_OF_DAY: result[i] = secsOfDay; break;
+                        case MINUTE_OF_HOUR: result[i] = (secsOfDay / SECONDS_PER_MINUTE) % 60; break;
+                        case MINUTE_OF_DAY: result[i] = secsOfDay / SECONDS_PER_MINUTE; break;
+                        default: result[i] = secsOfDay / SECONDS_PER_HOUR; break;
+                    }
+                }
+                return result;
+            default:
+                for (int i = 0; i < size; i++) {
+                    result[i] = get(i).get(field);
+                }
+                return result;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the specified number of days added to every date-time.
+     * <p>
+     * This has the same behavior as {@link ZonedDateTime#plusDays(long)},
+     * operating on the local time-line.
+     *
+     * @param days  the days to add, may be negative
+     * @return a vector based on this one with the days added, not null
+     * @throws DateTimeException if a result exceeds the supported date range
+     */
+    public ZonedDateTimeVector plusDays(long days) {
+        if (days == 0) {
+            return this;
+        }
+        if (fixedOffset != null) {
+            return withInstants(instants.plusSeconds(Jdk8Methods.safeMultiply(days, SECONDS_PER_DAY)));
+        }
+        int size = instants.size();
+        long[] seconds = new long[size];
+        int[] nanos = new int[size];
+        for (int i = 0; i < size; i++) {
+            ZonedDateTime zdt = get(i).plusDays(days);
+            seconds[i] = zdt.toEpochSecond();
+            nanos[i] = zdt.getNano();
+        }
+        return withInstants(new InstantVector(seconds, nanos));
+    }
+
+    /**
+     * Returns a copy of this vector with the specified number of seconds added to every date-time.
+     * <p>
+     * This has the same behavior as {@link ZonedDateTime#plusSeconds(long)},
+     * operating on the instant time-line.
+     *
+     * @param seconds  the seconds to add, may be negative
+     * @return a vector based on this one with the seconds added, not null
+     * @throws DateTimeException if a result exceeds the supported date range
+     */
+    public ZonedDateTimeVector plusSeconds(long seconds) {
+        return withInstants(instants.plusSeconds(seconds));
+    }
+
+    /**
+     * Returns a copy of this vector with every date-time truncated to the specified unit.
+     * <p>
+     * This has the same behavior as {@link ZonedDateTime#truncatedTo(TemporalUnit)},
+     * truncating the local date-time and resolving it using the zone rules.
+     *
+     * @param unit  the unit to truncate to, not null
+     * @return a vector based on this one with the date-times truncated, not null
+     * @throws DateTimeException if unable to truncate
+     */
+    public ZonedDateTimeVector truncatedTo(TemporalUnit unit) {
+        Jdk8Methods.requireNonNull(unit, "unit");
+        if (unit == ChronoUnit.NANOS) {
+            return this;
+        }
+        long dur = InstantVector.truncationNanos(unit);
+        int size = instants.size();
+        long[] seconds = new long[size];
+        int[] nanos = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (fixedOffset != null) {
+                // truncation on the local time-line is the same as on the instant time-line offset
+                long local = localSecond(i);
+                long secsOfDay = Jdk8Methods.floorMod(local, SECONDS_PER_DAY);
+                long truncated = ((secsOfDay * NANOS_PER_SECOND + instants.getNano(i)) / dur) * dur;
+                seconds[i] = local - secsOfDay + truncated / NANOS_PER_SECOND - fixedOffset.getTotalSeconds();
+                nanos[i] = (int) (truncated % NANOS_PER_SECOND);
+            } else {
+                ZonedDateTime zdt = get(i).truncatedTo(unit);
+                seconds[i] = zdt.toEpochSecond();
+                nanos[i] = zdt.getNano();
+            }
+        }
+        return withInstants(new InstantVector(seconds, nanos));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this vector with the date-times sorted, from earliest to latest.
+     *
+     * @return a sorted vector, not null
+     */
+    public ZonedDateTimeVector sorted() {
+        return withInstants(instants.sorted());
+    }
+
+    /**
+     * Searches this sorted vector for the specified instant using binary search.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     *
+     * @param instant  the instant to search for, not null
+     * @return the index of the instant, if present, otherwise {@code (-(insertion point) - 1)}
+     * @see InstantVector#binarySearch(Instant)
+     */
+    public int binarySearch(Instant instant) {
+        return instants.binarySearch(instant);
+    }
+
+    /**
+     * Returns the part of this sorted vector within the specified range of instants.
+     * <p>
+     * The vector must be sorted, otherwise the result is undefined.
+     *
+     * @param startInclusive  the start instant, inclusive, not null
+     * @param endExclusive  the end instant, exclusive, not null
+     * @return the date-times in the range, not null
+     * @see InstantVector#range(Instant, Instant)
+     */
+    public ZonedDateTimeVector range(Instant startInclusive, Instant endExclusive) {
+        return withInstants(instants.range(startInclusive, endExclusive));
+    }
+
+    //-----------------------------------------------------------------------
+    private ZonedDateTimeVector withInstants(InstantVector newInstants) {
+        return (newInstants == instants ? this : new ZonedDateTimeVector(newInstants, zone));
+    }
+
+    private long localSecond(int index) {
+        long epochSecond = instants.getEpochSecond(index);
+        return epochSecond + offsetSeconds(epochSecond);
+    }
+
+    private int offsetSeconds(long epochSecond) {
+        if (fixedOffset != null) {
+            return fixedOffset.getTotalSeconds();
+        }
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if this vector is equal to another vector.
+     * <p>
+     * The comparison is based on the instants and the zone.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other vector
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof ZonedDateTimeVector) {
+            ZonedDateTimeVector other = (ZonedDateTimeVector) obj;
+            return instants.equals(other.instants) && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this vector.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return instants.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    /**
+     * Outputs this vector as a {@code String}, such as {@code [2007-12-03T10:15:30+01:00[Europe/Paris]]}.
+     *
+     * @return a string representation of this vector, not null
+     */
+    @Override
+    public String toString() {
+        int size = instants.size();
+        StringBuilder buf = new StringBuilder(size * 40 + 2);
+        buf.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(get(i));
+        }
+        return buf.append(']').toString();
+    }
+
+}
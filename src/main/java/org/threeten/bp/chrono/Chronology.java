@@ -151,13 +151,13 @@ public abstract class Chronology implements Comparable<Chronology> {
     };
 
     /**
-     * Map of available calendars by ID.
+     * Map of calendars by locale, caching the result of {@link #ofLocale(Locale)}.
      */
-    private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_ID = new ConcurrentHashMap<String, Chronology>();
+    private static final ConcurrentHashMap<Locale, Chronology> CHRONOS_BY_LOCALE = new ConcurrentHashMap<Locale, Chronology>(16, 0.75f, 2);
     /**
-     * Map of available calendars by calendar type.
+     * The maximum number of locales to cache.
      */
-    private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_TYPE = new ConcurrentHashMap<String, Chronology>();
+    private static final int MAX_CACHED_LOCALES = 1024;
     /**
      * Access JDK 7 method if on JDK 7.
      */
@@ -237,8 +237,18 @@ public abstract class Chronology implements Comparable<Chronology> {
      * @throws DateTimeException if the locale-specified calendar cannot be found
      */
     public static Chronology ofLocale(Locale locale) {
-        init();
         Jdk8Methods.requireNonNull(locale, "locale");
+        Chronology chrono = CHRONOS_BY_LOCALE.get(locale);
+        if (chrono == null) {
+            chrono = lookupLocale(locale);
+            if (CHRONOS_BY_LOCALE.size() < MAX_CACHED_LOCALES) {
+                CHRONOS_BY_LOCALE.putIfAbsent(locale, chrono);
+            }
+        }
+        return chrono;
+    }
+
+    private static Chronology lookupLocale(Locale locale) {
         String type = "iso";
         if (LOCALE_METHOD != null) {
             // JDK 7: locale.getUnicodeLocaleType("ca");
@@ -257,7 +267,7 @@ public abstract class Chronology implements Comparable<Chronology> {
         if (type == null || "iso".equals(type) || "iso8601".equals(type)) {
             return IsoChronology.INSTANCE;
         } else {
-            Chronology chrono = CHRONOS_BY_TYPE.get(type);
+            Chronology chrono = Registry.CHRONOS_BY_TYPE.get(type);
             if (chrono == null) {
                 throw new DateTimeException("Unknown calendar system: " + type);
             }
@@ -286,12 +296,11 @@ public abstract class Chronology implements Comparable<Chronology> {
      * @throws DateTimeException if the chronology cannot be found
      */
     public static Chronology of(String id) {
-        init();
-        Chronology chrono = CHRONOS_BY_ID.get(id);
+        Chronology chrono = Registry.CHRONOS_BY_ID.get(id);
         if (chrono != null) {
             return chrono;
         }
-        chrono = CHRONOS_BY_TYPE.get(id);
+        chrono = Registry.CHRONOS_BY_TYPE.get(id);
         if (chrono != null) {
             return chrono;
         }
@@ -306,12 +315,26 @@ public abstract class Chronology implements Comparable<Chronology> {
      * @return the independent, modifiable set of the available chronology IDs, not null
      */
     public static Set<Chronology> getAvailableChronologies() {
-        init();
-        return new HashSet<Chronology>(CHRONOS_BY_ID.values());
+        return new HashSet<Chronology>(Registry.CHRONOS_BY_ID.values());
     }
 
-    private static void init() {
-        if (CHRONOS_BY_ID.isEmpty()) {
+    /**
+     * The registry of available calendars.
+     * <p>
+     * This is populated exactly once, by class initialization on first use,
+     * and is only read thereafter.
+     */
+    private static final class Registry {
+        /**
+         * Map of available calendars by ID.
+         */
+        static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_ID = new ConcurrentHashMap<String, Chronology>();
+        /**
+         * Map of available calendars by calendar type.
+         */
+        static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_TYPE = new ConcurrentHashMap<String, Chronology>();
+
+        static {
             register(IsoChronology.INSTANCE);
             register(ThaiBuddhistChronology.INSTANCE);
             register(MinguoChronology.INSTANCE);
@@ -321,20 +344,16 @@ public abstract class Chronology implements Comparable<Chronology> {
             CHRONOS_BY_TYPE.putIfAbsent("islamic", HijrahChronology.INSTANCE);
             ServiceLoader<Chronology> loader =  ServiceLoader.load(Chronology.class, Chronology.class.getClassLoader());
             for (Chronology chrono : loader) {
-                CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
-                String type = chrono.getCalendarType();
-                if (type != null) {
-                    CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
-                }
+                register(chrono);
             }
         }
-    }
 
-    private static void register(Chronology chrono) {
-        CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
-        String type = chrono.getCalendarType();
-        if (type != null) {
-            CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
+        private static void register(Chronology chrono) {
+            CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
+            String type = chrono.getCalendarType();
+            if (type != null) {
+                CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
+            }
         }
     }
 
@@ -739,6 +758,80 @@ public abstract class Chronology implements Comparable<Chronology> {
      */
     public abstract ValueRange range(ChronoField field);
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of epoch-days in this chronology.
+     * <p>
+     * The result for each element is the same as
+     * {@code dateEpochDay(epochDays[i]).get(field)}, but implementations
+     * may avoid creating a date for each element.
+     * If an exception is thrown, the contents of the output array are undefined.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param field  the field to extract, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    public void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        checkFieldsFromEpochDays(epochDays, field, out);
+        for (int i = 0; i < epochDays.length; i++) {
+            out[i] = dateEpochDay(epochDays[i]).get(field);
+        }
+    }
+
+    /**
+     * Converts each of an array of proleptic-year, month-of-year and day-of-month
+     * in this chronology to an epoch-day.
+     * <p>
+     * The result for each element is the same as
+     * {@code date(prolepticYears[i], months[i], daysOfMonth[i]).toEpochDay()}, but implementations
+     * may avoid creating a date for each element.
+     * If an exception is thrown, the contents of the output array are undefined.
+     *
+     * @param prolepticYears  the chronology proleptic-years, not null
+     * @param months  the chronology months-of-year, same length as the years, not null
+     * @param daysOfMonth  the chronology days-of-month, same length as the years, not null
+     * @param out  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws IllegalArgumentException if the input arrays have different lengths or the output array is too short
+     * @throws DateTimeException if unable to create a date
+     */
+    public void epochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        checkEpochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        for (int i = 0; i < prolepticYears.length; i++) {
+            out[i] = date(prolepticYears[i], months[i], daysOfMonth[i]).toEpochDay();
+        }
+    }
+
+    /**
+     * Validates the arguments to {@link #fieldsFromEpochDays(long[], ChronoField, int[])}.
+     */
+    static void checkFieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        Jdk8Methods.requireNonNull(epochDays, "epochDays");
+        Jdk8Methods.requireNonNull(field, "field");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (out.length < epochDays.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+    }
+
+    /**
+     * Validates the arguments to {@link #epochDaysFrom(int[], int[], int[], long[])}.
+     */
+    static void checkEpochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        Jdk8Methods.requireNonNull(prolepticYears, "prolepticYears");
+        Jdk8Methods.requireNonNull(months, "months");
+        Jdk8Methods.requireNonNull(daysOfMonth, "daysOfMonth");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (months.length != prolepticYears.length || daysOfMonth.length != prolepticYears.length) {
+            throw new IllegalArgumentException("Arrays must have the same length");
+        }
+        if (out.length < prolepticYears.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the textual representation of this chronology.
@@ -68,6 +68,7 @@ import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 import org.threeten.bp.temporal.ValueRange;
 
 /**
@@ -357,6 +358,59 @@ public final class HijrahChronology extends Chronology implements Serializable {
         return Arrays.<Era>asList(HijrahEra.values());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of epoch-days.
+     * <p>
+     * The day-of-week, day-of-month, day-of-year, month-of-year, year, year-of-era
+     * and era are calculated from a table of month starts without creating dates.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param field  the field to extract, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        checkFieldsFromEpochDays(epochDays, field, out);
+        switch (field) {
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+            case MONTH_OF_YEAR:
+            case YEAR:
+            case YEAR_OF_ERA:
+            case ERA:
+                HijrahDate.fieldsFromEpochDays(epochDays, field, out);
+                return;
+            default:
+                super.fieldsFromEpochDays(epochDays, field, out);
+        }
+    }
+
+    /**
+     * Converts each of an array of proleptic-year, month-of-year and day-of-month to an epoch-day.
+     * <p>
+     * Dates in the years 1 to 9999 AH are converted using a table of month starts
+     * without creating dates.
+     *
+     * @param prolepticYears  the Hijrah proleptic-years, not null
+     * @param months  the Hijrah months-of-year, same length as the years, not null
+     * @param daysOfMonth  the Hijrah days-of-month, same length as the years, not null
+     * @param out  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws IllegalArgumentException if the input arrays have different lengths or the output array is too short
+     * @throws DateTimeException if unable to create a date
+     */
+    @Override
+    public void epochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        checkEpochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        for (int i = 0; i < prolepticYears.length; i++) {
+            out[i] = HijrahDate.epochDayOf(prolepticYears[i], months[i], daysOfMonth[i]);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ValueRange range(ChronoField field) {
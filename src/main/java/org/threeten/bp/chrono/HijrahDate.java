@@ -39,20 +39,11 @@ import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 
-import java.io.BufferedReader;
 import java.io.DataInput;
 import java.io.DataOutput;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Serializable;
-import java.text.ParseException;
 import java.util.HashMap;
-import java.util.StringTokenizer;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
 
 import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
@@ -93,17 +84,17 @@ import org.threeten.bp.temporal.ValueRange;
  *     1429/0-1429/1:1
  *     1429/2-1429/7:1;1429/6-1429/11:1
  *     1429/11-9999/11:1</pre>
- * The default location of the configuration file is:
+ * The default location of the configuration file is the resource:
  * <pre>
- *   $CLASSPATH/org/threeten/bp/chrono</pre>
- * And the default file name is:
- * <pre>
- *   hijrah_deviation.cfg</pre>
- * The default location and file name can be overriden by setting
+ *   org/threeten/bp/chrono/hijrah_deviation.cfg</pre>
+ * The location and file name can be overridden by setting
  * following two Java's system property.
  * <pre>
  *   Location: org.threeten.bp.i18n.HijrahDate.deviationConfigDir
  *   File name: org.threeten.bp.i18n.HijrahDate.deviationConfigFile</pre>
+ * The file is read when the first calculation occurs, not when the class is loaded.
+ * Alternatively, the deviations can be supplied directly before then using
+ * {@link HijrahDeviations#setDeviations(HijrahDeviations)}.
  *
  * <h3>Specification for implementors</h3>
  * This class is immutable and thread-safe.
@@ -251,56 +242,6 @@ public final class HijrahDate
         10277
         };
 
-    /**
-     * File separator.
-     */
-    private static final char FILE_SEP = File.separatorChar;
-    /**
-     * Path separator.
-     */
-    private static final String PATH_SEP = File.pathSeparator;
-    /**
-     * Default config file name.
-     */
-    private static final String DEFAULT_CONFIG_FILENAME = "hijrah_deviation.cfg";
-    /**
-     * Default path to the config file.
-     */
-    private static final String DEFAULT_CONFIG_PATH = "org" + FILE_SEP + "threeten" + FILE_SEP + "bp" + FILE_SEP + "chrono";
-    /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<Integer, Integer[]>();
-    /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
-     */
-    private static final Long[] ADJUSTED_CYCLES;
-    /**
-     * Holding the adjusted min values.
-     */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
-    /**
-     * Holding the adjusted max least max values.
-     */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
-    /**
-     * Holding adjusted max values.
-     */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
     /**
      * Holding the non-adjusted month days in year for non leap year.
      */
@@ -325,7 +266,6 @@ public final class HijrahDate
      * number of 30-year cycles to hold the deviation data.
      */
     private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
-
     static { // Initialize the static integer array;
 
         DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
@@ -352,33 +292,6 @@ public final class HijrahDate
         for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
             DEFAULT_CYCLE_YEARS[i] = Integer.valueOf(CYCLEYEAR_START_DATE[i]);
         }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = Long.valueOf(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = Integer.valueOf(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = Integer.valueOf(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = Integer.valueOf(MAX_VALUES[i]);
-        }
-        try {
-            readDeviationConfig();
-        } catch (IOException e) {
-            // do nothing. Ignore deviation config.
-            // e.printStackTrace();
-        } catch (ParseException e) {
-            // do nothing. Ignore deviation config.
-            // e.printStackTrace();
-        }
     }
     /**
      * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
@@ -797,7 +710,15 @@ public final class HijrahDate
 
         long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
 
-        if (epochDay >= 0) {
+        int[] table = Adjusted.MONTH_START_EPOCH_DAYS;
+        if (gregorianDays >= table[0] && gregorianDays < table[table.length - 1]) {
+            int monthIndex = searchMonthStart((int) gregorianDays);
+            year = monthIndex / 12 + 1;
+            month = monthIndex % 12;
+            date = (int) gregorianDays - table[monthIndex] + 1;
+            dayOfYear = (int) gregorianDays - table[(year - 1) * 12];
+            era = HijrahEra.AH.getValue();
+        } else if (epochDay >= 0) {
             cycleNumber = getCycleNumber(epochDay); // 0 - 99.
             dayOfCycle = getDayOfCycle(epochDay, cycleNumber); // 0 - 10631.
             yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
@@ -849,12 +770,124 @@ public final class HijrahDate
      * @return a julian day
      */
     private static long getGregorianEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        if (prolepticYear >= MIN_VALUE_OF_ERA && prolepticYear <= MAX_VALUE_OF_ERA) {
+            return Adjusted.MONTH_START_EPOCH_DAYS[(prolepticYear - 1) * 12 + monthOfYear - 1] + dayOfMonth - 1L;
+        }
         long day = yearToGregorianEpochDay(prolepticYear);
         day += getMonthDays(monthOfYear - 1, prolepticYear);
         day += dayOfMonth;
         return day;
     }
 
+    /**
+     * Builds the table of month starts from the deviation adjusted data.
+     *
+     * @return the table, not null
+     */
+    private static int[] buildMonthStartTable() {
+        int[] table = new int[MAX_VALUE_OF_ERA * 12 + 1];
+        int index = 0;
+        for (int year = MIN_VALUE_OF_ERA; year <= MAX_VALUE_OF_ERA; year++) {
+            long yearStart = yearToGregorianEpochDay(year) + 1;
+            Integer[] monthDays = getAdjustedMonthDays(year);
+            for (int month = 0; month < 12; month++) {
+                table[index++] = (int) (yearStart + monthDays[month].intValue());
+            }
+        }
+        table[index] = (int) (yearToGregorianEpochDay(MAX_VALUE_OF_ERA + 1) + 1);
+        return table;
+    }
+
+    /**
+     * Finds the month containing the Gregorian epoch-day, which must be within the table.
+     *
+     * @param gregorianDay  the epoch-day to find
+     * @return the index of the month in the table
+     */
+    private static int searchMonthStart(int gregorianDay) {
+        int[] table = Adjusted.MONTH_START_EPOCH_DAYS;
+        int low = 0;
+        int high = table.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (table[mid] <= gregorianDay) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Extracts the value of a field from each of an array of epoch-days.
+     * <p>
+     * Epoch-days in the years 1 to 9999 AH are calculated using the table of month starts,
+     * others by creating a date.
+     *
+     * @param epochDays  the epoch-days, not null
+     * @param field  the field, one of day-of-week, day-of-month, day-of-year,
+     *  month-of-year, year, year-of-era or era, not null
+     * @param out  the array to store the values in, validated
+     */
+    static void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        int[] table = Adjusted.MONTH_START_EPOCH_DAYS;
+        for (int i = 0; i < epochDays.length; i++) {
+            long epochDay = epochDays[i];
+            if (epochDay < table[0] || epochDay >= table[table.length - 1]) {
+                out[i] = HijrahChronology.INSTANCE.dateEpochDay(epochDay).get(field);
+                continue;
+            }
+            int day = (int) epochDay;
+            if (field == ChronoField.DAY_OF_WEEK) {
+                out[i] = Jdk8Methods.floorMod(day + 3, 7) + 1;
+            } else if (field == ChronoField.ERA) {
+                out[i] = HijrahEra.AH.getValue();
+            } else {
+                int monthIndex = searchMonthStart(day);
+                switch (field) {
+                    case DAY_OF_MONTH:
+                        out[i] = day - table[monthIndex] + 1;
+                        break;
+                    case DAY_OF_YEAR:
+                        out[i] = day - table[monthIndex - monthIndex % 12] + 1;
+                        break;
+                    case MONTH_OF_YEAR:
+                        out[i] = monthIndex % 12 + 1;
+                        break;
+                    default:
+                        out[i] = monthIndex / 12 + 1;
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a proleptic-year, month-of-year and day-of-month to an epoch-day.
+     * <p>
+     * This is equivalent to {@code of(prolepticYear, monthOfYear, dayOfMonth).toEpochDay()},
+     * using the table of month starts for the years 1 to 9999 AH.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param monthOfYear  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the epoch-day
+     * @throws DateTimeException if the date is invalid
+     */
+    static long epochDayOf(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        if (prolepticYear >= 1 && prolepticYear <= MAX_VALUE_OF_ERA) {
+            checkValidMonth(monthOfYear);
+            checkValidDayOfMonth(dayOfMonth);
+            long gregorianDays = getGregorianEpochDay(prolepticYear, monthOfYear, dayOfMonth);
+            int[] table = Adjusted.MONTH_START_EPOCH_DAYS;
+            if (gregorianDays < table[table.length - 1]) {
+                return gregorianDays;
+            }
+        }
+        return of(prolepticYear, monthOfYear, dayOfMonth).toEpochDay();
+    }
+
     /**
      * Returns the Gregorian epoch day from the proleptic year
      * @param prolepticYear the proleptic year
@@ -875,7 +908,7 @@ public final class HijrahDate
         Long cycleDays;
 
         try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
+            cycleDays = Adjusted.ADJUSTED_CYCLES[cycleNumber];
         } catch (ArrayIndexOutOfBoundsException e) {
             cycleDays = null;
         }
@@ -894,7 +927,7 @@ public final class HijrahDate
      * @return a cycle number
      */
     private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
+        Long[] days = Adjusted.ADJUSTED_CYCLES;
         int cycleNumber;
         try {
             for (int i = 0; i < days.length; i++) {
@@ -920,7 +953,7 @@ public final class HijrahDate
         Long day;
 
         try {
-            day = ADJUSTED_CYCLES[cycleNumber];
+            day = Adjusted.ADJUSTED_CYCLES[cycleNumber];
         } catch (ArrayIndexOutOfBoundsException e) {
             day = null;
         }
@@ -971,7 +1004,7 @@ public final class HijrahDate
     private static Integer[] getAdjustedCycle(int cycleNumber) {
         Integer[] cycles;
         try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(cycleNumber));
+            cycles = Adjusted.ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(cycleNumber));
         } catch (ArrayIndexOutOfBoundsException e) {
             cycles = null;
         }
@@ -990,7 +1023,7 @@ public final class HijrahDate
     private static Integer[] getAdjustedMonthDays(int year) {
         Integer[] newMonths;
         try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(year));
+            newMonths = Adjusted.ADJUSTED_MONTH_DAYS.get(Integer.valueOf(year));
         } catch (ArrayIndexOutOfBoundsException e) {
             newMonths = null;
         }
@@ -1013,7 +1046,7 @@ public final class HijrahDate
     private static Integer[] getAdjustedMonthLength(int year) {
         Integer[] newMonths;
         try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(year));
+            newMonths = Adjusted.ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(year));
         } catch (ArrayIndexOutOfBoundsException e) {
             newMonths = null;
         }
@@ -1122,6 +1155,11 @@ public final class HijrahDate
      * @return month days from the beginning of year
      */
     private static int getMonthDays(int month, int year) {
+        if (year >= MIN_VALUE_OF_ERA && year <= MAX_VALUE_OF_ERA) {
+            int[] table = Adjusted.MONTH_START_EPOCH_DAYS;
+            int yearIndex = (year - 1) * 12;
+            return table[yearIndex + month] - table[yearIndex];
+        }
         Integer[] newMonths = getAdjustedMonthDays(year);
         return newMonths[month].intValue();
     }
@@ -1134,6 +1172,10 @@ public final class HijrahDate
      * @return month length
      */
     static int getMonthLength(int month, int year) {
+      if (year >= MIN_VALUE_OF_ERA && year <= MAX_VALUE_OF_ERA) {
+          int index = (year - 1) * 12 + month;
+          return Adjusted.MONTH_START_EPOCH_DAYS[index + 1] - Adjusted.MONTH_START_EPOCH_DAYS[index];
+      }
       Integer[] newMonths = getAdjustedMonthLength(year);
       return newMonths[month].intValue();
     }
@@ -1150,19 +1192,22 @@ public final class HijrahDate
      * @return year length
      */
     static int getYearLength(int year) {
+        if (year >= MIN_VALUE_OF_ERA && year <= MAX_VALUE_OF_ERA) {
+            return Adjusted.MONTH_START_EPOCH_DAYS[year * 12] - Adjusted.MONTH_START_EPOCH_DAYS[(year - 1) * 12];
+        }
 
         int cycleNumber = (year - 1) / 30;
         Integer[] cycleYears;
         try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
+            cycleYears = Adjusted.ADJUSTED_CYCLE_YEARS.get(cycleNumber);
         } catch (ArrayIndexOutOfBoundsException e) {
             cycleYears = null;
         }
         if (cycleYears != null) {
             int yearInCycle = (year - 1) % 30;
             if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
+                return Adjusted.ADJUSTED_CYCLES[cycleNumber + 1].intValue()
+                        - Adjusted.ADJUSTED_CYCLES[cycleNumber].intValue()
                         - cycleYears[yearInCycle].intValue();
             }
             return cycleYears[yearInCycle + 1].intValue()
@@ -1183,7 +1228,7 @@ public final class HijrahDate
      * @return maximum day-of-month
      */
     static int getMaximumDayOfMonth() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1192,7 +1237,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-month
      */
     static int getSmallestMaximumDayOfMonth() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
     }
 
     /**
@@ -1201,7 +1246,7 @@ public final class HijrahDate
      * @return maximum day-of-year
      */
     static int getMaximumDayOfYear() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     /**
@@ -1210,7 +1255,7 @@ public final class HijrahDate
      * @return smallest maximum day-of-year
      */
     static int getSmallestMaximumDayOfYear() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
     }
 
     // ----- Deviation handling -----//
@@ -1261,7 +1306,7 @@ public final class HijrahDate
         boolean isStartYLeap = isLeapYear(startYear);
 
         // Adjusting the number of month.
-        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(
+        Integer[] orgStartMonthNums = Adjusted.ADJUSTED_MONTH_DAYS.get(Integer.valueOf(
                 startYear));
         if (orgStartMonthNums == null) {
             if (isStartYLeap) {
@@ -1290,11 +1335,11 @@ public final class HijrahDate
             }
         }
 
-        ADJUSTED_MONTH_DAYS.put(Integer.valueOf(startYear), newStartMonthNums);
+        Adjusted.ADJUSTED_MONTH_DAYS.put(Integer.valueOf(startYear), newStartMonthNums);
 
         // Adjusting the days of month.
 
-        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
+        Integer[] orgStartMonthLengths = Adjusted.ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
                 startYear));
         if (orgStartMonthLengths == null) {
             if (isStartYLeap) {
@@ -1322,14 +1367,14 @@ public final class HijrahDate
             }
         }
 
-        ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(startYear), newStartMonthLengths);
+        Adjusted.ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(startYear), newStartMonthLengths);
 
         if (startYear != endYear) {
             // System.out.println("over year");
             // Adjusting starting 30 year cycle.
             int sCycleNumber = (startYear - 1) / 30;
             int sYearInCycle = (startYear - 1) % 30; // 0-based.
-            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
+            Integer[] startCycles = Adjusted.ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
                     sCycleNumber));
             if (startCycles == null) {
                 startCycles = new Integer[CYCLEYEAR_START_DATE.length];
@@ -1343,7 +1388,7 @@ public final class HijrahDate
             }
 
             // System.out.println(sCycleNumber + ":" + sYearInCycle);
-            ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(sCycleNumber), startCycles);
+            Adjusted.ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(sCycleNumber), startCycles);
 
             int sYearInMaxY = (startYear - 1) / 30;
             int sEndInMaxY = (endYear - 1) / 30;
@@ -1353,14 +1398,14 @@ public final class HijrahDate
                 // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
                 // System.out.println(sYearInMaxY);
 
-                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = Long.valueOf(ADJUSTED_CYCLES[j].longValue()
+                for (int j = sYearInMaxY + 1; j < Adjusted.ADJUSTED_CYCLES.length; j++) {
+                    Adjusted.ADJUSTED_CYCLES[j] = Long.valueOf(Adjusted.ADJUSTED_CYCLES[j].longValue()
                             - offset);
                 }
 
                 // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = Long.valueOf(ADJUSTED_CYCLES[j].longValue()
+                for (int j = sEndInMaxY + 1; j < Adjusted.ADJUSTED_CYCLES.length; j++) {
+                    Adjusted.ADJUSTED_CYCLES[j] = Long.valueOf(Adjusted.ADJUSTED_CYCLES[j].longValue()
                             + offset);
                 }
             }
@@ -1368,7 +1413,7 @@ public final class HijrahDate
             // Adjusting ending 30 year cycle.
             int eCycleNumber = (endYear - 1) / 30;
             int sEndInCycle = (endYear - 1) % 30; // 0-based.
-            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
+            Integer[] endCycles = Adjusted.ADJUSTED_CYCLE_YEARS.get(Integer.valueOf(
                     eCycleNumber));
             if (endCycles == null) {
                 endCycles = new Integer[CYCLEYEAR_START_DATE.length];
@@ -1379,13 +1424,13 @@ public final class HijrahDate
             for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
                 endCycles[j] = Integer.valueOf(endCycles[j].intValue() + offset);
             }
-            ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(eCycleNumber), endCycles);
+            Adjusted.ADJUSTED_CYCLE_YEARS.put(Integer.valueOf(eCycleNumber), endCycles);
         }
 
         // Adjusting ending year.
         boolean isEndYLeap = isLeapYear(endYear);
 
-        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
+        Integer[] orgEndMonthDays = Adjusted.ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
 
         if (orgEndMonthDays == null) {
             if (isEndYLeap) {
@@ -1414,10 +1459,10 @@ public final class HijrahDate
             }
         }
 
-        ADJUSTED_MONTH_DAYS.put(Integer.valueOf(endYear), newEndMonthDays);
+        Adjusted.ADJUSTED_MONTH_DAYS.put(Integer.valueOf(endYear), newEndMonthDays);
 
         // Adjusting the days of month.
-        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
+        Integer[] orgEndMonthLengths = Adjusted.ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
                 endYear));
 
         if (orgEndMonthLengths == null) {
@@ -1446,15 +1491,15 @@ public final class HijrahDate
             }
         }
 
-        ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(endYear), newEndMonthLengths);
+        Adjusted.ADJUSTED_MONTH_LENGTHS.put(Integer.valueOf(endYear), newEndMonthLengths);
 
-        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
+        Integer[] startMonthLengths = Adjusted.ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
                 startYear));
-        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
+        Integer[] endMonthLengths = Adjusted.ADJUSTED_MONTH_LENGTHS.get(Integer.valueOf(
                 endYear));
-        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
+        Integer[] startMonthDays = Adjusted.ADJUSTED_MONTH_DAYS
                 .get(Integer.valueOf(startYear));
-        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
+        Integer[] endMonthDays = Adjusted.ADJUSTED_MONTH_DAYS.get(Integer.valueOf(endYear));
 
         int startMonthLength = startMonthLengths[startMonth].intValue();
         int endMonthLength = endMonthLengths[endMonth].intValue();
@@ -1463,9 +1508,9 @@ public final class HijrahDate
         int endMonthDay = endMonthDays[11].intValue()
                 + endMonthLengths[11].intValue();
 
-        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
+        int maxMonthLength = Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
                 .intValue();
-        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
+        int leastMaxMonthLength = Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
                 .intValue();
 
         if (maxMonthLength < startMonthLength) {
@@ -1474,7 +1519,7 @@ public final class HijrahDate
         if (maxMonthLength < endMonthLength) {
             maxMonthLength = endMonthLength;
         }
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(maxMonthLength);
+        Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(maxMonthLength);
 
         if (leastMaxMonthLength > startMonthLength) {
             leastMaxMonthLength = startMonthLength;
@@ -1482,11 +1527,11 @@ public final class HijrahDate
         if (leastMaxMonthLength > endMonthLength) {
             leastMaxMonthLength = endMonthLength;
         }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(
+        Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = Integer.valueOf(
                 leastMaxMonthLength);
 
-        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
+        int maxMonthDay = Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
+        int leastMaxMonthDay = Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
                 .intValue();
 
         if (maxMonthDay < startMonthDay) {
@@ -1496,7 +1541,7 @@ public final class HijrahDate
             maxMonthDay = endMonthDay;
         }
 
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(maxMonthDay);
+        Adjusted.ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(maxMonthDay);
 
         if (leastMaxMonthDay > startMonthDay) {
             leastMaxMonthDay = startMonthDay;
@@ -1504,256 +1549,87 @@ public final class HijrahDate
         if (leastMaxMonthDay > endMonthDay) {
             leastMaxMonthDay = endMonthDay;
         }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(
+        Adjusted.ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = Integer.valueOf(
                 leastMaxMonthDay);
     }
 
+    //-----------------------------------------------------------------------
     /**
-     * Read hijrah_deviation.cfg file. The config file contains the deviation data with
-     * following format.
-     *
-     * StartYear/StartMonth(0-based)-EndYear/EndMonth(0-based):Deviation day (1,
-     * 2, -1, or -2)
-     *
-     * Line separator or ";" is used for the separator of each deviation data.
-     *
-     * Here is the example.
-     *
-     * 1429/0-1429/1:1
-     * 1429/2-1429/7:1;1429/6-1429/11:1
-     * 1429/11-9999/11:1
-     *
-     * @throws IOException for zip/jar file handling exception.
-     * @throws ParseException if the format of the configuration file is wrong.
-     */
-    private static void readDeviationConfig() throws IOException, ParseException {
-        InputStream is = getConfigFileInputStream();
-        if (is != null) {
-            BufferedReader br = null;
-            try {
-                br = new BufferedReader(new InputStreamReader(is));
-                String line = "";
-                int num = 0;
-                while ((line = br.readLine()) != null) {
-                    num++;
-                    line = line.trim();
-                    parseLine(line, num);
-                }
-            } finally {
-                if (br != null) {
-                    br.close();
-                }
+     * The data adjusted by the deviations.
+     * <p>
+     * This is initialized on first use, rather than when {@code HijrahDate} is loaded,
+     * so that loading the Hijrah classes performs no I/O and so that the deviations
+     * can be set using {@link HijrahDeviations#setDeviations(HijrahDeviations)}.
+     */
+    private static final class Adjusted {
+        /**
+         * Holding the adjusted month days in year. The key is a year (Integer) and
+         * the value is the all the month days in year (Integer[]).
+         */
+        static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<Integer, Integer[]>();
+        /**
+         * Holding the adjusted month length in year. The key is a year (Integer)
+         * and the value is the all the month length in year (Integer[]).
+         */
+        static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<Integer, Integer[]>();
+        /**
+         * Holding the adjusted days in the 30 year cycle. The key is a cycle number
+         * (Integer) and the value is the all the starting days of the year in the
+         * cycle (Integer[]).
+         */
+        static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<Integer, Integer[]>();
+        /**
+         * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
+         * number (Integer) and the value is the starting days in the cycle in the
+         * term.
+         */
+        static final Long[] ADJUSTED_CYCLES;
+        /**
+         * Holding the adjusted min values.
+         */
+        static final Integer[] ADJUSTED_MIN_VALUES;
+        /**
+         * Holding the adjusted max least max values.
+         */
+        static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
+        /**
+         * Holding adjusted max values.
+         */
+        static final Integer[] ADJUSTED_MAX_VALUES;
+        /**
+         * The Gregorian epoch-day of the first day of each month, including deviations,
+         * indexed by {@code (year - 1) * 12 + month - 1} for the years 1 to 9999.
+         * The final entry is the first day of the year 10000.
+         */
+        static final int[] MONTH_START_EPOCH_DAYS;
+
+        static {
+            ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
+            for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
+                ADJUSTED_CYCLES[i] = Long.valueOf(10631 * i);
             }
-        }
-    }
-
-    /**
-     * Parse each deviation element.
-     *
-     * @param line  a line to parse
-     * @param num  line number
-     * @throws ParseException if line has incorrect format.
-     */
-    private static void parseLine(String line, int num) throws ParseException {
-        StringTokenizer st = new StringTokenizer(line, ";");
-        while (st.hasMoreTokens()) {
-            String deviationElement = st.nextToken();
-            int offsetIndex = deviationElement.indexOf(':');
-            if (offsetIndex != -1) {
-                String offsetString = deviationElement.substring(
-                        offsetIndex + 1, deviationElement.length());
-                int offset;
-                try {
-                    offset = Integer.parseInt(offsetString);
-                } catch (NumberFormatException ex) {
-                    throw new ParseException(
-                            "Offset is not properly set at line " + num + ".",
-                            num);
-                }
-                int separatorIndex = deviationElement.indexOf('-');
-                if (separatorIndex != -1) {
-                    String startDateStg = deviationElement.substring(0,
-                            separatorIndex);
-                    String endDateStg = deviationElement.substring(
-                            separatorIndex + 1, offsetIndex);
-                    int startDateYearSepIndex = startDateStg.indexOf('/');
-                    int endDateYearSepIndex = endDateStg.indexOf('/');
-                    int startYear = -1;
-                    int endYear = -1;
-                    int startMonth = -1;
-                    int endMonth = -1;
-                    if (startDateYearSepIndex != -1) {
-                        String startYearStg = startDateStg.substring(0,
-                                startDateYearSepIndex);
-                        String startMonthStg = startDateStg.substring(
-                                startDateYearSepIndex + 1, startDateStg
-                                        .length());
-                        try {
-                            startYear = Integer.parseInt(startYearStg);
-                        } catch (NumberFormatException ex) {
-                            throw new ParseException(
-                                    "Start year is not properly set at line "
-                                            + num + ".", num);
-                        }
-                        try {
-                            startMonth = Integer.parseInt(startMonthStg);
-                        } catch (NumberFormatException ex) {
-                            throw new ParseException(
-                                    "Start month is not properly set at line "
-                                            + num + ".", num);
-                        }
-                    } else {
-                        throw new ParseException(
-                                "Start year/month has incorrect format at line "
-                                        + num + ".", num);
-                    }
-                    if (endDateYearSepIndex != -1) {
-                        String endYearStg = endDateStg.substring(0,
-                                endDateYearSepIndex);
-                        String endMonthStg = endDateStg.substring(
-                                endDateYearSepIndex + 1, endDateStg.length());
-                        try {
-                            endYear = Integer.parseInt(endYearStg);
-                        } catch (NumberFormatException ex) {
-                            throw new ParseException(
-                                    "End year is not properly set at line "
-                                            + num + ".", num);
-                        }
-                        try {
-                            endMonth = Integer.parseInt(endMonthStg);
-                        } catch (NumberFormatException ex) {
-                            throw new ParseException(
-                                    "End month is not properly set at line "
-                                            + num + ".", num);
-                        }
-                    } else {
-                        throw new ParseException(
-                                "End year/month has incorrect format at line "
-                                        + num + ".", num);
-                    }
-                    if (startYear != -1 && startMonth != -1 && endYear != -1
-                            && endMonth != -1) {
-                        addDeviationAsHijrah(startYear, startMonth, endYear,
-                                endMonth, offset);
-                    } else {
-                        throw new ParseException("Unknown error at line " + num
-                                + ".", num);
-                    }
-                } else {
-                    throw new ParseException(
-                            "Start and end year/month has incorrect format at line "
-                                    + num + ".", num);
-                }
-            } else {
-                throw new ParseException("Offset has incorrect format at line "
-                        + num + ".", num);
+            // Initialize min values, least max values and max values.
+            ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
+            for (int i = 0; i < MIN_VALUES.length; i++) {
+                ADJUSTED_MIN_VALUES[i] = Integer.valueOf(MIN_VALUES[i]);
             }
-        }
-    }
-
-    /**
-     * Return InputStream for deviation configuration file.
-     * The default location of the deviation file is:
-     * <pre>
-     *   $CLASSPATH/org/threeten/bp/chrono
-     * </pre>
-     * And the default file name is:
-     * <pre>
-     *   hijrah_deviation.cfg
-     * </pre>
-     * The default location and file name can be overriden by setting
-     * following two Java's system property.
-     * <pre>
-     *   Location: org.threeten.bp.i18n.HijrahDate.deviationConfigDir
-     *   File name: org.threeten.bp.i18n.HijrahDate.deviationConfigFile
-     * </pre>
-     * Regarding the file format, see readDeviationConfig() method for details.
-     *
-     * @return InputStream for file reading exception.
-     * @throws IOException for zip/jar file handling exception.
-     */
-    private static InputStream getConfigFileInputStream() throws IOException {
-
-        String fileName = System
-                .getProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigFile");
-
-        if (fileName == null) {
-            fileName = DEFAULT_CONFIG_FILENAME;
-        }
-
-        String dir = System
-                .getProperty("org.threeten.bp.i18n.HijrahDate.deviationConfigDir");
-
-        if (dir != null) {
-            if (!(dir.length() == 0 && dir.endsWith(System
-                    .getProperty("file.separator")))) {
-                dir = dir + System.getProperty("file.separator");
+            ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
+            for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
+                ADJUSTED_LEAST_MAX_VALUES[i] = Integer.valueOf(LEAST_MAX_VALUES[i]);
             }
-            File file = new File(dir + FILE_SEP + fileName);
-            if (file.exists()) {
-                try {
-                    return new FileInputStream(file);
-                } catch (IOException ioe) {
-                    throw ioe;
-                }
-            } else {
-                return null;
+            ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
+            for (int i = 0; i < MAX_VALUES.length; i++) {
+                ADJUSTED_MAX_VALUES[i] = Integer.valueOf(MAX_VALUES[i]);
             }
-        } else {
-            String classPath = System.getProperty("java.class.path");
-            StringTokenizer st = new StringTokenizer(classPath, PATH_SEP);
-            while (st.hasMoreTokens()) {
-                String path = st.nextToken();
-                File file = new File(path);
-                if (file.exists()) {
-                    if (file.isDirectory()) {
-                        File f = new File(
-                                path + FILE_SEP + DEFAULT_CONFIG_PATH, fileName);
-                        if (f.exists()) {
-                            try {
-                                return new FileInputStream(path + FILE_SEP
-                                        + DEFAULT_CONFIG_PATH + FILE_SEP
-                                        + fileName);
-                            } catch (IOException ioe) {
-                                throw ioe;
-                            }
-                        }
-                    } else {
-                        ZipFile zip;
-                        try {
-                            zip = new ZipFile(file);
-                        } catch (IOException ioe) {
-                            zip = null;
-                        }
-
-                        if (zip != null) {
-                            String targetFile = DEFAULT_CONFIG_PATH + FILE_SEP
-                                    + fileName;
-                            ZipEntry entry = zip.getEntry(targetFile);
-
-                            if (entry == null) {
-                                if (FILE_SEP == '/') {
-                                    targetFile = targetFile.replace('/', '\\');
-                                } else if (FILE_SEP == '\\') {
-                                    targetFile = targetFile.replace('\\', '/');
-                                }
-                                entry = zip.getEntry(targetFile);
-                            }
-
-                            if (entry != null) {
-                                try {
-                                    return zip.getInputStream(entry);
-                                } catch (IOException ioe) {
-                                    throw ioe;
-                                }
-                            }
-                        }
-                    }
-                }
+            HijrahDeviations deviations = HijrahDeviations.initialize();
+            for (int i = 0; i < deviations.size(); i++) {
+                int[] deviation = deviations.getDeviation(i);
+                addDeviationAsHijrah(deviation[0], deviation[1], deviation[2], deviation[3], deviation[4]);
             }
-            return null;
+            MONTH_START_EPOCH_DAYS = buildMonthStartTable();
         }
     }
+
     //-----------------------------------------------------------------------
     private Object writeReplace() {
         return new Ser(Ser.HIJRAH_DATE_TYPE, this);
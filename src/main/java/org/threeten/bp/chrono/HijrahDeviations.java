@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.chrono;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.threeten.bp.jdk8.Jdk8Methods;
+
+/**
+ * The deviations applied to the Hijrah calendar.
+ * <p>
+ * The Hijrah calendar is based on lunar observation, and the calculated
+ * month lengths sometimes need a manual adjustment of a day or two.
+ * Each deviation adjusts the months from a start year/month to an end year/month
+ * by a number of days. The textual format is:
+ * <pre>
+ *   StartYear/StartMonth(0-based)-EndYear/EndMonth(0-based):Deviation day (1, 2, -1, or -2)
+ *   Line separator or ";" is used for the separator of each deviation data.</pre>
+ *   Here is the example.
+ * <pre>
+ *     1429/0-1429/1:1
+ *     1429/2-1429/7:1;1429/6-1429/11:1
+ *     1429/11-9999/11:1</pre>
+ * <p>
+ * The deviations are applied when the first {@link HijrahDate} calculation occurs,
+ * not when the Hijrah classes are loaded.
+ * Use {@link #setDeviations(HijrahDeviations)} before then to supply the deviations directly.
+ * Otherwise, the deviations are read once from the configuration file:
+ * <ul>
+ * <li>if the {@code org.threeten.bp.i18n.HijrahDate.deviationConfigDir} system property is set,
+ *  the file is read from that directory
+ * <li>otherwise, the file is looked up as a resource in the {@code org/threeten/bp/chrono}
+ *  package of the class loader that loaded this class
+ * </ul>
+ * The file name is {@code hijrah_deviation.cfg} unless overridden by the
+ * {@code org.threeten.bp.i18n.HijrahDate.deviationConfigFile} system property.
+ * If there is no such file, or it cannot be read, no deviations are applied.
+ * <p>
+ * This class is not found in Java SE 8.
+ *
+ * <h3>Specification for implementors</h3>
+ * This class is immutable and thread-safe.
+ */
+public final class HijrahDeviations {
+
+    /**
+     * An instance with no deviations.
+     * Call {@link #setDeviations(HijrahDeviations)} with this instance to
+     * prevent the configuration file from being read.
+     */
+    public static final HijrahDeviations NONE = new HijrahDeviations(new int[0][]);
+
+    /**
+     * The system property for the configuration file name.
+     */
+    private static final String FILE_PROPERTY = "org.threeten.bp.i18n.HijrahDate.deviationConfigFile";
+    /**
+     * The system property for the configuration file directory.
+     */
+    private static final String DIR_PROPERTY = "org.threeten.bp.i18n.HijrahDate.deviationConfigDir";
+    /**
+     * The default configuration file name.
+     */
+    private static final String DEFAULT_FILE_NAME = "hijrah_deviation.cfg";
+    /**
+     * The resource path of the configuration file.
+     */
+    private static final String RESOURCE_PATH = "org/threeten/bp/chrono/";
+
+    private static final AtomicBoolean INITIALIZED = new AtomicBoolean(false);
+    private static final AtomicReference<HijrahDeviations> DEVIATIONS = new AtomicReference<HijrahDeviations>();
+
+    /**
+     * The deviations, each being start year, start month, end year, end month and offset.
+     */
+    private final int[][] deviations;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sets the deviations to use for the Hijrah calendar.
+     * <p>
+     * This can only be invoked before the first {@code HijrahDate} calculation occurs.
+     * Invoking this method at a later point will throw an exception.
+     *
+     * @param deviations  the deviations to use, not null
+     * @throws IllegalStateException if the deviations have already been applied or set
+     */
+    public static void setDeviations(HijrahDeviations deviations) {
+        Jdk8Methods.requireNonNull(deviations, "deviations");
+        if (INITIALIZED.get()) {
+            throw new IllegalStateException("Hijrah deviations already applied");
+        }
+        if (DEVIATIONS.compareAndSet(null, deviations) == false) {
+            throw new IllegalStateException("Hijrah deviations were already set, possibly with a default during initialization");
+        }
+    }
+
+    /**
+     * Obtains the deviations to apply, reading the configuration file if none have been set.
+     * <p>
+     * This is invoked once, when the Hijrah tables are built.
+     *
+     * @return the deviations, not null
+     */
+    static HijrahDeviations initialize() {
+        INITIALIZED.set(true);
+        if (DEVIATIONS.get() == null) {
+            DEVIATIONS.compareAndSet(null, readConfiguration());
+        }
+        return DEVIATIONS.get();
+    }
+
+    /**
+     * Reads the deviations from the configuration file, if there is one.
+     *
+     * @return the deviations, not null
+     */
+    private static HijrahDeviations readConfiguration() {
+        try {
+            String fileName = System.getProperty(FILE_PROPERTY);
+            if (fileName == null) {
+                fileName = DEFAULT_FILE_NAME;
+            }
+            String dir = System.getProperty(DIR_PROPERTY);
+            InputStream in;
+            if (dir != null) {
+                File file = new File(dir, fileName);
+                if (file.exists() == false) {
+                    return NONE;
+                }
+                in = new FileInputStream(file);
+            } else {
+                ClassLoader classLoader = HijrahDeviations.class.getClassLoader();
+                if (classLoader != null) {
+                    in = classLoader.getResourceAsStream(RESOURCE_PATH + fileName);
+                } else {
+                    in = ClassLoader.getSystemResourceAsStream(RESOURCE_PATH + fileName);
+                }
+                if (in == null) {
+                    return NONE;
+                }
+            }
+            try {
+                return of(in);
+            } finally {
+                in.close();
+            }
+        } catch (SecurityException ex) {
+            // ignore deviation config
+        } catch (IOException ex) {
+            // ignore deviation config
+        } catch (ParseException ex) {
+            // ignore deviation config
+        }
+        return NONE;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains an instance by parsing deviation data in the configuration file format.
+     *
+     * @param text  the deviation data, not null
+     * @return the deviations, not null
+     * @throws ParseException if the text is not in the correct format
+     */
+    public static HijrahDeviations parse(CharSequence text) throws ParseException {
+        Jdk8Methods.requireNonNull(text, "text");
+        try {
+            return read(new StringReader(text.toString()));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);  // cannot happen
+        }
+    }
+
+    /**
+     * Obtains an instance by reading deviation data in the configuration file format.
+     * <p>
+     * The stream is read to the end using the UTF-8 encoding, but is not closed.
+     *
+     * @param in  the stream to read, not null
+     * @return the deviations, not null
+     * @throws IOException if an error occurs reading the stream
+     * @throws ParseException if the data is not in the correct format
+     */
+    public static HijrahDeviations of(InputStream in) throws IOException, ParseException {
+        Jdk8Methods.requireNonNull(in, "in");
+        return read(new InputStreamReader(in, "UTF-8"));
+    }
+
+    private static HijrahDeviations read(Reader reader) throws IOException, ParseException {
+        List<int[]> result = new ArrayList<int[]>();
+        BufferedReader br = new BufferedReader(reader);
+        String line;
+        int num = 0;
+        while ((line = br.readLine()) != null) {
+            num++;
+            parseLine(line.trim(), num, result);
+        }
+        return (result.isEmpty() ? NONE : new HijrahDeviations(result.toArray(new int[result.size()][])));
+    }
+
+    /**
+     * Parses each deviation element in a line.
+     *
+     * @param line  the line to parse
+     * @param num  the line number
+     * @param result  the list to add the parsed deviations to, not null
+     * @throws ParseException if line has incorrect format
+     */
+    private static void parseLine(String line, int num, List<int[]> result) throws ParseException {
+        StringTokenizer st = new StringTokenizer(line, ";");
+        while (st.hasMoreTokens()) {
+            String deviationElement = st.nextToken();
+            int offsetIndex = deviationElement.indexOf(':');
+            if (offsetIndex == -1) {
+                throw new ParseException("Offset has incorrect format at line " + num + ".", num);
+            }
+            int offset = parseNumber(deviationElement.substring(offsetIndex + 1), "Offset", num);
+            int separatorIndex = deviationElement.indexOf('-');
+            if (separatorIndex == -1 || separatorIndex > offsetIndex) {
+                throw new ParseException("Start and end year/month has incorrect format at line " + num + ".", num);
+            }
+            String startDateStg = deviationElement.substring(0, separatorIndex);
+            String endDateStg = deviationElement.substring(separatorIndex + 1, offsetIndex);
+            int startDateYearSepIndex = startDateStg.indexOf('/');
+            if (startDateYearSepIndex == -1) {
+                throw new ParseException("Start year/month has incorrect format at line " + num + ".", num);
+            }
+            int endDateYearSepIndex = endDateStg.indexOf('/');
+            if (endDateYearSepIndex == -1) {
+                throw new ParseException("End year/month has incorrect format at line " + num + ".", num);
+            }
+            int startYear = parseNumber(startDateStg.substring(0, startDateYearSepIndex), "Start year", num);
+            int startMonth = parseNumber(startDateStg.substring(startDateYearSepIndex + 1), "Start month", num);
+            int endYear = parseNumber(endDateStg.substring(0, endDateYearSepIndex), "End year", num);
+            int endMonth = parseNumber(endDateStg.substring(endDateYearSepIndex + 1), "End month", num);
+            try {
+                result.add(deviation(startYear, startMonth, endYear, endMonth, offset));
+            } catch (IllegalArgumentException ex) {
+                throw new ParseException(ex.getMessage() + " at line " + num + ".", num);
+            }
+        }
+    }
+
+    private static int parseNumber(String str, String description, int num) throws ParseException {
+        try {
+            return Integer.parseInt(str);
+        } catch (NumberFormatException ex) {
+            throw new ParseException(description + " is not properly set at line " + num + ".", num);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor.
+     *
+     * @param deviations  the deviations, not null
+     */
+    private HijrahDeviations(int[][] deviations) {
+        this.deviations = deviations;
+    }
+
+    /**
+     * Returns a copy of these deviations with the specified deviation added.
+     * <p>
+     * The year and month are the calculated Hijrah year and month, with the month 0-based,
+     * such that 8 is Ramadan, the 9th month.
+     * The offset is the number of days to adjust by, typically 1, 2, -1 or -2.
+     * Deviations are applied in the order they were added.
+     *
+     * @param startYear  the start year, from 1 to 9999
+     * @param startMonth  the start month, 0-based, from 0 to 11
+     * @param endYear  the end year, from the start year to 9999
+     * @param endMonth  the end month, 0-based, from 0 to 11
+     * @param offset  the number of days to adjust by
+     * @return the deviations including the specified one, not null
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public HijrahDeviations withDeviation(int startYear, int startMonth, int endYear, int endMonth, int offset) {
+        int[][] added = Arrays.copyOf(deviations, deviations.length + 1);
+        added[deviations.length] = deviation(startYear, startMonth, endYear, endMonth, offset);
+        return new HijrahDeviations(added);
+    }
+
+    /**
+     * Validates and creates a single deviation.
+     *
+     * @param startYear  the start year, from 1 to 9999
+     * @param startMonth  the start month, 0-based, from 0 to 11
+     * @param endYear  the end year, from the start year to 9999
+     * @param endMonth  the end month, 0-based, from 0 to 11
+     * @param offset  the number of days to adjust by
+     * @return the deviation, not null
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    private static int[] deviation(int startYear, int startMonth, int endYear, int endMonth, int offset) {
+        if (startYear < 1) {
+            throw new IllegalArgumentException("startYear < 1");
+        }
+        if (endYear < 1) {
+            throw new IllegalArgumentException("endYear < 1");
+        }
+        if (startMonth < 0 || startMonth > 11) {
+            throw new IllegalArgumentException("startMonth < 0 || startMonth > 11");
+        }
+        if (endMonth < 0 || endMonth > 11) {
+            throw new IllegalArgumentException("endMonth < 0 || endMonth > 11");
+        }
+        if (endYear > 9999) {
+            throw new IllegalArgumentException("endYear > 9999");
+        }
+        if (endYear < startYear) {
+            throw new IllegalArgumentException("startYear > endYear");
+        }
+        if (endYear == startYear && endMonth < startMonth) {
+            throw new IllegalArgumentException("startYear == endYear && endMonth < startMonth");
+        }
+        return new int[] {startYear, startMonth, endYear, endMonth, offset};
+    }
+
+    /**
+     * Gets the number of deviations.
+     *
+     * @return the number of deviations, zero or greater
+     */
+    public int size() {
+        return deviations.length;
+    }
+
+    /**
+     * Gets the deviation at the specified index.
+     * <p>
+     * The array returned contains the start year, start month, end year, end month
+     * and offset, as passed to {@link #withDeviation(int, int, int, int, int)}.
+     *
+     * @param index  the index, from 0 to {@code size() - 1}
+     * @return a copy of the deviation, not null
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int[] getDeviation(int index) {
+        return deviations[index].clone();
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if these deviations are equal to another.
+     *
+     * @param obj  the object to check, null returns false
+     * @return true if this is equal to the other deviations
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof HijrahDeviations) {
+            return Arrays.deepEquals(deviations, ((HijrahDeviations) obj).deviations);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for these deviations.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(deviations);
+    }
+
+    /**
+     * Outputs these deviations in the configuration file format, separated by ";".
+     *
+     * @return the deviations, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder();
+        for (int[] deviation : deviations) {
+            if (buf.length() > 0) {
+                buf.append(';');
+            }
+            buf.append(deviation[0]).append('/').append(deviation[1]).append('-')
+                .append(deviation[2]).append('/').append(deviation[3]).append(':').append(deviation[4]);
+        }
+        return buf.toString();
+    }
+
+}
@@ -58,6 +58,7 @@ import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.Instant;
 import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalDateVector;
 import org.threeten.bp.Month;
 import org.threeten.bp.Year;
 import org.threeten.bp.ZoneId;
@@ -67,6 +68,7 @@ import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 import org.threeten.bp.temporal.ValueRange;
 
 /**
@@ -106,6 +108,10 @@ public final class IsoChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = -1440403870442975015L;
+    /**
+     * The maximum absolute year converted in bulk, such that the epoch-day fits in an {@code int}.
+     */
+    private static final int MAX_VECTOR_YEAR = 5000000;
 
     /**
      * Restricted constructor.
@@ -381,6 +387,84 @@ public final class IsoChronology extends Chronology implements Serializable {
         return field.range();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of epoch-days.
+     * <p>
+     * The day-of-week, day-of-month, day-of-year, month-of-year, year, year-of-era
+     * and era are calculated in bulk using {@link LocalDateVector}.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param field  the field to extract, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        checkFieldsFromEpochDays(epochDays, field, out);
+        switch (field) {
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+            case MONTH_OF_YEAR:
+            case YEAR:
+            case YEAR_OF_ERA:
+            case ERA: {
+                int[] intEpochDays = new int[epochDays.length];
+                for (int i = 0; i < epochDays.length; i++) {
+                    if (epochDays[i] != (int) epochDays[i]) {
+                        super.fieldsFromEpochDays(epochDays, field, out);
+                        return;
+                    }
+                    intEpochDays[i] = (int) epochDays[i];
+                }
+                boolean derived = (field == YEAR_OF_ERA || field == ERA);
+                int[] values = LocalDateVector.ofEpochDays(intEpochDays).get(derived ? YEAR : field);
+                for (int i = 0; i < values.length; i++) {
+                    int value = values[i];
+                    if (field == YEAR_OF_ERA) {
+                        value = (value >= 1 ? value : 1 - value);
+                    } else if (field == ERA) {
+                        value = (value >= 1 ? 1 : 0);
+                    }
+                    out[i] = value;
+                }
+                return;
+            }
+            default:
+                super.fieldsFromEpochDays(epochDays, field, out);
+        }
+    }
+
+    /**
+     * Converts each of an array of proleptic-year, month-of-year and day-of-month to an epoch-day.
+     * <p>
+     * Dates with a year from -5,000,000 to 5,000,000 are converted in bulk using {@link LocalDateVector}.
+     *
+     * @param prolepticYears  the ISO proleptic-years, not null
+     * @param months  the ISO months-of-year, same length as the years, not null
+     * @param daysOfMonth  the ISO days-of-month, same length as the years, not null
+     * @param out  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws IllegalArgumentException if the input arrays have different lengths or the output array is too short
+     * @throws DateTimeException if unable to create a date
+     */
+    @Override
+    public void epochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        checkEpochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        for (int i = 0; i < prolepticYears.length; i++) {
+            if (prolepticYears[i] < -MAX_VECTOR_YEAR || prolepticYears[i] > MAX_VECTOR_YEAR) {
+                super.epochDaysFrom(prolepticYears, months, daysOfMonth, out);
+                return;
+            }
+        }
+        int[] epochDays = LocalDateVector.of(prolepticYears, months, daysOfMonth).toEpochDays();
+        for (int i = 0; i < epochDays.length; i++) {
+            out[i] = epochDays[i];
+        }
+    }
+
     @Override
     public LocalDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
         if (fieldValues.containsKey(EPOCH_DAY)) {
@@ -51,7 +51,6 @@ import static org.threeten.bp.temporal.TemporalAdjusters.nextOrSame;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -68,6 +67,7 @@ import org.threeten.bp.jdk8.Jdk8Methods;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.temporal.TemporalField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 import org.threeten.bp.temporal.ValueRange;
 
 /**
@@ -112,6 +112,11 @@ public final class JapaneseChronology extends Chronology implements Serializable
      * Serialization version.
      */
     private static final long serialVersionUID = 459996390165777884L;
+    /**
+     * The range of month-of-year, where the smallest maximum is one
+     * as the final year of Showa only had a January.
+     */
+    private static final ValueRange MONTH_OF_YEAR_RANGE = ValueRange.of(1, 1, 12);
 
     /**
      * Narrow names for eras.
@@ -357,6 +362,103 @@ public final class JapaneseChronology extends Chronology implements Serializable
         return Arrays.<Era>asList(JapaneseEra.values());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of epoch-days.
+     * <p>
+     * The fields are calculated from the ISO fields and a table of the era start dates,
+     * so no dates are created.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param field  the field to extract, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        checkFieldsFromEpochDays(epochDays, field, out);
+        switch (field) {
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+            case MONTH_OF_YEAR:
+            case YEAR:
+            case YEAR_OF_ERA:
+            case ERA:
+                break;
+            default:
+                super.fieldsFromEpochDays(epochDays, field, out);
+                return;
+        }
+        long minEpochDay = JapaneseDate.MIN_DATE.toEpochDay();
+        for (int i = 0; i < epochDays.length; i++) {
+            if (epochDays[i] < minEpochDay) {
+                super.fieldsFromEpochDays(epochDays, field, out);  // throws the standard exception
+                return;
+            }
+        }
+        boolean eraBased = (field == YEAR_OF_ERA || field == ERA);
+        IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, eraBased ? YEAR : field, out);
+        if (eraBased || field == DAY_OF_YEAR) {
+            // per-era tables of the first day, and the first day of the second year
+            JapaneseEra[] eras = JapaneseEra.values();
+            long[] eraStarts = new long[eras.length];
+            long[] secondYearStarts = new long[eras.length];
+            for (int e = 0; e < eras.length; e++) {
+                LocalDate start = eras[e].startDate();
+                eraStarts[e] = start.toEpochDay();
+                secondYearStarts[e] = eraStarts[e] + start.lengthOfYear() - start.getDayOfYear() + 1;
+            }
+            for (int i = 0; i < epochDays.length; i++) {
+                long epochDay = epochDays[i];
+                int e = eras.length - 1;
+                while (epochDay < eraStarts[e]) {
+                    e--;
+                }
+                switch (field) {
+                    case ERA:
+                        out[i] = eras[e].getValue();
+                        break;
+                    case YEAR_OF_ERA:
+                        out[i] = out[i] - eras[e].startDate().getYear() + 1;
+                        break;
+                    default:
+                        if (epochDay < secondYearStarts[e]) {
+                            out[i] = (int) (epochDay - eraStarts[e]) + 1;
+                        }
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts each of an array of proleptic-year, month-of-year and day-of-month to an epoch-day.
+     * <p>
+     * The proleptic-year is the same as the ISO year, so the dates are converted
+     * in bulk by {@link IsoChronology} and then checked against the minimum date.
+     *
+     * @param prolepticYears  the Japanese proleptic-years, not null
+     * @param months  the Japanese months-of-year, same length as the years, not null
+     * @param daysOfMonth  the Japanese days-of-month, same length as the years, not null
+     * @param out  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws IllegalArgumentException if the input arrays have different lengths or the output array is too short
+     * @throws DateTimeException if unable to create a date
+     */
+    @Override
+    public void epochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        checkEpochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        IsoChronology.INSTANCE.epochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        long minEpochDay = JapaneseDate.MIN_DATE.toEpochDay();
+        for (int i = 0; i < prolepticYears.length; i++) {
+            if (out[i] < minEpochDay) {
+                throw new DateTimeException("Minimum supported date is January 1st Meiji 6");
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ValueRange range(ChronoField field) {
@@ -381,7 +483,6 @@ public final class JapaneseChronology extends Chronology implements Serializable
             case PROLEPTIC_MONTH:
                 return field.range();
         }
-        Calendar jcal = Calendar.getInstance(LOCALE);
         switch (field) {
             case ERA: {
                 JapaneseEra[] eras = JapaneseEra.values();
@@ -402,8 +503,7 @@ public final class JapaneseChronology extends Chronology implements Serializable
                 return ValueRange.of(1, 6, min, maxJapanese);
             }
             case MONTH_OF_YEAR:
-                return ValueRange.of(jcal.getMinimum(Calendar.MONTH) + 1, jcal.getGreatestMinimum(Calendar.MONTH) + 1,
-                                             jcal.getLeastMaximum(Calendar.MONTH) + 1, jcal.getMaximum(Calendar.MONTH) + 1);
+                return MONTH_OF_YEAR_RANGE;
             case DAY_OF_YEAR: {
                 JapaneseEra[] eras = JapaneseEra.values();
                 int min = 366;
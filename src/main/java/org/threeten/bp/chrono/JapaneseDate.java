@@ -40,7 +40,6 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Calendar;
 
 import org.threeten.bp.Clock;
 import org.threeten.bp.DateTimeException;
@@ -336,10 +335,11 @@ public final class JapaneseDate
 
     @Override
     public int lengthOfYear() {
-        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-        return  jcal.getActualMaximum(Calendar.DAY_OF_YEAR);
+        // the year-of-era is shorter than the ISO year when the era changes
+        int firstDay = (yearOfEra == 1 ? era.startDate().getDayOfYear() : 1);
+        LocalDate end = era.endDate();
+        int lastDay = (end.getYear() == isoDate.getYear() ? end.getDayOfYear() : isoDate.lengthOfYear());
+        return lastDay - firstDay + 1;
     }
 
     //-----------------------------------------------------------------------
@@ -391,9 +391,9 @@ public final class JapaneseDate
                 ChronoField f = (ChronoField) field;
                 switch (f) {
                     case DAY_OF_YEAR:
-                        return actualRange(Calendar.DAY_OF_YEAR);
+                        return ValueRange.of(1, lengthOfYear());
                     case YEAR_OF_ERA:
-                        return actualRange(Calendar.YEAR);
+                        return yearOfEraRange();
                 }
                 return getChronology().range(f);
             }
@@ -402,12 +402,40 @@ public final class JapaneseDate
         return field.rangeRefinedBy(this);
     }
 
-    private ValueRange actualRange(int calendarField) {
-        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-        return ValueRange.of(jcal.getActualMinimum(calendarField),
-                                     jcal.getActualMaximum(calendarField));
+    /**
+     * Calculates the range of year-of-era that this month-day is valid for in this era.
+     * <p>
+     * The first year is excluded if the month-day is before the start of the era,
+     * and the last year is excluded if the month-day is after the end of the era.
+     * The first year of Meiji is before {@link #MIN_DATE}, so is never excluded.
+     *
+     * @return the range, not null
+     */
+    private ValueRange yearOfEraRange() {
+        LocalDate start = era.startDate();
+        LocalDate end = era.endDate();
+        int min = 1;
+        if (era != JapaneseEra.MEIJI && dayOfYearIn(start.getYear()) < start.getDayOfYear()) {
+            min = 2;
+        }
+        int max = end.getYear() - start.getYear() + 1;
+        if (dayOfYearIn(end.getYear()) > end.getDayOfYear()) {
+            max--;
+        }
+        return ValueRange.of(min, max);
+    }
+
+    /**
+     * Gets the ISO day-of-year that this month-day would have in the specified year.
+     * <p>
+     * The 29th February is treated as the 1st March in a non-leap year.
+     *
+     * @param isoYear  the ISO year
+     * @return the day-of-year
+     */
+    private int dayOfYearIn(int isoYear) {
+        boolean leap = IsoChronology.INSTANCE.isLeapYear(isoYear);
+        return isoDate.getMonth().firstDayOfYear(leap) + isoDate.getDayOfMonth() - 1;
     }
 
     @Override
@@ -296,7 +296,7 @@ public final class JapaneseEra
      */
     LocalDate endDate() {
         int ordinal = ordinal(eraValue);
-        JapaneseEra[] eras = values();
+        JapaneseEra[] eras = KNOWN_ERAS.get();
         if (ordinal >= eras.length - 1) {
             return LocalDate.MAX;
         }
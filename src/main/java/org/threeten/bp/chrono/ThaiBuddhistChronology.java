@@ -261,6 +261,71 @@ public final class ThaiBuddhistChronology extends Chronology implements Serializ
         return Arrays.<Era>asList(ThaiBuddhistEra.values());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of epoch-days.
+     * <p>
+     * The year, year-of-era and era are calculated by offsetting the ISO year,
+     * and other date fields are the same as ISO, so no dates are created.
+     *
+     * @param epochDays  the epoch-days to convert, not null
+     * @param field  the field to extract, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     */
+    @Override
+    public void fieldsFromEpochDays(long[] epochDays, ChronoField field, int[] out) {
+        checkFieldsFromEpochDays(epochDays, field, out);
+        switch (field) {
+            case YEAR:
+            case YEAR_OF_ERA:
+            case ERA:
+                IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, YEAR, out);
+                for (int i = 0; i < epochDays.length; i++) {
+                    int prolepticYear = out[i] + YEARS_DIFFERENCE;
+                    if (field == YEAR) {
+                        out[i] = prolepticYear;
+                    } else if (field == YEAR_OF_ERA) {
+                        out[i] = (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+                    } else {
+                        out[i] = (prolepticYear >= 1 ? 1 : 0);
+                    }
+                }
+                return;
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case DAY_OF_YEAR:
+            case MONTH_OF_YEAR:
+                IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, field, out);
+                return;
+            default:
+                super.fieldsFromEpochDays(epochDays, field, out);
+        }
+    }
+
+    /**
+     * Converts each of an array of proleptic-year, month-of-year and day-of-month to an epoch-day.
+     * <p>
+     * The years are offset to ISO years and converted in bulk by {@link IsoChronology}.
+     *
+     * @param prolepticYears  the Thai Buddhist proleptic-years, not null
+     * @param months  the Thai Buddhist months-of-year, same length as the years, not null
+     * @param daysOfMonth  the Thai Buddhist days-of-month, same length as the years, not null
+     * @param out  the array to store the epoch-days in, at least as long as the years, not null
+     * @throws IllegalArgumentException if the input arrays have different lengths or the output array is too short
+     * @throws DateTimeException if unable to create a date
+     */
+    @Override
+    public void epochDaysFrom(int[] prolepticYears, int[] months, int[] daysOfMonth, long[] out) {
+        checkEpochDaysFrom(prolepticYears, months, daysOfMonth, out);
+        int[] isoYears = new int[prolepticYears.length];
+        for (int i = 0; i < prolepticYears.length; i++) {
+            isoYears[i] = prolepticYears[i] - YEARS_DIFFERENCE;
+        }
+        IsoChronology.INSTANCE.epochDaysFrom(isoYears, months, daysOfMonth, out);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public ValueRange range(ChronoField field) {
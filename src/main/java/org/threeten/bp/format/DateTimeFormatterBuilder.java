@@ -733,6 +733,10 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            @Override
+            LocaleStore findStore(TemporalField field, Locale locale) {
+                return store;
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -2356,13 +2360,12 @@ public final class DateTimeFormatterBuilder {
             }
             long value = getValue(context, valueLong);
             DecimalStyle symbols = context.getSymbols();
-            String str = (value == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(value)));
-            if (str.length() > maxWidth) {
+            int digits = (value == Long.MIN_VALUE ? 19 : digitCount(Math.abs(value)));
+            if (digits > maxWidth) {
                 throw new DateTimeException("Field " + field +
                     " cannot be printed as the value " + value +
                     " exceeds the maximum print width of " + maxWidth);
             }
-            str = symbols.convertNumberToI18N(str);
 
             if (value >= 0) {
                 switch (signStyle) {
@@ -2388,13 +2391,30 @@ public final class DateTimeFormatterBuilder {
                             " cannot be negative according to the SignStyle");
                 }
             }
-            for (int i = 0; i < minWidth - str.length(); i++) {
-                buf.append(symbols.getZeroDigit());
+            if (value == Long.MIN_VALUE) {
+                symbols.appendNumberI18N(buf, "9223372036854775808", 0);
+            } else {
+                symbols.appendDigits(buf, Math.abs(value), Math.max(minWidth, digits));
             }
-            buf.append(str);
             return true;
         }
 
+        /**
+         * Counts the decimal digits in a non-negative value.
+         *
+         * @param value  the value, zero or greater
+         * @return the number of digits, from 1 to 19
+         */
+        private static int digitCount(long value) {
+            int count = 1;
+            long limit = 10;
+            while (count < 19 && value >= limit) {
+                count++;
+                limit *= 10;
+            }
+            return count;
+        }
+
         /**
          * Gets the value to output.
          *
@@ -2443,6 +2463,7 @@ public final class DateTimeFormatterBuilder {
                 return ~position;
             }
             int effMaxWidth = (context.isStrict() || isFixedWidth(context) ? maxWidth : 9) + Math.max(subsequentWidth, 0);
+            DecimalStyle symbols = context.getSymbols();
             long total = 0;
             BigInteger totalBig = null;
             int pos = position;
@@ -2450,7 +2471,7 @@ public final class DateTimeFormatterBuilder {
                 int maxEndPos = Math.min(pos + effMaxWidth, length);
                 while (pos < maxEndPos) {
                     char ch = text.charAt(pos++);
-                    int digit = context.getSymbols().convertToDigit(ch);
+                    int digit = symbols.convertToDigit(ch);
                     if (digit < 0) {
                         pos--;
                         if (pos < minEndPos) {
@@ -2712,12 +2733,11 @@ public final class DateTimeFormatterBuilder {
             } else {
                 int outputScale = Math.min(Math.max(fraction.scale(), minWidth), maxWidth);
                 fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
-                String str = fraction.toPlainString().substring(2);
-                str = symbols.convertNumberToI18N(str);
+                String str = fraction.toPlainString();
                 if (decimalPoint) {
                     buf.append(symbols.getDecimalSeparator());
                 }
-                buf.append(str);
+                symbols.appendNumberI18N(buf, str, 2);
             }
             return true;
         }
@@ -2743,11 +2763,12 @@ public final class DateTimeFormatterBuilder {
                 return ~position;  // need at least min width digits
             }
             int maxEndPos = Math.min(position + effectiveMax, length);
+            DecimalStyle symbols = context.getSymbols();
             int total = 0;  // can use int because we are only parsing up to 9 digits
             int pos = position;
             while (pos < maxEndPos) {
                 char ch = text.charAt(pos++);
-                int digit = context.getSymbols().convertToDigit(ch);
+                int digit = symbols.convertToDigit(ch);
                 if (digit < 0) {
                     if (pos < minEndPos) {
                         return ~position;  // need at least min width digits
@@ -2869,6 +2890,19 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            LocaleStore store = provider.findStore(field, context.getLocale());
+            if (store != null) {
+                if (store.isParsable(style)) {
+                    Entry<String, Long> entry = store.findMatch(style, context, parseText, position);
+                    if (entry != null) {
+                        return context.setParsedField(field, entry.getValue(), position, position + entry.getKey().length());
+                    }
+                    if (context.isStrict()) {
+                        return ~position;
+                    }
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -3796,6 +3830,11 @@ public final class DateTimeFormatterBuilder {
     static final class LocalizedPrinterParser implements DateTimePrinterParser {
         private final FormatStyle dateStyle;
         private final FormatStyle timeStyle;
+        /**
+         * The printer-parser for the last locale and chronology, null if none.
+         * The resolved state is immutable, thus a race only causes extra resolution.
+         */
+        private volatile Resolved lastResolved;
 
         /**
          * Constructor.
@@ -3812,13 +3851,32 @@ public final class DateTimeFormatterBuilder {
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             Chronology chrono = Chronology.from(context.getTemporal());
-            return formatter(context.getLocale(), chrono).toPrinterParser(false).print(context, buf);
+            return printerParser(context.getLocale(), chrono).print(context, buf);
         }
 
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
             Chronology chrono = context.getEffectiveChronology();
-            return formatter(context.getLocale(), chrono).toPrinterParser(false).parse(context, text, position);
+            return printerParser(context.getLocale(), chrono).parse(context, text, position);
+        }
+
+        /**
+         * Gets the printer-parser to use, reusing the last one if the locale and chronology match.
+         *
+         * @param locale  the locale to use, not null
+         * @param chrono  the chronology to use, not null
+         * @return the printer-parser, not null
+         * @throws IllegalArgumentException if the formatter cannot be found
+         */
+        private CompositePrinterParser printerParser(Locale locale, Chronology chrono) {
+            Resolved resolved = lastResolved;
+            if (resolved != null && resolved.chrono == chrono &&
+                    (resolved.locale == locale || resolved.locale.equals(locale))) {
+                return resolved.printerParser;
+            }
+            CompositePrinterParser pp = formatter(locale, chrono).toPrinterParser(false);
+            lastResolved = new Resolved(locale, chrono, pp);
+            return pp;
         }
 
         /**
@@ -3838,6 +3896,21 @@ public final class DateTimeFormatterBuilder {
             return "Localized(" + (dateStyle != null ? dateStyle : "") + "," +
                 (timeStyle != null ? timeStyle : "") + ")";
         }
+
+        /**
+         * The printer-parser resolved for a locale and chronology.
+         */
+        private static final class Resolved {
+            private final Locale locale;
+            private final Chronology chrono;
+            private final CompositePrinterParser printerParser;
+
+            Resolved(Locale locale, Chronology chrono, CompositePrinterParser printerParser) {
+                this.locale = locale;
+                this.chrono = chrono;
+                this.printerParser = printerParser;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
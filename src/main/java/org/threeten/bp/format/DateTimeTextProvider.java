@@ -36,6 +36,7 @@ import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.threeten.bp.format.SimpleDateTimeTextProvider.LocaleStore;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -112,6 +113,20 @@ public abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets the store of text for the specified field and locale, if available.
+     * <p>
+     * Providers in this package return a store to allow parsing using its index
+     * rather than searching the iterator of text.
+     *
+     * @param field  the field to get text for, not null
+     * @param locale  the locale to get text for, not null
+     * @return the store of text, null to use the iterator of text
+     */
+    LocaleStore findStore(TemporalField field, Locale locale) {
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     // use JVM class initializtion to lock the singleton without additional synchronization
     static class ProviderSingleton {
@@ -62,6 +62,10 @@ public final class DecimalStyle {
      * The cache of symbols instances.
      */
     private static final ConcurrentMap<Locale, DecimalStyle> CACHE = new ConcurrentHashMap<Locale, DecimalStyle>(16, 0.75f, 2);
+    /**
+     * The maximum number of locales to cache.
+     */
+    private static final int MAX_CACHED_LOCALES = 1024;
 
     /**
      * The zero digit.
@@ -117,8 +121,12 @@ public final class DecimalStyle {
         DecimalStyle info = CACHE.get(locale);
         if (info == null) {
             info = create(locale);
-            CACHE.putIfAbsent(locale, info);
-            info = CACHE.get(locale);
+            if (CACHE.size() < MAX_CACHED_LOCALES) {
+                DecimalStyle existing = CACHE.putIfAbsent(locale, info);
+                if (existing != null) {
+                    info = existing;
+                }
+            }
         }
         return info;
     }
@@ -298,6 +306,47 @@ public final class DecimalStyle {
         return new String(array);
     }
 
+    /**
+     * Appends the input numeric text to the buffer in the internationalized form.
+     * <p>
+     * This is equivalent to appending the result of {@link #convertNumberToI18N(String)}
+     * for the text from the start index, without creating intermediate text.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param numericText  the text, consisting of digits 0 to 9 from the start index, not null
+     * @param start  the index of the first digit to append
+     */
+    void appendNumberI18N(StringBuilder buf, String numericText, int start) {
+        int length = numericText.length();
+        if (zeroDigit == '0') {
+            buf.append(numericText, start, length);
+            return;
+        }
+        int diff = zeroDigit - '0';
+        for (int i = start; i < length; i++) {
+            buf.append((char) (numericText.charAt(i) + diff));
+        }
+    }
+
+    /**
+     * Appends a non-negative number to the buffer using the zero character,
+     * padding with leading zeros to the specified number of digits.
+     * <p>
+     * The digits are written directly into the buffer, without creating intermediate text.
+     *
+     * @param buf  the buffer to append to, not null
+     * @param value  the value to append, zero or greater
+     * @param digits  the number of digits to append, at least the number of digits in the value
+     */
+    void appendDigits(StringBuilder buf, long value, int digits) {
+        int end = buf.length() + digits;
+        buf.setLength(end);
+        for (int pos = end - 1; pos >= end - digits; pos--) {
+            buf.setCharAt(pos, (char) (zeroDigit + (int) (value % 10)));
+            value /= 10;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if these symbols equal another set of symbols.
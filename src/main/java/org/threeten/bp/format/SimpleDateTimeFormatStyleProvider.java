@@ -51,8 +51,8 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
     // TODO: Better implementation based on CLDR
 
     /** Cache of formatters. */
-    private static final ConcurrentMap<String, Object> FORMATTER_CACHE =
-                        new ConcurrentHashMap<String, Object>(16, 0.75f, 2);
+    private static final ConcurrentMap<CacheKey, Object> FORMATTER_CACHE =
+                        new ConcurrentHashMap<CacheKey, Object>(16, 0.75f, 2);
 
     @Override
     public Locale[] getAvailableLocales() {
@@ -65,7 +65,7 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
         if (dateStyle == null && timeStyle == null) {
             throw new IllegalArgumentException("Date and Time style must not both be null");
         }
-        String key = chrono.getId() + '|' + locale.toString() + '|' + dateStyle + timeStyle;
+        CacheKey key = new CacheKey(dateStyle, timeStyle, chrono, locale);
         Object cached = FORMATTER_CACHE.get(key);
         if (cached != null) {
             if (cached.equals("")) {
@@ -102,4 +102,41 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
         return style.ordinal();  // indices happen to align
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The key of the formatter cache, avoiding the creation of a string per lookup.
+     */
+    private static final class CacheKey {
+        private final FormatStyle dateStyle;
+        private final FormatStyle timeStyle;
+        private final Chronology chrono;
+        private final Locale locale;
+
+        CacheKey(FormatStyle dateStyle, FormatStyle timeStyle, Chronology chrono, Locale locale) {
+            this.dateStyle = dateStyle;
+            this.timeStyle = timeStyle;
+            this.chrono = chrono;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof CacheKey) {
+                CacheKey other = (CacheKey) obj;
+                return dateStyle == other.dateStyle && timeStyle == other.timeStyle &&
+                        chrono.getId().equals(other.chrono.getId()) && locale.equals(other.locale);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return (dateStyle != null ? dateStyle.ordinal() : 7) * 31 + (timeStyle != null ? timeStyle.ordinal() : 7) ^
+                    chrono.getId().hashCode() ^ locale.hashCode();
+        }
+    }
+
 }
@@ -39,6 +39,7 @@ import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
 import java.text.DateFormatSymbols;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
@@ -49,6 +50,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -74,42 +76,84 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         }
     };
 
-    /** Cache. */
-    private final ConcurrentMap<Entry<TemporalField, Locale>, Object> cache =
-            new ConcurrentHashMap<Entry<TemporalField, Locale>, Object>(16, 0.75f, 2);
+    /** Caches of stores by locale, in the order of {@link #cacheIndex(TemporalField)}. */
+    private final List<ConcurrentMap<Locale, LocaleStore>> caches;
+
+    /**
+     * Constructor.
+     */
+    SimpleDateTimeTextProvider() {
+        List<ConcurrentMap<Locale, LocaleStore>> list = new ArrayList<ConcurrentMap<Locale, LocaleStore>>();
+        for (int i = 0; i < 5; i++) {
+            list.add(new ConcurrentHashMap<Locale, LocaleStore>(16, 0.75f, 2));
+        }
+        this.caches = list;
+    }
 
     //-----------------------------------------------------------------------
     @Override
     public String getText(TemporalField field, long value, TextStyle style, Locale locale) {
-        Object store = findStore(field, locale);
-        if (store instanceof LocaleStore) {
-            return ((LocaleStore) store).getText(value, style);
+        LocaleStore store = findStore(field, locale);
+        if (store != null) {
+            return store.getText(value, style);
         }
         return null;
     }
 
     @Override
     public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
-        Object store = findStore(field, locale);
-        if (store instanceof LocaleStore) {
-            return ((LocaleStore) store).getTextIterator(style);
+        LocaleStore store = findStore(field, locale);
+        if (store != null) {
+            return store.getTextIterator(style);
         }
         return null;
     }
 
     //-----------------------------------------------------------------------
-    private Object findStore(TemporalField field, Locale locale) {
-        Entry<TemporalField, Locale> key = createEntry(field, locale);
-        Object store = cache.get(key);
+    @Override
+    LocaleStore findStore(TemporalField field, Locale locale) {
+        int index = cacheIndex(field);
+        if (index < 0) {
+            return null;
+        }
+        ConcurrentMap<Locale, LocaleStore> cache = caches.get(index);
+        LocaleStore store = cache.get(locale);
         if (store == null) {
             store = createStore(field, locale);
-            cache.putIfAbsent(key, store);
-            store = cache.get(key);
+            LocaleStore existing = cache.putIfAbsent(locale, store);
+            if (existing != null) {
+                store = existing;
+            }
         }
         return store;
     }
 
-    private Object createStore(TemporalField field, Locale locale) {
+    /**
+     * Gets the index of the cache for the field.
+     *
+     * @param field  the field, not null
+     * @return the index of the cache, -1 if the field has no text
+     */
+    private static int cacheIndex(TemporalField field) {
+        if (field == MONTH_OF_YEAR) {
+            return 0;
+        }
+        if (field == DAY_OF_WEEK) {
+            return 1;
+        }
+        if (field == AMPM_OF_DAY) {
+            return 2;
+        }
+        if (field == ERA) {
+            return 3;
+        }
+        if (field == IsoFields.QUARTER_OF_YEAR) {
+            return 4;
+        }
+        return -1;
+    }
+
+    private LocaleStore createStore(TemporalField field, Locale locale) {
         if (field == MONTH_OF_YEAR) {
             DateFormatSymbols oldSymbols = DateFormatSymbols.getInstance(locale);
             Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
@@ -250,24 +294,21 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             styleMap.put(TextStyle.NARROW, map);
             return createLocaleStore(styleMap);
         }
-        // hard code English quarter text
-        if (field == IsoFields.QUARTER_OF_YEAR) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-            Map<Long, String> map = new HashMap<Long, String>();
-            map.put(1L, "Q1");
-            map.put(2L, "Q2");
-            map.put(3L, "Q3");
-            map.put(4L, "Q4");
-            styleMap.put(TextStyle.SHORT, map);
-            map = new HashMap<Long, String>();
-            map.put(1L, "1st quarter");
-            map.put(2L, "2nd quarter");
-            map.put(3L, "3rd quarter");
-            map.put(4L, "4th quarter");
-            styleMap.put(TextStyle.FULL, map);
-            return createLocaleStore(styleMap);
-        }
-        return "";  // null marker for map
+        // hard code English quarter text, the only other field with a cache index
+        Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
+        Map<Long, String> map = new HashMap<Long, String>();
+        map.put(1L, "Q1");
+        map.put(2L, "Q2");
+        map.put(3L, "Q3");
+        map.put(4L, "Q4");
+        styleMap.put(TextStyle.SHORT, map);
+        map = new HashMap<Long, String>();
+        map.put(1L, "1st quarter");
+        map.put(2L, "2nd quarter");
+        map.put(3L, "3rd quarter");
+        map.put(4L, "4th quarter");
+        styleMap.put(TextStyle.FULL, map);
+        return createLocaleStore(styleMap);
     }
 
     // for China/Japan we need special behaviour
@@ -407,14 +448,34 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      * This class is immutable and thread-safe.
      */
     static final class LocaleStore {
+        /**
+         * The maximum span of values held in the dense arrays.
+         */
+        private static final int MAX_DENSE_VALUES = 256;
+        /**
+         * The text styles.
+         */
+        private static final TextStyle[] STYLES = TextStyle.values();
         /**
          * Map of value to text.
          */
         private final Map<TextStyle, Map<Long, String>> valueTextMap;
+        /**
+         * The value at index zero of the dense arrays.
+         */
+        private final long minValue;
+        /**
+         * The text by style ordinal and value, null if the values are too sparse.
+         */
+        private final String[][] denseText;
         /**
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * The parse index by style ordinal, with the index of all parsable text last.
+         */
+        private final ParseIndex[] parseIndex;
 
         //-----------------------------------------------------------------------
         /**
@@ -442,6 +503,37 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+            this.parseIndex = new ParseIndex[STYLES.length + 1];
+            for (Entry<TextStyle, List<Entry<String, Long>>> entry : map.entrySet()) {
+                TextStyle style = entry.getKey();
+                parseIndex[style != null ? style.ordinal() : STYLES.length] = new ParseIndex(entry.getValue());
+            }
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Map<Long, String> textMap : valueTextMap.values()) {
+                for (Long value : textMap.keySet()) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            if (min > max) {
+                this.minValue = 0;
+                this.denseText = new String[STYLES.length][];
+            } else if (max - min >= 0 && max - min < MAX_DENSE_VALUES) {
+                this.minValue = min;
+                this.denseText = new String[STYLES.length][];
+                for (Entry<TextStyle, Map<Long, String>> entry : valueTextMap.entrySet()) {
+                    String[] texts = new String[(int) (max - min + 1)];
+                    for (Entry<Long, String> textEntry : entry.getValue().entrySet()) {
+                        texts[(int) (textEntry.getKey() - min)] = textEntry.getValue();
+                    }
+                    denseText[entry.getKey().ordinal()] = texts;
+                }
+            } else {
+                this.minValue = 0;
+                this.denseText = null;
+            }
         }
 
         //-----------------------------------------------------------------------
@@ -454,6 +546,11 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * @return the text for the field value, null if no text found
          */
         String getText(long value, TextStyle style) {
+            if (denseText != null) {
+                String[] texts = denseText[style.ordinal()];
+                long index = value - minValue;
+                return (texts != null && index >= 0 && index < texts.length ? texts[(int) index] : null);
+            }
             Map<Long, String> map = valueTextMap.get(style);
             return map != null ? map.get(value) : null;
         }
@@ -471,6 +568,141 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Checks if text in the specified style can be parsed.
+         *
+         * @param style  the style to check, null for all parsable text
+         * @return true if the style is parsable
+         */
+        boolean isParsable(TextStyle style) {
+            return parseIndex[style != null ? style.ordinal() : STYLES.length] != null;
+        }
+
+        /**
+         * Finds the longest text in the specified style matching the text being parsed.
+         * <p>
+         * This is equivalent to finding the first match from {@link #getTextIterator(TextStyle)},
+         * but only considers the text starting with the character at the parse position.
+         *
+         * @param style  the style to match, null for all parsable text, must be parsable
+         * @param context  the context, used for case sensitivity, not null
+         * @param text  the text being parsed, not null
+         * @param position  the position to match at
+         * @return the matching text to field pair, null if no match
+         */
+        Entry<String, Long> findMatch(TextStyle style, DateTimeParseContext context, CharSequence text, int position) {
+            return parseIndex[style != null ? style.ordinal() : STYLES.length].findMatch(context, text, position);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An index of parsable text by first character.
+     * <p>
+     * Each bucket keeps the order from longest to shortest text, thus the first match
+     * in the bucket is the first match in the full list.
+     * Empty text matches at any position and is checked last.
+     * <p>
+     * This class is immutable and thread-safe.
+     */
+    static final class ParseIndex {
+        /**
+         * The first characters, sorted.
+         */
+        private final char[] keys;
+        /**
+         * The text starting with each of the first characters.
+         */
+        private final List<List<Entry<String, Long>>> buckets;
+        /**
+         * The case folded first characters, sorted.
+         */
+        private final char[] foldedKeys;
+        /**
+         * The text starting with each of the case folded first characters.
+         */
+        private final List<List<Entry<String, Long>>> foldedBuckets;
+        /**
+         * The first empty text, null if none.
+         */
+        private final Entry<String, Long> emptyText;
+
+        /**
+         * Constructor.
+         *
+         * @param list  the parsable text, from longest to shortest, not null
+         */
+        ParseIndex(List<Entry<String, Long>> list) {
+            Map<Character, List<Entry<String, Long>>> exact = new TreeMap<Character, List<Entry<String, Long>>>();
+            Map<Character, List<Entry<String, Long>>> folded = new TreeMap<Character, List<Entry<String, Long>>>();
+            Entry<String, Long> empty = null;
+            for (Entry<String, Long> entry : list) {
+                String text = entry.getKey();
+                if (text.length() == 0) {
+                    if (empty == null) {
+                        empty = entry;
+                    }
+                } else {
+                    addToBucket(exact, text.charAt(0), entry);
+                    addToBucket(folded, fold(text.charAt(0)), entry);
+                }
+            }
+            this.keys = toKeys(exact);
+            this.buckets = new ArrayList<List<Entry<String, Long>>>(exact.values());
+            this.foldedKeys = toKeys(folded);
+            this.foldedBuckets = new ArrayList<List<Entry<String, Long>>>(folded.values());
+            this.emptyText = empty;
+        }
+
+        private static void addToBucket(Map<Character, List<Entry<String, Long>>> map, char key, Entry<String, Long> entry) {
+            List<Entry<String, Long>> bucket = map.get(key);
+            if (bucket == null) {
+                bucket = new ArrayList<Entry<String, Long>>();
+                map.put(key, bucket);
+            }
+            bucket.add(entry);
+        }
+
+        private static char[] toKeys(Map<Character, List<Entry<String, Long>>> map) {
+            char[] array = new char[map.size()];
+            int i = 0;
+            for (Character ch : map.keySet()) {
+                array[i++] = ch;
+            }
+            return array;
+        }
+
+        private static char fold(char ch) {
+            return Character.toLowerCase(Character.toUpperCase(ch));
+        }
+
+        /**
+         * Finds the longest text matching the text being parsed.
+         *
+         * @param context  the context, used for case sensitivity, not null
+         * @param text  the text being parsed, not null
+         * @param position  the position to match at
+         * @return the matching text to field pair, null if no match
+         */
+        Entry<String, Long> findMatch(DateTimeParseContext context, CharSequence text, int position) {
+            if (position < text.length()) {
+                char ch = text.charAt(position);
+                boolean caseSensitive = context.isCaseSensitive();
+                int index = (caseSensitive ? Arrays.binarySearch(keys, ch) : Arrays.binarySearch(foldedKeys, fold(ch)));
+                if (index >= 0) {
+                    List<Entry<String, Long>> bucket = (caseSensitive ? buckets : foldedBuckets).get(index);
+                    for (int i = 0; i < bucket.size(); i++) {
+                        Entry<String, Long> entry = bucket.get(i);
+                        String entryText = entry.getKey();
+                        if (context.subSequenceEquals(entryText, 0, text, position, entryText.length())) {
+                            return entry;
+                        }
+                    }
+                }
+            }
+            return emptyText;
+        }
     }
 
 }
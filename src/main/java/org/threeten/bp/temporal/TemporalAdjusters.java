@@ -34,11 +34,20 @@ package org.threeten.bp.temporal;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.EPOCH_DAY;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
 import static org.threeten.bp.temporal.ChronoUnit.DAYS;
 import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Month;
+import org.threeten.bp.Year;
+import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.jdk8.Jdk8Methods;
 
 /**
@@ -205,11 +214,101 @@ public final class TemporalAdjusters {
         return Impl.FIRST_DAY_OF_NEXT_YEAR;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Adjusts each of an array of ISO epoch-days using the specified adjuster.
+     * <p>
+     * This is equivalent to {@code LocalDate.ofEpochDay(epochDays[i]).with(adjuster).toEpochDay()}
+     * for each element, storing the result in {@code out[i]}.
+     * The adjusters in this class are applied using integer arithmetic without creating dates.
+     * The output array may be the same as the input array.
+     *
+     * @param adjuster  the adjuster to use, not null
+     * @param epochDays  the ISO epoch-days to adjust, not null
+     * @param out  the array to store the adjusted epoch-days in, at least as long as the input, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to make the adjustment
+     */
+    public static void adjustEpochDays(TemporalAdjuster adjuster, long[] epochDays, long[] out) {
+        Jdk8Methods.requireNonNull(adjuster, "adjuster");
+        Jdk8Methods.requireNonNull(epochDays, "epochDays");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (out.length < epochDays.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        if (adjuster instanceof IsoDateAdjuster) {
+            IsoDateAdjuster isoAdjuster = (IsoDateAdjuster) adjuster;
+            int[] years = new int[epochDays.length];
+            int[] months = new int[epochDays.length];
+            int[] doms = new int[epochDays.length];
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, YEAR, years);
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, MONTH_OF_YEAR, months);
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, DAY_OF_MONTH, doms);
+            for (int i = 0; i < epochDays.length; i++) {
+                long epochDay = epochDays[i];
+                int isoDow = Jdk8Methods.floorMod(epochDay + 3, 7) + 1;
+                long days = isoAdjuster.daysToAdd(years[i], months[i], doms[i], isoDow);
+                out[i] = EPOCH_DAY.checkValidValue(epochDay + days);
+            }
+        } else {
+            for (int i = 0; i < epochDays.length; i++) {
+                out[i] = LocalDate.ofEpochDay(epochDays[i]).with(adjuster).toEpochDay();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Base class for adjusters that only alter the date, with direct support for ISO.
+     * <p>
+     * A {@code LocalDate} or {@code LocalDateTime} is adjusted by calculating the
+     * number of days to add from the date fields, creating no intermediate dates.
+     * Other temporals use the general algorithm. This includes {@code ZonedDateTime},
+     * where the offset chosen in an overlap depends on the intermediate steps.
+     */
+    private abstract static class IsoDateAdjuster implements TemporalAdjuster {
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            if (temporal instanceof LocalDate) {
+                LocalDate date = (LocalDate) temporal;
+                return date.plusDays(daysToAdd(date));
+            } else if (temporal instanceof LocalDateTime) {
+                LocalDateTime dateTime = (LocalDateTime) temporal;
+                long days = daysToAdd(dateTime.toLocalDate());
+                return (days == 0 ? dateTime : dateTime.plusDays(days));
+            }
+            return adjustGeneric(temporal);
+        }
+
+        private long daysToAdd(LocalDate date) {
+            return daysToAdd(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), date.getDayOfWeek().getValue());
+        }
+
+        /**
+         * Calculates the number of days to add to an ISO date to adjust it.
+         *
+         * @param year  the ISO year
+         * @param month  the ISO month-of-year, from 1 to 12
+         * @param dom  the ISO day-of-month, from 1 to 31
+         * @param isoDow  the ISO day-of-week, from 1 (Monday) to 7 (Sunday)
+         * @return the number of days to add, may be negative
+         */
+        abstract long daysToAdd(int year, int month, int dom, int isoDow);
+
+        /**
+         * Adjusts any temporal using the date fields.
+         *
+         * @param temporal  the temporal to adjust, not null
+         * @return the adjusted temporal, not null
+         */
+        abstract Temporal adjustGeneric(Temporal temporal);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Enum implementing the adjusters.
      */
-    private static class Impl implements TemporalAdjuster {
+    private static class Impl extends IsoDateAdjuster {
         /** First day of month adjuster. */
         private static final Impl FIRST_DAY_OF_MONTH = new Impl(0);
         /** Last day of month adjuster. */
@@ -228,7 +327,23 @@ public final class TemporalAdjusters {
             this.ordinal = ordinal;
         }
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        long daysToAdd(int year, int month, int dom, int isoDow) {
+            boolean leap = Year.isLeap(year);
+            switch (ordinal) {
+                case 0: return 1 - dom;
+                case 1: return Month.of(month).length(leap) - dom;
+                case 2: return Month.of(month).length(leap) - dom + 1;
+            }
+            int doy = Month.of(month).firstDayOfYear(leap) + dom - 1;
+            switch (ordinal) {
+                case 3: return 1 - doy;
+                case 4: return (leap ? 366 : 365) - doy;
+                case 5: return (leap ? 366 : 365) - doy + 1;
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             switch (ordinal) {
                 case 0: return temporal.with(DAY_OF_MONTH, 1);
                 case 1: return temporal.with(DAY_OF_MONTH, temporal.range(DAY_OF_MONTH).getMaximum());
@@ -324,7 +439,7 @@ public final class TemporalAdjusters {
     /**
      * Class implementing day-of-week in month adjuster.
      */
-    private static final class DayOfWeekInMonth implements TemporalAdjuster {
+    private static final class DayOfWeekInMonth extends IsoDateAdjuster {
         /** The ordinal. */
         private final int ordinal;
         /** The day-of-week value, from 1 to 7. */
@@ -336,7 +451,23 @@ public final class TemporalAdjusters {
             this.dowValue = dow.getValue();
         }
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        long daysToAdd(int year, int month, int dom, int isoDow) {
+            if (ordinal >= 0) {
+                int firstDow = Jdk8Methods.floorMod(isoDow - dom, 7) + 1;
+                long daysDiff = (dowValue - firstDow + 7) % 7;
+                daysDiff += (ordinal - 1L) * 7L;  // safe from overflow
+                return 1 - dom + daysDiff;
+            } else {
+                int length = Month.of(month).length(Year.isLeap(year));
+                int lastDow = Jdk8Methods.floorMod(isoDow - 1 + length - dom, 7) + 1;
+                long daysDiff = dowValue - lastDow;
+                daysDiff = (daysDiff == 0 ? 0 : (daysDiff > 0 ? daysDiff - 7 : daysDiff));
+                daysDiff -= (-ordinal - 1L) * 7L;  // safe from overflow
+                return length - dom + daysDiff;
+            }
+        }
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             if (ordinal >= 0) {
                 Temporal temp = temporal.with(DAY_OF_MONTH, 1);
                 int curDow = temp.get(DAY_OF_WEEK);
@@ -440,7 +571,7 @@ public final class TemporalAdjusters {
     /**
      * Implementation of next, previous or current day-of-week.
      */
-    private static final class RelativeDayOfWeek implements TemporalAdjuster {
+    private static final class RelativeDayOfWeek extends IsoDateAdjuster {
         /** Whether the current date is a valid answer. */
         private final int relative;
         /** The day-of-week value, from 1 to 7. */
@@ -453,7 +584,21 @@ public final class TemporalAdjusters {
         }
 
         @Override
-        public Temporal adjustInto(Temporal temporal) {
+        long daysToAdd(int year, int month, int dom, int isoDow) {
+            if (relative < 2 && isoDow == dowValue) {
+                return 0;
+            }
+            if ((relative & 1) == 0) {
+                int daysDiff = isoDow - dowValue;
+                return daysDiff >= 0 ? 7 - daysDiff : -daysDiff;
+            } else {
+                int daysDiff = dowValue - isoDow;
+                return -(daysDiff >= 0 ? 7 - daysDiff : -daysDiff);
+            }
+        }
+
+        @Override
+        Temporal adjustGeneric(Temporal temporal) {
             int calDow = temporal.get(DAY_OF_WEEK);
             if (relative < 2 && calDow == dowValue) {
                 return temporal;
@@ -51,9 +51,11 @@ import java.util.concurrent.ConcurrentMap;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
 import org.threeten.bp.Year;
 import org.threeten.bp.chrono.ChronoLocalDate;
 import org.threeten.bp.chrono.Chronology;
+import org.threeten.bp.chrono.IsoChronology;
 import org.threeten.bp.format.ResolverStyle;
 import org.threeten.bp.jdk8.Jdk8Methods;
 
@@ -124,10 +126,18 @@ public final class WeekFields implements Serializable {
     // this is because callers shouldn't be expected to know the details of validity
 
     /**
-     * The cache of rules by firstDayOfWeek plus minimalDays.
+     * The cache of rules indexed by firstDayOfWeek and minimalDays.
      * Initialized first to be available for definition of ISO, etc.
      */
-    private static final ConcurrentMap<String, WeekFields> CACHE = new ConcurrentHashMap<String, WeekFields>(4, 0.75f, 2);
+    private static final WeekFields[] CACHE = createCache();
+    /**
+     * The cache of rules by locale.
+     */
+    private static final ConcurrentMap<Locale, WeekFields> CACHE_BY_LOCALE = new ConcurrentHashMap<Locale, WeekFields>(16, 0.75f, 2);
+    /**
+     * The maximum number of locales to cache.
+     */
+    private static final int MAX_CACHED_LOCALES = 1024;
 
     /**
      * The ISO-8601 definition, where a week starts on Monday and the first week
@@ -141,7 +151,7 @@ public final class WeekFields implements Serializable {
      * Note also that the first few days of a calendar year may be in the
      * week-based-year corresponding to the previous calendar year.
      */
-    public static final WeekFields ISO = new WeekFields(DayOfWeek.MONDAY, 4);
+    public static final WeekFields ISO = WeekFields.of(DayOfWeek.MONDAY, 4);
 
     /**
      * The common definition of a week that starts on Sunday.
@@ -197,9 +207,24 @@ public final class WeekFields implements Serializable {
      */
     public static WeekFields of(Locale locale) {
         Jdk8Methods.requireNonNull(locale, "locale");
-        locale = new Locale(locale.getLanguage(), locale.getCountry());  // elminate variants
+        WeekFields rules = CACHE_BY_LOCALE.get(locale);
+        if (rules == null) {
+            rules = lookupLocale(locale);
+            if (CACHE_BY_LOCALE.size() < MAX_CACHED_LOCALES) {
+                CACHE_BY_LOCALE.putIfAbsent(locale, rules);
+            }
+        }
+        return rules;
+    }
 
-        // obtain these from GregorianCalendar for now
+    /**
+     * Looks up the week definition for a locale from {@code GregorianCalendar}, uncached.
+     *
+     * @param locale  the locale to use, not null
+     * @return the week-definition, not null
+     */
+    private static WeekFields lookupLocale(Locale locale) {
+        locale = new Locale(locale.getLanguage(), locale.getCountry());  // elminate variants
         GregorianCalendar gcal = new GregorianCalendar(locale);
         int calDow = gcal.getFirstDayOfWeek();
         DayOfWeek dow = DayOfWeek.SUNDAY.plus(calDow - 1);
@@ -228,14 +253,26 @@ public final class WeekFields implements Serializable {
      *      or greater than 7
      */
     public static WeekFields of(DayOfWeek firstDayOfWeek, int minimalDaysInFirstWeek) {
-        String key = firstDayOfWeek.toString() + minimalDaysInFirstWeek;
-        WeekFields rules = CACHE.get(key);
-        if (rules == null) {
-            rules = new WeekFields(firstDayOfWeek, minimalDaysInFirstWeek);
-            CACHE.putIfAbsent(key, rules);
-            rules = CACHE.get(key);
+        Jdk8Methods.requireNonNull(firstDayOfWeek, "firstDayOfWeek");
+        if (minimalDaysInFirstWeek < 1 || minimalDaysInFirstWeek > 7) {
+            throw new IllegalArgumentException("Minimal number of days is invalid");
         }
-        return rules;
+        return CACHE[firstDayOfWeek.ordinal() * 7 + minimalDaysInFirstWeek - 1];
+    }
+
+    /**
+     * Creates the cache of all 49 week definitions.
+     *
+     * @return the array indexed by first day-of-week and minimal days, not null
+     */
+    private static WeekFields[] createCache() {
+        WeekFields[] cache = new WeekFields[7 * 7];
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                cache[dow.ordinal() * 7 + minDays - 1] = new WeekFields(dow, minDays);
+            }
+        }
+        return cache;
     }
 
     //-----------------------------------------------------------------------
@@ -503,6 +540,40 @@ public final class WeekFields implements Serializable {
         return weekBasedYear;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Extracts the value of a field from each of an array of ISO epoch-days.
+     * <p>
+     * This is equivalent to {@code LocalDate.ofEpochDay(epochDays[i]).get(field)}
+     * for each element, storing the result in {@code out[i]}.
+     * The fields of this definition are calculated using integer arithmetic
+     * without creating dates.
+     *
+     * @param epochDays  the ISO epoch-days, not null
+     * @param field  the field to extract, typically one of the fields of this definition, not null
+     * @param out  the array to store the values in, at least as long as the epoch-days, not null
+     * @throws IllegalArgumentException if the output array is too short
+     * @throws DateTimeException if unable to create a date or obtain the field
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    public void fieldsFromEpochDays(long[] epochDays, TemporalField field, int[] out) {
+        Jdk8Methods.requireNonNull(epochDays, "epochDays");
+        Jdk8Methods.requireNonNull(field, "field");
+        Jdk8Methods.requireNonNull(out, "out");
+        if (out.length < epochDays.length) {
+            throw new IllegalArgumentException("Output array is too short");
+        }
+        if (field instanceof ComputedDayOfField && ((ComputedDayOfField) field).weekDef.equals(this)) {
+            ((ComputedDayOfField) field).getFromEpochDays(epochDays, out);
+        } else if (field instanceof ChronoField) {
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, (ChronoField) field, out);
+        } else {
+            for (int i = 0; i < epochDays.length; i++) {
+                out[i] = LocalDate.ofEpochDay(epochDays[i]).get(field);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this {@code WeekFields} is equal to the specified object.
@@ -630,6 +701,13 @@ public final class WeekFields implements Serializable {
 
         @Override
         public long getFrom(TemporalAccessor temporal) {
+            if (temporal instanceof LocalDate) {
+                LocalDate date = (LocalDate) temporal;
+                int year = date.getYear();
+                if (year > Year.MIN_VALUE && year < Year.MAX_VALUE) {
+                    return getFromIso(year, date.getDayOfYear(), date.getDayOfMonth(), date.getDayOfWeek().getValue());
+                }
+            }
             // Offset the ISO DOW by the start of this week
             int sow = weekDef.getFirstDayOfWeek().getValue();
             int isoDow = temporal.get(ChronoField.DAY_OF_WEEK);
@@ -711,6 +789,115 @@ public final class WeekFields implements Serializable {
             return year;
         }
 
+        /**
+         * Extracts the value of this field from each of an array of ISO epoch-days.
+         *
+         * @param epochDays  the ISO epoch-days, not null
+         * @param out  the array to store the values in, validated
+         */
+        void getFromEpochDays(long[] epochDays, int[] out) {
+            int[] isoDows = new int[epochDays.length];
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, DAY_OF_WEEK, isoDows);
+            if (rangeUnit == ChronoUnit.WEEKS) {
+                for (int i = 0; i < epochDays.length; i++) {
+                    out[i] = getFromIso(0, 0, 0, isoDows[i]);
+                }
+                return;
+            }
+            if (rangeUnit == ChronoUnit.MONTHS) {
+                int[] doms = new int[epochDays.length];
+                IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, DAY_OF_MONTH, doms);
+                for (int i = 0; i < epochDays.length; i++) {
+                    out[i] = getFromIso(0, 0, doms[i], isoDows[i]);
+                }
+                return;
+            }
+            int[] years = new int[epochDays.length];
+            int[] doys = new int[epochDays.length];
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, YEAR, years);
+            IsoChronology.INSTANCE.fieldsFromEpochDays(epochDays, DAY_OF_YEAR, doys);
+            for (int i = 0; i < epochDays.length; i++) {
+                int year = years[i];
+                if (year > Year.MIN_VALUE && year < Year.MAX_VALUE) {
+                    out[i] = getFromIso(year, doys[i], 0, isoDows[i]);
+                } else {
+                    out[i] = LocalDate.ofEpochDay(epochDays[i]).get(this);
+                }
+            }
+        }
+
+        /**
+         * Gets the value of this field from the ISO date fields.
+         * <p>
+         * This matches the general algorithm, with the previous and next years
+         * calculated directly rather than by date arithmetic.
+         * The year must be neither the minimum nor the maximum.
+         *
+         * @param year  the ISO year, only used for week-based fields
+         * @param doy  the ISO day-of-year, not used for day-of-week and week-of-month
+         * @param dom  the ISO day-of-month, only used for week-of-month
+         * @param isoDow  the ISO day-of-week, from 1 to 7
+         * @return the value of the field
+         */
+        private int getFromIso(int year, int doy, int dom, int isoDow) {
+            int sow = weekDef.getFirstDayOfWeek().getValue();
+            int dow = Jdk8Methods.floorMod(isoDow - sow, 7) + 1;
+            if (rangeUnit == ChronoUnit.WEEKS) {
+                return dow;
+            } else if (rangeUnit == ChronoUnit.MONTHS) {
+                return computeWeek(startOfWeekOffset(dom, dow), dom);
+            }
+            int offset = startOfWeekOffset(doy, dow);
+            int woy = computeWeek(offset, doy);
+            if (rangeUnit == ChronoUnit.YEARS) {
+                return woy;
+            }
+            if (woy == 0) {
+                if (rangeUnit == ChronoUnit.FOREVER) {
+                    return year - 1;
+                }
+                // week-of-year of the same day in the previous week, plus one
+                int previousDoy = doy - 7 + (Year.isLeap(year - 1) ? 366 : 365);
+                return computeWeek(startOfWeekOffset(previousDoy, dow), previousDoy) + 1;
+            } else if (woy >= 53) {
+                int yearLen = Year.isLeap(year) ? 366 : 365;
+                int weekIndexOfFirstWeekNextYear = computeWeek(offset, yearLen + weekDef.getMinimalDaysInFirstWeek());
+                if (woy >= weekIndexOfFirstWeekNextYear) {
+                    return rangeUnit == ChronoUnit.FOREVER ? year + 1 : woy - (weekIndexOfFirstWeekNextYear - 1);
+                }
+            }
+            return rangeUnit == ChronoUnit.FOREVER ? year : woy;
+        }
+
+        /**
+         * Gets the range of the week-of-week-based-year from the ISO date fields.
+         * <p>
+         * This matches {@link #rangeWOWBY(TemporalAccessor)}, moving to the
+         * previous or next year directly rather than by date arithmetic.
+         *
+         * @param year  the ISO year, neither the minimum nor the maximum
+         * @param doy  the ISO day-of-year
+         * @param dow  the localized day-of-week, from 1 to 7
+         * @return the range, not null
+         */
+        private ValueRange rangeWOWBYIso(int year, int doy, int dow) {
+            int offset = startOfWeekOffset(doy, dow);
+            int woy = computeWeek(offset, doy);
+            int yearLen = Year.isLeap(year) ? 366 : 365;
+            if (woy == 0) {
+                // two weeks earlier is in the previous year
+                return rangeWOWBYIso(year - 1, doy - 14 + (Year.isLeap(year - 1) ? 366 : 365), dow);
+            }
+            int weekIndexOfFirstWeekNextYear = computeWeek(offset, yearLen + weekDef.getMinimalDaysInFirstWeek());
+            if (woy >= weekIndexOfFirstWeekNextYear) {
+                if (doy + 14 <= yearLen) {
+                    return rangeWOWBYIso(year, doy + 14, dow);
+                }
+                return rangeWOWBYIso(year + 1, doy + 14 - yearLen, dow);
+            }
+            return ValueRange.of(1, weekIndexOfFirstWeekNextYear - 1);
+        }
+
         /**
          * Returns an offset to align week start with a day of month or day of year.
          *
@@ -950,6 +1137,22 @@ public final class WeekFields implements Serializable {
             if (rangeUnit == ChronoUnit.WEEKS) {
                 return range;
             }
+            if (temporal instanceof LocalDate && rangeUnit != ChronoUnit.FOREVER) {
+                LocalDate date = (LocalDate) temporal;
+                int year = date.getYear();
+                if (year > Year.MIN_VALUE && year < Year.MAX_VALUE) {
+                    int sow = weekDef.getFirstDayOfWeek().getValue();
+                    int dow = Jdk8Methods.floorMod(date.getDayOfWeek().getValue() - sow, 7) + 1;
+                    if (rangeUnit == ChronoUnit.MONTHS) {
+                        int offset = startOfWeekOffset(date.getDayOfMonth(), dow);
+                        return ValueRange.of(computeWeek(offset, 1), computeWeek(offset, date.lengthOfMonth()));
+                    } else if (rangeUnit == ChronoUnit.YEARS) {
+                        int offset = startOfWeekOffset(date.getDayOfYear(), dow);
+                        return ValueRange.of(computeWeek(offset, 1), computeWeek(offset, date.lengthOfYear()));
+                    }
+                    return rangeWOWBYIso(year, date.getDayOfYear(), dow);
+                }
+            }
 
             TemporalField field = null;
             if (rangeUnit == ChronoUnit.MONTHS) {
@@ -37,6 +37,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.threeten.bp.DateTimeException;
 import org.threeten.bp.ZoneId;
@@ -78,6 +79,10 @@ public abstract class ZoneRulesProvider {
      * The lookup from zone region ID to provider.
      */
     private static final ConcurrentMap<String, ZoneRulesProvider> ZONES = new ConcurrentHashMap<String, ZoneRulesProvider>(512, 0.75f, 2);
+    /**
+     * The number of refreshes that updated the rules.
+     */
+    private static final AtomicInteger REFRESH_COUNT = new AtomicInteger();
     static {
         ZoneRulesInitializer.initialize();
     }
@@ -229,9 +234,26 @@ public abstract class ZoneRulesProvider {
         for (ZoneRulesProvider provider : PROVIDERS) {
             changed |= provider.provideRefresh();
         }
+        if (changed) {
+            REFRESH_COUNT.incrementAndGet();
+        }
         return changed;
     }
 
+    /**
+     * Gets the number of times that {@link #refresh()} has updated the rules.
+     * <p>
+     * This allows rules obtained earlier to be cached, and the cache to be
+     * discarded when the count changes.
+     * <p>
+     * This method is not found in Java SE 8.
+     *
+     * @return the number of refreshes that updated the rules, zero or greater
+     */
+    public static int getRefreshCount() {
+        return REFRESH_COUNT.get();
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Constructor.
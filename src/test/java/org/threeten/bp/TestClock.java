@@ -32,7 +32,10 @@
 package org.threeten.bp;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -74,6 +77,27 @@ public class TestClock {
         }
     }
 
+    static class SteppingClock extends Clock {
+        Instant instant;
+        final ZoneId zone;
+        SteppingClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+        @Override
+        public Clock withZone(ZoneId timeZone) {
+            return new SteppingClock(instant, timeZone);
+        }
+    }
+
     private static final Instant INSTANT = Instant.ofEpochSecond(1873687, 357000000);
     private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
     private static final Clock MOCK_INSTANT = new MockInstantClock(INSTANT.toEpochMilli(), ZONE);
@@ -95,4 +119,75 @@ public class TestClock {
         assertEquals(changed.getZone(), london);
     }
 
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "stepping")
+    Object[][] data_stepping() {
+        return new Object[][] {
+            // spring forward, fall back and a normal day
+            {ZoneId.of("Europe/Paris"), LocalDateTime.of(2008, 3, 29, 12, 0)},
+            {ZoneId.of("Europe/Paris"), LocalDateTime.of(2008, 10, 25, 12, 0)},
+            {ZoneId.of("America/Sao_Paulo"), LocalDateTime.of(2008, 10, 18, 12, 0)},
+            {ZoneId.of("Asia/Kolkata"), LocalDateTime.of(2008, 6, 1, 12, 0)},
+            {ZoneOffset.ofHours(-5), LocalDateTime.of(1969, 12, 31, 12, 0)},
+        };
+    }
+
+    @Test(dataProvider = "stepping")
+    public void test_now_daySnapshot(ZoneId zone, LocalDateTime start) {
+        Instant instant = start.atZone(zone).toInstant();
+        SteppingClock clock = new SteppingClock(instant, zone);
+        for (int i = 0; i < 48 * 6; i++) {
+            clock.instant = instant.plusSeconds(i * 599L).plusNanos(i);
+            ZonedDateTime expected = ZonedDateTime.ofInstant(clock.instant, zone);
+            assertEquals(ZonedDateTime.now(clock), expected);
+            assertEquals(LocalDateTime.now(clock), expected.toLocalDateTime());
+            assertEquals(LocalDate.now(clock), expected.toLocalDate());
+            assertEquals(LocalTime.now(clock), expected.toLocalTime());
+            assertEquals(OffsetDateTime.now(clock), expected.toOffsetDateTime());
+            assertEquals(OffsetTime.now(clock), expected.toOffsetDateTime().toOffsetTime());
+        }
+        // moving backwards
+        for (int i = 48 * 6; i >= 0; i--) {
+            clock.instant = instant.plusSeconds(i * 599L);
+            assertEquals(ZonedDateTime.now(clock), ZonedDateTime.ofInstant(clock.instant, zone));
+        }
+    }
+
+    @Test
+    public void test_now_daySnapshot_reused() {
+        SteppingClock clock = new SteppingClock(INSTANT, ZONE);
+        LocalDate today = LocalDate.now(clock);
+        clock.instant = INSTANT.plusSeconds(60);
+        assertSame(LocalDate.now(clock), today);
+    }
+
+    @Test
+    public void test_now_daySnapshot_extremes() {
+        Clock max = Clock.fixed(Instant.MAX, ZoneOffset.UTC);
+        assertEquals(LocalTime.now(max), LocalTime.MAX);
+        assertEquals(OffsetTime.now(max), OffsetTime.of(LocalTime.MAX, ZoneOffset.UTC));
+        Clock min = Clock.fixed(Instant.MIN, ZoneOffset.UTC);
+        assertEquals(LocalTime.now(min), LocalTime.MIDNIGHT);
+    }
+
+    @Test
+    public void test_now_daySnapshot_rulesChanged() {
+        // equal zones with different rules, as after a refresh of the rules
+        ZoneId before = new ZoneRegion("Test/Snapshot", ZoneOffset.ofHours(1).getRules());
+        ZoneId after = new ZoneRegion("Test/Snapshot", ZoneId.of("Europe/Paris").getRules());
+        Instant instant = LocalDateTime.of(2008, 6, 30, 23, 30).toInstant(ZoneOffset.UTC);
+        assertEquals(ZonedDateTime.now(Clock.fixed(instant, before)).getOffset(), ZoneOffset.ofHours(1));
+        assertEquals(LocalDate.now(Clock.fixed(instant, before)), LocalDate.of(2008, 7, 1));
+        assertEquals(ZonedDateTime.now(Clock.fixed(instant, after)).getOffset(), ZoneOffset.ofHours(2));
+        assertEquals(LocalTime.now(Clock.fixed(instant, after)), LocalTime.of(1, 30));
+        assertEquals(OffsetDateTime.now(Clock.fixed(instant, before)).getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    @Test
+    public void test_systemDefaultZone_notShared() {
+        Clock clock = Clock.systemDefaultZone();
+        assertNotSame(Clock.systemDefaultZone(), clock);
+        assertEquals(Clock.systemDefaultZone(), clock);
+    }
+
 }
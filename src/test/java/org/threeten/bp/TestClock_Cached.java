@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test cached clock.
+ */
+@Test
+public class TestClock_Cached extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final Instant INSTANT = Instant.ofEpochSecond(1184500000L, 123000000);
+
+    /**
+     * A clock that returns a settable instant.
+     */
+    static final class MutableClock extends Clock {
+        volatile Instant instant = INSTANT;
+        volatile boolean fail;
+        @Override
+        public ZoneId getZone() {
+            return PARIS;
+        }
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+        @Override
+        public Instant instant() {
+            if (fail) {
+                throw new DateTimeException("Failed");
+            }
+            return instant;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        MutableClock base = new MutableClock();
+        Clock test = Clock.cached(base, Duration.ofMillis(1));
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(test.instant(), INSTANT);
+        assertEquals(test.millis(), INSTANT.toEpochMilli());
+        base.instant = INSTANT.plusSeconds(1);
+        awaitInstant(test, INSTANT.plusSeconds(1));
+        assertEquals(test.millis(), INSTANT.plusSeconds(1).toEpochMilli());
+    }
+
+    public void test_instant_baseClockFails() throws InterruptedException {
+        MutableClock base = new MutableClock();
+        Clock test = Clock.cached(base, Duration.ofMillis(1));
+        base.fail = true;
+        Thread.sleep(20);
+        assertEquals(test.instant(), INSTANT);
+        base.fail = false;
+        base.instant = INSTANT.plusSeconds(2);
+        awaitInstant(test, INSTANT.plusSeconds(2));
+    }
+
+    public void test_instant_system() {
+        Clock test = Clock.cached(Clock.systemUTC(), Duration.ofMillis(5));
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long systemMillis = System.currentTimeMillis();
+            if (systemMillis - test.millis() < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    private static void awaitInstant(Clock clock, Instant expected) {
+        for (int i = 0; i < 5000; i++) {
+            if (clock.instant().equals(expected)) {
+                return;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        fail("Clock not refreshed");
+    }
+
+    //-------------------------------------------------------------------------
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullClock() {
+        Clock.cached(null, Duration.ofMillis(1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_cached_nullDuration() {
+        Clock.cached(Clock.systemUTC(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_zeroDuration() {
+        Clock.cached(Clock.systemUTC(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_cached_negativeDuration() {
+        Clock.cached(Clock.systemUTC(), Duration.ofMillis(-1));
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_withZone() {
+        MutableClock base = new MutableClock();
+        Clock test = Clock.cached(base, Duration.ofMillis(1));
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        base.instant = INSTANT.plusSeconds(3);
+        awaitInstant(changed, INSTANT.plusSeconds(3));
+        assertSame(test.withZone(PARIS), test);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.cached(Clock.systemUTC(), Duration.ofMillis(1)).withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals_hashCode() {
+        Clock a = Clock.cached(Clock.systemUTC(), Duration.ofMillis(1));
+        Clock b = Clock.cached(Clock.systemUTC(), Duration.ofMillis(1));
+        assertEquals(a.equals(a), true);
+        assertEquals(a.equals(b), false);
+        assertEquals(a.equals(a.withZone(PARIS)), false);
+        assertEquals(a.withZone(PARIS).equals(a.withZone(PARIS)), true);
+        assertEquals(a.withZone(PARIS).hashCode(), a.withZone(PARIS).hashCode());
+        assertEquals(a.equals(null), false);
+        assertEquals(a.equals(Clock.systemUTC()), false);
+    }
+
+    public void test_toString() {
+        Clock test = Clock.cached(Clock.systemUTC(), Duration.ofMillis(5));
+        assertEquals(test.toString(), "CachedClock[SystemClock[Z],PT0.005S,Z]");
+    }
+
+}
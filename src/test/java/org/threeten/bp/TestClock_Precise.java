@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.Clock.Calibration;
+import org.threeten.bp.Clock.PreciseClock;
+
+/**
+ * Test precise system clock.
+ */
+@Test
+public class TestClock_Precise extends AbstractTest {
+
+    private static final ZoneId MOSCOW = ZoneId.of("Europe/Moscow");
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+    //-----------------------------------------------------------------------
+    public void test_isSerializable() throws IOException, ClassNotFoundException {
+        assertSerializable(Clock.systemPrecise(PARIS));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_instant() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            Instant instant = precise.instant();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant.toEpochMilli()) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_millis() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            // assume can eventually get these within 10 milliseconds
+            long instant = precise.millis();
+            long systemMillis = System.currentTimeMillis();
+            if (Math.abs(systemMillis - instant) < 10) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    public void test_instant_subMillisecond() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        for (int i = 0; i < 10000; i++) {
+            if (precise.instant().getNano() % 1000000 != 0) {
+                return;  // success
+            }
+        }
+        fail();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_calibrate_initial() {
+        Calibration test = PreciseClock.calibrate(null, 500L, 1000L);
+        assertEquals(test.nanoTime, 500L);
+        assertEquals(test.epochNanos, 1000000000L);
+    }
+
+    public void test_calibrate_withinMillisecond() {
+        Calibration previous = new Calibration(500L, 1000000000L);
+        Calibration test = PreciseClock.calibrate(previous, 1000000500L, 2000L);
+        assertEquals(test.nanoTime, 1000000500L);
+        assertEquals(test.epochNanos, 2000000000L);
+        test = PreciseClock.calibrate(previous, 1000700500L, 2000L);
+        assertEquals(test.epochNanos, 2000700000L);
+    }
+
+    public void test_calibrate_systemClockAhead() {
+        Calibration previous = new Calibration(500L, 1000000000L);
+        Calibration test = PreciseClock.calibrate(previous, 1000000500L, 2005L);
+        assertEquals(test.epochNanos, 2005000000L);
+    }
+
+    public void test_calibrate_systemClockBehind() {
+        Calibration previous = new Calibration(500L, 1000000000L);
+        Calibration test = PreciseClock.calibrate(previous, 1000000500L, 1995L);
+        assertEquals(test.epochNanos, 1995999999L);
+    }
+
+    public void test_recalibrate_replacesObserved() {
+        Calibration observed = new Calibration(500L, 1000000000L);
+        AtomicReference<Calibration> shared = new AtomicReference<Calibration>(observed);
+        Calibration test = PreciseClock.recalibrate(shared, observed, 1000000500L, 2000L);
+        assertEquals(test.epochNanos, 2000000000L);
+        assertSame(shared.get(), test);
+    }
+
+    public void test_recalibrate_keepsNewer() {
+        // a slow thread observed a calibration that has since been replaced
+        Calibration stale = new Calibration(500L, 1000000000L);
+        Calibration newer = new Calibration(2000000500L, 3000000000L);
+        AtomicReference<Calibration> shared = new AtomicReference<Calibration>(newer);
+        Calibration test = PreciseClock.recalibrate(shared, stale, 1000000500L, 2000L);
+        assertSame(test, newer);
+        assertSame(shared.get(), newer);
+    }
+
+    public void test_atLeastLatest() {
+        AtomicLong latest = new AtomicLong(Long.MIN_VALUE);
+        assertEquals(PreciseClock.atLeastLatest(latest, 1000L), 1000L);
+        assertEquals(PreciseClock.atLeastLatest(latest, 2000L), 2000L);
+        // a calibration stepping backwards does not move the result backwards
+        assertEquals(PreciseClock.atLeastLatest(latest, 1500L), 2000L);
+        assertEquals(PreciseClock.atLeastLatest(latest, 2000L), 2000L);
+        assertEquals(PreciseClock.atLeastLatest(latest, 2001L), 2001L);
+        assertEquals(latest.get(), 2001L);
+    }
+
+    public void test_monotonic() {
+        Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        Instant previous = precise.instant();
+        for (int i = 0; i < 10000; i++) {
+            Instant instant = precise.instant();
+            assertTrue(instant.isBefore(previous) == false);
+            previous = instant;
+        }
+    }
+
+    public void test_monotonic_acrossThreads() throws Exception {
+        final Clock precise = Clock.systemPrecise(ZoneOffset.UTC);
+        final AtomicLong latestSeen = new AtomicLong(Long.MIN_VALUE);
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 20000; i++) {
+                        // any value published by another thread before this call must not be exceeded
+                        long before = latestSeen.get();
+                        Instant instant = precise.instant();
+                        long nanos = instant.getEpochSecond() * 1000000000L + instant.getNano();
+                        if (nanos < before) {
+                            failure.set(instant + " before " + before);
+                        }
+                        long current = latestSeen.get();
+                        while (nanos > current && latestSeen.compareAndSet(current, nanos) == false) {
+                            current = latestSeen.get();
+                        }
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(failure.get(), null);
+    }
+
+    //-------------------------------------------------------------------------
+    public void test_systemPrecise_ZoneId() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.getZone(), PARIS);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_systemPrecise_nullZoneId() {
+        Clock.systemPrecise(null);
+    }
+
+    public void test_withZone() {
+        Clock test = Clock.systemPrecise(PARIS);
+        Clock changed = test.withZone(MOSCOW);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(changed.getZone(), MOSCOW);
+        assertEquals(changed, Clock.systemPrecise(MOSCOW));
+    }
+
+    public void test_withZone_same() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertSame(test.withZone(PARIS), test);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_withZone_null() {
+        Clock.systemPrecise(PARIS).withZone(null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals_hashCode() {
+        Clock a = Clock.systemPrecise(PARIS);
+        Clock b = Clock.systemPrecise(PARIS);
+        assertEquals(a.equals(b), true);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(Clock.systemPrecise(MOSCOW)), false);
+        assertEquals(a.equals(Clock.system(PARIS)), false);
+        assertEquals(Clock.system(PARIS).equals(a), false);
+        assertEquals(a.equals(null), false);
+    }
+
+    public void test_toString() {
+        Clock test = Clock.systemPrecise(PARIS);
+        assertEquals(test.toString(), "PreciseClock[Europe/Paris]");
+    }
+
+}
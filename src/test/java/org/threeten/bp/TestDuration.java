@@ -521,6 +521,12 @@ public class TestDuration extends AbstractTest {
         assertEquals(t.getNano(), expectedNanoOfSecond);
     }
 
+    @Test
+    public void factory_parse_lowercaseTimeSeparatorWithoutTime() {
+        // matches JDK behaviour, where only an upper case 'T' without time sections is rejected
+        assertEquals(Duration.parse("P2Dt"), Duration.ofDays(2));
+    }
+
     @DataProvider(name="ParseFailures")
     Object[][] provider_factory_parseFailures() {
         return new Object[][] {
@@ -549,6 +555,15 @@ public class TestDuration extends AbstractTest {
             {"PT-2.-3"},
             {"PT2.+3"},
             {"PT-2.+3"},
+
+            {"P"},
+            {"PT"},
+            {"P1DT"},
+            {"PT1H2"},
+            {"PT1S1S"},
+            {"PT1M1H"},
+            {"P1D1D"},
+            {"+-PT1S"},
         };
     }
 
@@ -49,6 +49,7 @@ import java.util.Locale;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.format.DateTimeFormatter;
 import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.temporal.ChronoField;
 import org.threeten.bp.temporal.ChronoUnit;
@@ -1436,6 +1437,39 @@ public class TestInstant extends AbstractDateTimeTest {
         Instant.ofEpochMilli(Long.MIN_VALUE).minusMillis(1).toEpochMilli();
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedLong() {
+        assertEquals(Instant.ofEpochSecond(1L, 1).toPackedLong(), 1000000001L);
+        assertEquals(Instant.ofEpochSecond(-1L, 1).toPackedLong(), -999999999L);
+        assertEquals(Instant.ofPackedLong(Long.MAX_VALUE).toPackedLong(), Long.MAX_VALUE);
+        assertEquals(Instant.ofPackedLong(Long.MIN_VALUE).toPackedLong(), Long.MIN_VALUE);
+        assertEquals(Instant.ofPackedLong(Long.MIN_VALUE), Instant.parse("1677-09-21T00:12:43.145224192Z"));
+        assertEquals(Instant.ofPackedLong(-1L), Instant.ofEpochSecond(-1L, 999999999));
+    }
+
+    @Test
+    public void test_toPackedLong_ordering() {
+        Instant previous = Instant.ofEpochSecond(-3L, 0);
+        for (Instant instant = previous.plusNanos(1); instant.getEpochSecond() < 3; instant = instant.plusNanos(12345678)) {
+            assertTrue(previous.toPackedLong() < instant.toPackedLong());
+            assertEquals(Instant.ofPackedLong(instant.toPackedLong()), instant);
+            previous = instant;
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedLong_tooBig() {
+        Instant.ofPackedLong(Long.MAX_VALUE).plusNanos(1).toPackedLong();
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedLong_tooSmall() {
+        Instant.ofPackedLong(Long.MIN_VALUE).minusNanos(1).toPackedLong();
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -1658,6 +1692,18 @@ public class TestInstant extends AbstractDateTimeTest {
         assertEquals(Instant.parse(text), instant);
     }
 
+    @Test
+    public void test_toString_matchesFormatter() {
+        for (long secs = -62167219201L; secs < 253402300800L; secs += 86399L * 3001L) {
+            for (int nanos = 0; nanos < 1000000000; nanos += 123456789) {
+                Instant instant = Instant.ofEpochSecond(secs, nanos);
+                String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+                assertEquals(instant.toString(), text);
+                assertEquals(Instant.parse(text), instant);
+            }
+        }
+    }
+
     @Test(dataProvider="toStringParse")
     public void test_parseLowercase(Instant instant, String text) {
         assertEquals(Instant.parse(text.toLowerCase(Locale.ENGLISH)), instant);
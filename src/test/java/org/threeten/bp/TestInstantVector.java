@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Test InstantVector.
+ */
+@Test
+public class TestInstantVector {
+
+    private static final Instant INSTANT_1 = Instant.ofEpochSecond(1184500000L, 123456789);
+    private static final Instant INSTANT_2 = Instant.ofEpochSecond(-1L, 999999999);
+    private static final Instant INSTANT_3 = Instant.ofEpochSecond(1184500000L, 5);
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        InstantVector test = InstantVector.of(INSTANT_1, INSTANT_2);
+        assertEquals(test.size(), 2);
+        assertEquals(test.get(0), INSTANT_1);
+        assertEquals(test.get(1), INSTANT_2);
+        assertEquals(test.getEpochSecond(1), -1L);
+        assertEquals(test.getNano(1), 999999999);
+        assertEquals(test.toString(), "[" + INSTANT_1 + ", " + INSTANT_2 + "]");
+    }
+
+    public void test_ofEpochSeconds() {
+        InstantVector test = InstantVector.ofEpochSeconds(new long[] {1L, 2L});
+        assertEquals(test, InstantVector.of(Instant.ofEpochSecond(1L), Instant.ofEpochSecond(2L)));
+        test = InstantVector.ofEpochSeconds(new long[] {1L, 2L}, new int[] {3, 4});
+        assertEquals(test, InstantVector.of(Instant.ofEpochSecond(1L, 3), Instant.ofEpochSecond(2L, 4)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_ofEpochSeconds_lengthMismatch() {
+        InstantVector.ofEpochSeconds(new long[] {1L, 2L}, new int[] {3});
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofEpochSeconds_invalidNano() {
+        InstantVector.ofEpochSeconds(new long[] {1L}, new int[] {1000000000});
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofEpochSeconds_invalidSecond() {
+        InstantVector.ofEpochSeconds(new long[] {Long.MAX_VALUE});
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_plusSeconds_plusNanos() {
+        InstantVector test = InstantVector.of(INSTANT_1, INSTANT_2);
+        assertEquals(test.plusSeconds(-86400), InstantVector.of(INSTANT_1.plusSeconds(-86400), INSTANT_2.plusSeconds(-86400)));
+        assertEquals(test.plusNanos(1), InstantVector.of(INSTANT_1.plusNanos(1), INSTANT_2.plusNanos(1)));
+        assertEquals(test.plusNanos(-1999999999L), InstantVector.of(INSTANT_1.plusNanos(-1999999999L), INSTANT_2.plusNanos(-1999999999L)));
+        assertSame(test.plusSeconds(0), test);
+        assertSame(test.plusNanos(0), test);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusSeconds_overflow() {
+        InstantVector.of(Instant.MAX).plusSeconds(1);
+    }
+
+    public void test_truncatedTo() {
+        Random random = new Random(7);
+        Instant[] instants = new Instant[500];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = Instant.ofEpochSecond(random.nextInt() * 7L, random.nextInt(1000000000));
+        }
+        InstantVector test = InstantVector.of(instants);
+        ChronoUnit[] units = {ChronoUnit.MICROS, ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS};
+        for (ChronoUnit unit : units) {
+            InstantVector truncated = test.truncatedTo(unit);
+            for (int i = 0; i < instants.length; i++) {
+                assertEquals(truncated.get(i), instants[i].truncatedTo(unit));
+            }
+        }
+        assertSame(test.truncatedTo(ChronoUnit.NANOS), test);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_truncatedTo_tooLarge() {
+        InstantVector.of(INSTANT_1).truncatedTo(ChronoUnit.WEEKS);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sorted() {
+        Random random = new Random(3);
+        Instant[] instants = new Instant[1000];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = Instant.ofEpochSecond(random.nextInt(100) - 50, random.nextInt(10) * 100000000);
+        }
+        InstantVector sorted = InstantVector.of(instants).sorted();
+        Arrays.sort(instants);
+        assertEquals(sorted, InstantVector.of(instants));
+    }
+
+    public void test_binarySearch_range() {
+        InstantVector test = InstantVector.of(INSTANT_1, INSTANT_2, INSTANT_3).sorted();
+        assertEquals(test, InstantVector.of(INSTANT_2, INSTANT_3, INSTANT_1));
+        assertEquals(test.binarySearch(INSTANT_3), 1);
+        assertEquals(test.binarySearch(INSTANT_3.plusNanos(1)), -3);
+        assertEquals(test.binarySearch(Instant.MIN), -1);
+        assertEquals(test.range(INSTANT_3, INSTANT_1), InstantVector.of(INSTANT_3));
+        assertEquals(test.range(INSTANT_3, INSTANT_1.plusNanos(1)), InstantVector.of(INSTANT_3, INSTANT_1));
+        assertEquals(test.range(INSTANT_1, INSTANT_2), InstantVector.EMPTY);
+    }
+
+    public void test_equals_hashCode() {
+        InstantVector a = InstantVector.of(INSTANT_1);
+        InstantVector b = InstantVector.ofEpochSeconds(new long[] {INSTANT_1.getEpochSecond()}, new int[] {INSTANT_1.getNano()});
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(InstantVector.of(INSTANT_3)), false);
+        assertEquals(a.equals(null), false);
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test Interval.
+ */
+@Test
+public class TestInterval {
+
+    private static final Instant NOW1 = Instant.ofEpochSecond(1000);
+    private static final Instant NOW2 = Instant.ofEpochSecond(2000);
+    private static final Instant NOW3 = Instant.ofEpochSecond(3000);
+    private static final Instant NOW4 = Instant.ofEpochSecond(4000);
+
+    //-----------------------------------------------------------------------
+    public void test_of_Instant_Instant() {
+        Interval test = Interval.of(NOW1, NOW2);
+        assertEquals(test.getStart(), NOW1);
+        assertEquals(test.getEnd(), NOW2);
+        assertFalse(test.isEmpty());
+        assertEquals(test.toDuration(), Duration.ofSeconds(1000));
+    }
+
+    public void test_of_Instant_Instant_empty() {
+        Interval test = Interval.of(NOW1, NOW1);
+        assertTrue(test.isEmpty());
+        assertEquals(test.toDuration(), Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_Instant_Instant_badOrder() {
+        Interval.of(NOW2, NOW1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_Instant_Instant_nullStart() {
+        Interval.of(null, NOW2);
+    }
+
+    public void test_of_Instant_Duration() {
+        Interval test = Interval.of(NOW1, Duration.ofSeconds(1000));
+        assertEquals(test, Interval.of(NOW1, NOW2));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_Instant_Duration_negative() {
+        Interval.of(NOW2, Duration.ofSeconds(-1));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_contains() {
+        Interval test = Interval.of(NOW1, NOW2);
+        assertFalse(test.contains(NOW1.minusNanos(1)));
+        assertTrue(test.contains(NOW1));
+        assertTrue(test.contains(NOW2.minusNanos(1)));
+        assertFalse(test.contains(NOW2));
+        assertFalse(Interval.of(NOW1, NOW1).contains(NOW1));
+    }
+
+    public void test_encloses() {
+        Interval test = Interval.of(NOW1, NOW3);
+        assertTrue(test.encloses(test));
+        assertTrue(test.encloses(Interval.of(NOW1, NOW2)));
+        assertTrue(test.encloses(Interval.of(NOW3, NOW3)));
+        assertFalse(test.encloses(Interval.of(NOW2, NOW4)));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "relations")
+    Object[][] data_relations() {
+        // start1, end1, start2, end2, abuts, overlaps, connected
+        return new Object[][] {
+            {NOW1, NOW2, NOW3, NOW4, false, false, false},
+            {NOW1, NOW2, NOW2, NOW3, true, false, true},
+            {NOW1, NOW3, NOW2, NOW4, false, true, true},
+            {NOW1, NOW4, NOW2, NOW3, false, true, true},
+            {NOW1, NOW2, NOW1, NOW2, false, true, true},
+            {NOW1, NOW1, NOW1, NOW1, false, true, true},
+            {NOW1, NOW3, NOW2, NOW2, false, true, true},
+            {NOW1, NOW2, NOW2, NOW2, true, false, true},
+            {NOW2, NOW2, NOW1, NOW3, false, true, true},
+        };
+    }
+
+    @Test(dataProvider = "relations")
+    public void test_relations(Instant start1, Instant end1, Instant start2, Instant end2,
+            boolean abuts, boolean overlaps, boolean connected) {
+        Interval a = Interval.of(start1, end1);
+        Interval b = Interval.of(start2, end2);
+        assertEquals(a.abuts(b), abuts);
+        assertEquals(b.abuts(a), abuts);
+        assertEquals(a.overlaps(b), overlaps);
+        assertEquals(b.overlaps(a), overlaps);
+        assertEquals(a.isConnected(b), connected);
+        assertEquals(b.isConnected(a), connected);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_intersection() {
+        assertEquals(Interval.of(NOW1, NOW3).intersection(Interval.of(NOW2, NOW4)), Interval.of(NOW2, NOW3));
+        assertEquals(Interval.of(NOW1, NOW2).intersection(Interval.of(NOW2, NOW3)), Interval.of(NOW2, NOW2));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_intersection_notConnected() {
+        Interval.of(NOW1, NOW2).intersection(Interval.of(NOW3, NOW4));
+    }
+
+    public void test_span() {
+        assertEquals(Interval.of(NOW1, NOW2).span(Interval.of(NOW3, NOW4)), Interval.of(NOW1, NOW4));
+        assertEquals(Interval.of(NOW2, NOW3).span(Interval.of(NOW1, NOW4)), Interval.of(NOW1, NOW4));
+    }
+
+    public void test_gap() {
+        assertEquals(Interval.of(NOW1, NOW2).gap(Interval.of(NOW3, NOW4)), Interval.of(NOW2, NOW3));
+        assertEquals(Interval.of(NOW3, NOW4).gap(Interval.of(NOW1, NOW2)), Interval.of(NOW2, NOW3));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_gap_abutting() {
+        Interval.of(NOW1, NOW2).gap(Interval.of(NOW2, NOW3));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals_hashCode() {
+        Interval a = Interval.of(NOW1, NOW2);
+        Interval b = Interval.of(NOW1, NOW2);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(Interval.of(NOW1, NOW3)));
+        assertFalse(a.equals(Interval.of(NOW2, NOW2)));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    public void test_toString() {
+        assertEquals(Interval.of(NOW1, NOW2).toString(), "1970-01-01T00:16:40Z/1970-01-01T00:33:20Z");
+    }
+
+}
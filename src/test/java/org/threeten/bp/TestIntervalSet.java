@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test IntervalSet.
+ */
+@Test
+public class TestIntervalSet {
+
+    private static Interval interval(long startSecs, long endSecs) {
+        return Interval.of(Instant.ofEpochSecond(startSecs), Instant.ofEpochSecond(endSecs));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_sorted() {
+        IntervalSet test = IntervalSet.of(interval(30, 40), interval(10, 20), interval(10, 15));
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(0), interval(10, 15));
+        assertEquals(test.get(1), interval(10, 20));
+        assertEquals(test.get(2), interval(30, 40));
+        assertEquals(test.toList(), Arrays.asList(interval(10, 15), interval(10, 20), interval(30, 40)));
+        assertEquals(IntervalSet.of(test.toList()), test);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullElement() {
+        IntervalSet.of(interval(10, 20), null);
+    }
+
+    public void test_empty() {
+        assertEquals(IntervalSet.EMPTY.size(), 0);
+        assertEquals(IntervalSet.EMPTY.indexOf(Instant.EPOCH), -1);
+        assertFalse(IntervalSet.EMPTY.overlaps(interval(0, 10)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_indexOf_disjoint() {
+        IntervalSet test = IntervalSet.of(interval(10, 20), interval(20, 30), interval(40, 50));
+        assertEquals(test.indexOf(Instant.ofEpochSecond(9)), -1);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(10)), 0);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(19, 999999999)), 0);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(20)), 1);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(35)), -1);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(50)), -1);
+        assertTrue(test.contains(Instant.ofEpochSecond(45)));
+        assertFalse(test.contains(Instant.ofEpochSecond(30)));
+    }
+
+    public void test_indexOf_nested() {
+        // the long interval forces a scan past intervals that end earlier
+        IntervalSet test = IntervalSet.of(interval(0, 100), interval(10, 20), interval(30, 40));
+        assertEquals(test.indexOf(Instant.ofEpochSecond(35)), 2);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(50)), 0);
+        assertEquals(test.containing(Instant.ofEpochSecond(15)), Arrays.asList(interval(0, 100), interval(10, 20)));
+    }
+
+    public void test_indexOf_enclosing() {
+        // one interval enclosing many disjoint intervals
+        List<Interval> intervals = new ArrayList<Interval>();
+        intervals.add(interval(0, 100000));
+        for (int i = 0; i < 1000; i++) {
+            intervals.add(interval(i * 100 + 10, i * 100 + 20));
+        }
+        IntervalSet test = IntervalSet.of(intervals);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(55515)), 556);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(55550)), 0);
+        assertEquals(test.indexOf(Instant.ofEpochSecond(100000)), -1);
+        assertEquals(test.containing(Instant.ofEpochSecond(55515)), Arrays.asList(interval(0, 100000), interval(55510, 55520)));
+        assertEquals(test.containing(Instant.ofEpochSecond(55550)), Arrays.asList(interval(0, 100000)));
+        assertEquals(test.overlapping(interval(55518, 55612)),
+                Arrays.asList(interval(0, 100000), interval(55510, 55520), interval(55610, 55620)));
+        assertEquals(test.overlapping(interval(55550, 55550)), Arrays.asList(interval(0, 100000)));
+    }
+
+    public void test_indexOf_bulk() {
+        IntervalSet test = IntervalSet.of(interval(10, 20), interval(40, 50));
+        int[] out = new int[4];
+        test.indexOf(new long[] {5, 10, 45, 50}, out);
+        assertEquals(out, new int[] {-1, 0, 1, -1});
+        int[] outVector = new int[4];
+        test.indexOf(InstantVector.ofEpochSeconds(new long[] {5, 10, 45, 50}), outVector);
+        assertEquals(outVector, out);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_indexOf_bulk_outputTooShort() {
+        IntervalSet.of(interval(10, 20)).indexOf(new long[2], new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_overlapping() {
+        IntervalSet test = IntervalSet.of(interval(10, 20), interval(20, 30), interval(25, 25), interval(0, 100));
+        assertEquals(test.overlapping(interval(15, 22)), Arrays.asList(interval(0, 100), interval(10, 20), interval(20, 30)));
+        assertEquals(test.overlapping(interval(25, 25)), Arrays.asList(interval(0, 100), interval(20, 30), interval(25, 25)));
+        assertEquals(test.overlapping(interval(100, 110)), Collections.<Interval>emptyList());
+        assertTrue(test.overlaps(interval(99, 110)));
+        assertFalse(test.overlaps(interval(100, 110)));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_matchesLinearSearch() {
+        Random random = new Random(47);
+        for (int round = 0; round < 20; round++) {
+            int size = random.nextInt(60);
+            List<Interval> intervals = new ArrayList<Interval>();
+            for (int i = 0; i < size; i++) {
+                long start = random.nextInt(1000);
+                long length = (round % 2 == 0 ? random.nextInt(20) : random.nextInt(400));
+                int nano = (length == 0 ? 0 : random.nextInt(3));
+                intervals.add(Interval.of(Instant.ofEpochSecond(start, nano), Instant.ofEpochSecond(start + length)));
+            }
+            IntervalSet test = IntervalSet.of(intervals);
+            List<Interval> sorted = test.toList();
+            for (int i = 0; i < 200; i++) {
+                Instant point = Instant.ofEpochSecond(random.nextInt(1100) - 50, random.nextInt(3));
+                List<Interval> expected = new ArrayList<Interval>();
+                for (Interval interval : sorted) {
+                    if (interval.contains(point)) {
+                        expected.add(interval);
+                    }
+                }
+                assertEquals(test.containing(point), expected);
+                int index = test.indexOf(point);
+                if (expected.isEmpty()) {
+                    assertEquals(index, -1);
+                } else {
+                    assertEquals(test.get(index).getStart(), expected.get(expected.size() - 1).getStart());
+                    assertTrue(test.get(index).contains(point));
+                }
+
+                long qStart = random.nextInt(1100) - 50;
+                Interval query = (i % 10 == 0 && size > 0 ? sorted.get(random.nextInt(size)) : interval(qStart, qStart + random.nextInt(50)));
+                expected.clear();
+                for (Interval interval : sorted) {
+                    if (interval.overlaps(query)) {
+                        expected.add(interval);
+                    }
+                }
+                assertEquals(test.overlapping(query), expected, query.toString());
+                assertEquals(test.overlaps(query), expected.isEmpty() == false);
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_equals_hashCode_toString() {
+        IntervalSet a = IntervalSet.of(interval(10, 20), interval(0, 5));
+        IntervalSet b = IntervalSet.of(interval(0, 5), interval(10, 20));
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(IntervalSet.of(interval(0, 5))));
+        assertFalse(a.equals(null));
+        assertEquals(a.toString(), "[1970-01-01T00:00:00Z/1970-01-01T00:00:05Z, 1970-01-01T00:00:10Z/1970-01-01T00:00:20Z]");
+    }
+
+}
@@ -34,6 +34,8 @@ package org.threeten.bp;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
@@ -67,6 +69,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -84,6 +87,7 @@ import org.threeten.bp.temporal.TemporalAdjuster;
 import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 
 /**
  * Test LocalDate.
@@ -470,6 +474,57 @@ public class TestLocalDate extends AbstractDateTimeTest {
         }
     }
 
+    @Test
+    public void factory_ofEpochDay_lookupTableBoundaries() {
+        assertEquals(LocalDate.ofEpochDay(-25568), LocalDate.of(1899, 12, 31));
+        assertEquals(LocalDate.ofEpochDay(-25567), LocalDate.of(1900, 1, 1));
+        assertEquals(LocalDate.ofEpochDay(-25508), LocalDate.of(1900, 3, 1));
+        assertEquals(LocalDate.ofEpochDay(11016), LocalDate.of(2000, 2, 29));
+        assertEquals(LocalDate.ofEpochDay(LocalDate.of(2200, 12, 31).toEpochDay()), LocalDate.of(2200, 12, 31));
+        assertEquals(LocalDate.ofEpochDay(LocalDate.of(2201, 1, 1).toEpochDay()), LocalDate.of(2201, 1, 1));
+    }
+
+    @Test
+    public void factory_ofEpochDay_cached() {
+        LocalDate first = LocalDate.ofEpochDay(13706);
+        LocalDate second = LocalDate.of(2007, 7, 12);
+        assertEquals(first, second);
+        for (int i = -3000; i < 3000; i++) {
+            assertEquals(LocalDate.ofEpochDay(13706 + i * 1024).toEpochDay(), 13706 + i * 1024);
+        }
+    }
+
+    @Test
+    public void factory_cache() {
+        assertNull(LocalDate.buildCache(null));
+        assertNull(LocalDate.buildCache("0"));
+        assertNull(LocalDate.buildCache("x"));
+        assertEquals(LocalDate.buildCache(" 1000 ").length, 1024);
+        LocalDate[] cache = LocalDate.buildCache("1024");
+        LocalDate date = LocalDate.cached(cache, 2007, 7, 12);
+        assertEquals(date, LocalDate.of(2007, 7, 12));
+        assertSame(LocalDate.cached(cache, 2007, 7, 12), date);
+        // 33 months of 31 slots plus one day later wraps around the 1024 slots, evicting the entry
+        LocalDate evicting = LocalDate.cached(cache, 2010, 4, 13);
+        assertEquals(evicting, LocalDate.of(2010, 4, 13));
+        LocalDate recreated = LocalDate.cached(cache, 2007, 7, 12);
+        assertEquals(recreated, date);
+        assertNotSame(recreated, date);
+        // consecutive days within the window occupy distinct slots
+        LocalDate start = LocalDate.of(2007, 1, 1);
+        for (int i = 0; i < 900; i++) {
+            LocalDate expected = start.plusDays(i);
+            LocalDate.cached(cache, expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth());
+        }
+        for (int i = 0; i < 900; i++) {
+            LocalDate expected = start.plusDays(i);
+            LocalDate cached = LocalDate.cached(cache, expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth());
+            assertEquals(cached, expected);
+            assertSame(LocalDate.cached(cache, expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()), cached);
+        }
+        assertNotSame(LocalDate.cached(null, 2007, 7, 12), LocalDate.cached(null, 2007, 7, 12));
+    }
+
     @Test(expectedExceptions=DateTimeException.class)
     public void factory_ofEpochDay_aboveMax() {
         LocalDate.ofEpochDay(MAX_VALID_EPOCHDAYS + 1);
@@ -1654,6 +1709,55 @@ public class TestLocalDate extends AbstractDateTimeTest {
         assertEquals(end.until(start, unit), -expected);
     }
 
+    @Test(dataProvider = "until")
+    public void test_untilEpochDays(String startStr, String endStr, TemporalUnit unit, long expected) {
+        long start = LocalDate.parse(startStr).toEpochDay();
+        long end = LocalDate.parse(endStr).toEpochDay();
+        long[] out = new long[2];
+        LocalDate.untilEpochDays(new long[] {start, end}, new long[] {end, start}, unit, out);
+        assertEquals(out[0], expected);
+        assertEquals(out[1], -expected);
+    }
+
+    @Test
+    public void test_untilEpochDays_matchesUntil() {
+        long[] starts = new long[2000];
+        long[] ends = new long[2000];
+        Random random = new Random(46);
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = random.nextInt(2000000) - 1000000;
+            ends[i] = starts[i] + (i % 2 == 0 ? random.nextInt(2000000) - 1000000 : random.nextInt(800) - 400);
+        }
+        starts[0] = LocalDate.MIN.toEpochDay();
+        ends[0] = LocalDate.MAX.toEpochDay();
+        long[] out = new long[starts.length];
+        for (ChronoUnit unit : ChronoUnit.values()) {
+            if (unit.isDateBased() && unit != ChronoUnit.FOREVER) {
+                LocalDate.untilEpochDays(starts, ends, unit, out);
+                for (int i = 0; i < starts.length; i++) {
+                    LocalDate start = LocalDate.ofEpochDay(starts[i]);
+                    LocalDate end = LocalDate.ofEpochDay(ends[i]);
+                    assertEquals(out[i], start.until(end, unit), start + " " + end + " " + unit);
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_untilEpochDays_timeUnit() {
+        LocalDate.untilEpochDays(new long[0], new long[0], ChronoUnit.HOURS, new long[0]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_untilEpochDays_outOfRange() {
+        LocalDate.untilEpochDays(new long[] {0}, new long[] {Long.MAX_VALUE}, MONTHS, new long[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_untilEpochDays_outputTooShort() {
+        LocalDate.untilEpochDays(new long[2], new long[2], DAYS, new long[1]);
+    }
+
     //-----------------------------------------------------------------------
     // atTime()
     //-----------------------------------------------------------------------
@@ -1844,6 +1948,42 @@ public class TestLocalDate extends AbstractDateTimeTest {
         assertEquals(LocalDate.of(-1, 12, 31).toEpochDay(), -678942 - 40587);
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedInt()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedInt() {
+        assertEquals(LocalDate.of(2007, 7, 15).toPackedInt(), (2007 << 9) | (7 << 5) | 15);
+        assertEquals(LocalDate.of(-1, 12, 31).toPackedInt(), (-1 << 9) | (12 << 5) | 31);
+        assertEquals(LocalDate.ofPackedInt(LocalDate.of(4194303, 12, 31).toPackedInt()), LocalDate.of(4194303, 12, 31));
+        assertEquals(LocalDate.ofPackedInt(LocalDate.of(-4194304, 1, 1).toPackedInt()), LocalDate.of(-4194304, 1, 1));
+    }
+
+    @Test
+    public void test_toPackedInt_ordering() {
+        LocalDate previous = LocalDate.of(-3, 1, 1);
+        for (LocalDate date = previous.plusDays(1); date.getYear() < 3; date = date.plusDays(17)) {
+            assertTrue(previous.toPackedInt() < date.toPackedInt());
+            assertEquals(LocalDate.ofPackedInt(date.toPackedInt()), date);
+            previous = date;
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedInt_yearTooLarge() {
+        LocalDate.of(4194304, 1, 1).toPackedInt();
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedInt_yearTooSmall() {
+        LocalDate.of(-4194305, 12, 31).toPackedInt();
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_ofPackedInt_invalid() {
+        LocalDate.ofPackedInt((2007 << 9) | (2 << 5) | 30);
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -63,13 +63,21 @@ import static org.threeten.bp.temporal.ChronoField.SECOND_OF_DAY;
 import static org.threeten.bp.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.threeten.bp.temporal.ChronoField.YEAR;
 import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
+import static org.threeten.bp.temporal.ChronoUnit.CENTURIES;
+import static org.threeten.bp.temporal.ChronoUnit.DAYS;
+import static org.threeten.bp.temporal.ChronoUnit.DECADES;
+import static org.threeten.bp.temporal.ChronoUnit.ERAS;
 import static org.threeten.bp.temporal.ChronoUnit.HALF_DAYS;
 import static org.threeten.bp.temporal.ChronoUnit.HOURS;
 import static org.threeten.bp.temporal.ChronoUnit.MICROS;
+import static org.threeten.bp.temporal.ChronoUnit.MILLENNIA;
 import static org.threeten.bp.temporal.ChronoUnit.MILLIS;
 import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
+import static org.threeten.bp.temporal.ChronoUnit.MONTHS;
 import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
+import static org.threeten.bp.temporal.ChronoUnit.WEEKS;
+import static org.threeten.bp.temporal.ChronoUnit.YEARS;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -82,6 +90,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -99,6 +108,7 @@ import org.threeten.bp.temporal.TemporalAdjuster;
 import org.threeten.bp.temporal.TemporalField;
 import org.threeten.bp.temporal.TemporalQueries;
 import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
 
 /**
  * Test LocalDateTime.
@@ -2665,6 +2675,22 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
                 {"2012-06-15T12:30:40.500", "2012-06-16T12:30:41.499", SECONDS, 86400 + 0},
                 {"2012-06-15T12:30:40.500", "2012-06-16T12:30:41.500", SECONDS, 86400 + 1},
                 {"2012-06-15T12:30:40.500", "2012-06-16T12:30:41.501", SECONDS, 86400 + 1},
+
+                {"2012-06-15T12:30", "2012-06-16T12:29", DAYS, 0},
+                {"2012-06-15T12:30", "2012-06-16T12:30", DAYS, 1},
+                {"2012-06-15T12:30", "2012-06-22T12:29", WEEKS, 0},
+                {"2012-06-15T12:30", "2012-06-22T12:30", WEEKS, 1},
+                {"2012-01-15T10:00", "2012-04-15T09:00", MONTHS, 2},
+                {"2012-01-15T10:00", "2012-04-15T10:00", MONTHS, 3},
+                {"2012-03-01T10:00", "2012-04-01T09:59", MONTHS, 0},
+                {"2012-03-01T10:00", "2012-04-01T10:00", MONTHS, 1},
+                {"2012-01-01T00:00:01", "2013-01-01T00:00", YEARS, 0},
+                {"2012-01-01T00:00", "2013-01-01T00:00", YEARS, 1},
+                {"2012-06-15T12:30", "2022-06-15T12:29", DECADES, 0},
+                {"2012-06-15T12:30", "2112-06-15T12:30", CENTURIES, 1},
+                {"2012-06-15T12:30", "3012-06-15T12:30", MILLENNIA, 1},
+                {"0000-12-31T12:00", "0001-01-01T11:00", ERAS, 0},
+                {"0000-12-31T12:00", "0001-01-01T12:00", ERAS, 1},
         };
     }
 
@@ -2682,6 +2708,71 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
         assertEquals(end.until(start, unit), -expected);
     }
 
+    @Test
+    public void test_untilEpochSeconds_matchesUntil() {
+        long[] starts = new long[2000];
+        long[] ends = new long[2000];
+        Random random = new Random(46);
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = random.nextInt() * 8L + random.nextInt(86400);
+            // many pairs near whole days and months apart to exercise the time-of-day adjustment
+            long delta = (i % 2 == 0 ? random.nextInt() * 4L : random.nextInt(1000) * 86400L + random.nextInt(7200) - 3600);
+            ends[i] = starts[i] + delta;
+        }
+        starts[0] = LocalDateTime.of(Year.MIN_VALUE, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        ends[0] = LocalDateTime.of(Year.MAX_VALUE, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC);
+        long[] out = new long[starts.length];
+        for (ChronoUnit unit : ChronoUnit.values()) {
+            if (unit == ChronoUnit.FOREVER || (unit.isTimeBased() && unit.compareTo(SECONDS) < 0)) {
+                continue;
+            }
+            LocalDateTime.untilEpochSeconds(starts, ends, unit, out);
+            for (int i = 0; i < starts.length; i++) {
+                LocalDateTime start = LocalDateTime.ofEpochSecond(starts[i], 0, ZoneOffset.UTC);
+                LocalDateTime end = LocalDateTime.ofEpochSecond(ends[i], 0, ZoneOffset.UTC);
+                assertEquals(out[i], start.until(end, unit), start + " " + end + " " + unit);
+                if (unit.isDateBased()) {
+                    // the original algorithm, adjusting the end date
+                    LocalDate endDate = end.toLocalDate();
+                    if (endDate.isAfter(start.toLocalDate()) && end.toLocalTime().isBefore(start.toLocalTime())) {
+                        endDate = endDate.minusDays(1);
+                    } else if (endDate.isBefore(start.toLocalDate()) && end.toLocalTime().isAfter(start.toLocalTime())) {
+                        endDate = endDate.plusDays(1);
+                    }
+                    assertEquals(out[i], start.toLocalDate().until(endDate, unit), start + " " + end + " " + unit);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_untilEpochSeconds_nanos() {
+        long[] out = new long[2];
+        LocalDateTime.untilEpochSeconds(new long[] {0, 5}, new long[] {-3, 5}, NANOS, out);
+        assertEquals(out[0], -3000000000L);
+        assertEquals(out[1], 0);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_untilEpochSeconds_forever() {
+        LocalDateTime.untilEpochSeconds(new long[0], new long[0], ChronoUnit.FOREVER, new long[0]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_untilEpochSeconds_outOfRange() {
+        LocalDateTime.untilEpochSeconds(new long[] {0}, new long[] {Long.MAX_VALUE}, DAYS, new long[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_untilEpochSeconds_lengthMismatch() {
+        LocalDateTime.untilEpochSeconds(new long[2], new long[1], DAYS, new long[2]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_untilEpochSeconds_outputTooShort() {
+        LocalDateTime.untilEpochSeconds(new long[2], new long[2], DAYS, new long[1]);
+    }
+
     //-----------------------------------------------------------------------
     // atZone()
     //-----------------------------------------------------------------------
@@ -2740,6 +2831,39 @@ public class TestLocalDateTime extends AbstractDateTimeTest {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // toPackedLong()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_toPackedLong() {
+        LocalDateTime test = LocalDateTime.of(2007, 7, 15, 12, 30, 40, 987654321);
+        assertEquals(test.toPackedLong(), test.toInstant(ZoneOffset.UTC).toPackedLong());
+        assertEquals(LocalDateTime.ofPackedLong(test.toPackedLong()), test);
+        assertEquals(LocalDateTime.ofPackedLong(Long.MAX_VALUE).toPackedLong(), Long.MAX_VALUE);
+        assertEquals(LocalDateTime.ofPackedLong(Long.MIN_VALUE).toPackedLong(), Long.MIN_VALUE);
+        assertEquals(LocalDateTime.ofPackedLong(-1L), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999999999));
+    }
+
+    @Test
+    public void test_toPackedLong_ordering() {
+        LocalDateTime previous = LocalDateTime.of(1969, 12, 31, 23, 59, 57);
+        for (LocalDateTime test = previous.plusNanos(1); test.getYear() < 1971; test = test.plusNanos(12345678987654L)) {
+            assertTrue(previous.toPackedLong() < test.toPackedLong());
+            assertEquals(LocalDateTime.ofPackedLong(test.toPackedLong()), test);
+            previous = test;
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedLong_tooBig() {
+        LocalDateTime.ofPackedLong(Long.MAX_VALUE).plusNanos(1).toPackedLong();
+    }
+
+    @Test(expectedExceptions=DateTimeException.class)
+    public void test_toPackedLong_tooSmall() {
+        LocalDateTime.ofPackedLong(Long.MIN_VALUE).minusNanos(1).toPackedLong();
+    }
+
     //-----------------------------------------------------------------------
     // compareTo()
     //-----------------------------------------------------------------------
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * Test LocalDateVector.
+ */
+@Test
+public class TestLocalDateVector {
+
+    private static final LocalDate DATE_2007_07_15 = LocalDate.of(2007, 7, 15);
+    private static final LocalDate DATE_2008_02_29 = LocalDate.of(2008, 2, 29);
+    private static final LocalDate DATE_1969_12_31 = LocalDate.of(1969, 12, 31);
+
+    //-----------------------------------------------------------------------
+    public void test_of() {
+        LocalDateVector test = LocalDateVector.of(DATE_2007_07_15, DATE_2008_02_29, DATE_1969_12_31);
+        assertEquals(test.size(), 3);
+        assertEquals(test.get(0), DATE_2007_07_15);
+        assertEquals(test.get(1), DATE_2008_02_29);
+        assertEquals(test.get(2), DATE_1969_12_31);
+        assertEquals(test.getEpochDay(2), -1);
+        assertEquals(test.toString(), "[2007-07-15, 2008-02-29, 1969-12-31]");
+    }
+
+    public void test_ofEpochDays_copiesArray() {
+        int[] epochDays = {0, 1, 2};
+        LocalDateVector test = LocalDateVector.ofEpochDays(epochDays);
+        epochDays[0] = 100;
+        assertEquals(test.get(0), LocalDate.of(1970, 1, 1));
+        test.toEpochDays()[1] = 100;
+        assertEquals(test.get(1), LocalDate.of(1970, 1, 2));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_outOfRange() {
+        LocalDateVector.of(LocalDate.MAX);
+    }
+
+    public void test_of_fields() {
+        LocalDateVector test = LocalDateVector.of(new int[] {2007, 2008, 1969}, new int[] {7, 2, 12}, new int[] {15, 29, 31});
+        assertEquals(test, LocalDateVector.of(DATE_2007_07_15, DATE_2008_02_29, DATE_1969_12_31));
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_fields_invalidDate() {
+        LocalDateVector.of(new int[] {2007, 2007}, new int[] {7, 2}, new int[] {15, 29});
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_fields_differentLengths() {
+        LocalDateVector.of(new int[] {2007, 2008}, new int[] {7}, new int[] {15, 29});
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_get_field() {
+        Random random = new Random(5);
+        int[] epochDays = new int[2000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = random.nextInt(2000000) - 1000000;
+        }
+        LocalDateVector test = LocalDateVector.ofEpochDays(epochDays);
+        for (ChronoField field : ChronoField.values()) {
+            if (field.isDateBased() && field != ChronoField.EPOCH_DAY && field != ChronoField.PROLEPTIC_MONTH) {
+                int[] values = test.get(field);
+                for (int i = 0; i < epochDays.length; i++) {
+                    assertEquals(values[i], LocalDate.ofEpochDay(epochDays[i]).get(field), field.toString());
+                }
+            }
+        }
+        int[] months = test.get(ChronoField.PROLEPTIC_MONTH);
+        int[] days = test.get(ChronoField.EPOCH_DAY);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(months[i], LocalDate.ofEpochDay(epochDays[i]).getLong(ChronoField.PROLEPTIC_MONTH));
+            assertEquals(days[i], epochDays[i]);
+        }
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_get_timeField() {
+        LocalDateVector.of(DATE_2007_07_15).get(ChronoField.HOUR_OF_DAY);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_plusDays() {
+        LocalDateVector test = LocalDateVector.of(DATE_2007_07_15, DATE_2008_02_29);
+        assertEquals(test.plusDays(366), LocalDateVector.of(DATE_2007_07_15.plusDays(366), DATE_2008_02_29.plusDays(366)));
+        assertEquals(test.plusDays(-1), LocalDateVector.of(DATE_2007_07_15.minusDays(1), DATE_2008_02_29.minusDays(1)));
+        assertSame(test.plusDays(0), test);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_plusDays_overflow() {
+        LocalDateVector.ofEpochDays(new int[] {Integer.MAX_VALUE}).plusDays(1);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_sorted_binarySearch_range() {
+        LocalDateVector test = LocalDateVector.of(DATE_2008_02_29, DATE_1969_12_31, DATE_2007_07_15, DATE_2007_07_15).sorted();
+        assertEquals(test, LocalDateVector.of(DATE_1969_12_31, DATE_2007_07_15, DATE_2007_07_15, DATE_2008_02_29));
+        assertEquals(test.binarySearch(DATE_1969_12_31), 0);
+        assertEquals(test.binarySearch(DATE_2008_02_29), 3);
+        assertEquals(test.binarySearch(LocalDate.of(2000, 1, 1)), -2);
+        assertEquals(test.binarySearch(LocalDate.of(2010, 1, 1)), -5);
+        assertEquals(test.range(DATE_2007_07_15, DATE_2008_02_29), LocalDateVector.of(DATE_2007_07_15, DATE_2007_07_15));
+        assertEquals(test.range(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 1, 1)), test);
+        assertEquals(test.range(DATE_2008_02_29, DATE_1969_12_31), LocalDateVector.EMPTY);
+        assertTrue(test.range(LocalDate.of(2100, 1, 1), LocalDate.of(2200, 1, 1)).size() == 0);
+    }
+
+    public void test_equals_hashCode() {
+        LocalDateVector a = LocalDateVector.of(DATE_2007_07_15);
+        LocalDateVector b = LocalDateVector.ofEpochDays(new int[] {(int) DATE_2007_07_15.toEpochDay()});
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(a.equals(LocalDateVector.EMPTY), false);
+        assertEquals(a.equals(null), false);
+    }
+
+}
@@ -33,6 +33,9 @@ package org.threeten.bp;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
@@ -423,6 +426,32 @@ public class TestLocalTime extends AbstractDateTimeTest {
         check(localTime, 2, 17, 23, 0);
     }
 
+    @Test
+    public void factory_ofSecondOfDay_cached() {
+        LocalTime first = LocalTime.ofSecondOfDay(2 * 60 * 60 + 17 * 60 + 23);
+        LocalTime second = LocalTime.of(2, 17, 23);
+        assertEquals(first, second);
+        assertEquals(LocalTime.ofNanoOfDay(1), LocalTime.of(0, 0, 0, 1));
+        assertEquals(LocalTime.ofSecondOfDay(86399), LocalTime.of(23, 59, 59));
+    }
+
+    @Test
+    public void factory_cache() {
+        assertNull(LocalTime.buildCache(null));
+        assertNull(LocalTime.buildCache("HOURS"));
+        LocalTime[] seconds = LocalTime.buildCache("SECONDS");
+        LocalTime time = LocalTime.create(seconds, 2, 17, 23, 0);
+        check(time, 2, 17, 23, 0);
+        assertSame(LocalTime.create(seconds, 2, 17, 23, 0), time);
+        assertSame(LocalTime.create(seconds, 23, 59, 59, 0), LocalTime.create(seconds, 23, 59, 59, 0));
+        assertNotSame(LocalTime.create(seconds, 2, 17, 23, 1), LocalTime.create(seconds, 2, 17, 23, 1));
+        LocalTime[] minutes = LocalTime.buildCache("MINUTES");
+        assertSame(LocalTime.create(minutes, 2, 17, 0, 0), LocalTime.create(minutes, 2, 17, 0, 0));
+        assertNotSame(LocalTime.create(minutes, 2, 17, 23, 0), LocalTime.create(minutes, 2, 17, 23, 0));
+        assertNotSame(LocalTime.create(null, 2, 17, 23, 0), LocalTime.create(null, 2, 17, 23, 0));
+        assertSame(LocalTime.create(null, 2, 0, 0, 0), LocalTime.of(2, 0));
+    }
+
     @Test(expectedExceptions=DateTimeException.class)
     public void factory_ofSecondOfDay_tooLow() {
         LocalTime.ofSecondOfDay(-1);
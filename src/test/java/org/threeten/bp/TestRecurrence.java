@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.Temporal;
+import org.threeten.bp.temporal.TemporalAdjuster;
+import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * Test Recurrence.
+ */
+@Test
+public class TestRecurrence {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final TemporalAdjuster LAST_BUSINESS_DAY_OF_QUARTER = new TemporalAdjuster() {
+        @Override
+        public Temporal adjustInto(Temporal temporal) {
+            LocalDate date = LocalDate.from(temporal);
+            date = date.with(IsoFields.DAY_OF_QUARTER, date.range(IsoFields.DAY_OF_QUARTER).getMaximum());
+            return temporal.with(lastWeekday(date));
+        }
+    };
+
+    private static LocalDate lastWeekday(LocalDate date) {
+        while (date.getDayOfWeek().getValue() >= 6) {
+            date = date.minusDays(1);
+        }
+        return date;
+    }
+
+    private static List<ZonedDateTime> list(Iterator<ZonedDateTime> it, int max) {
+        List<ZonedDateTime> result = new ArrayList<ZonedDateTime>();
+        while (it.hasNext() && result.size() < max) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    // of()
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_zeroAmount() {
+        Recurrence.of(ZonedDateTime.of(2012, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 0, ChronoUnit.DAYS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_of_timeUnit() {
+        Recurrence.of(ZonedDateTime.of(2012, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 1, ChronoUnit.HOURS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_of_forever() {
+        Recurrence.of(ZonedDateTime.of(2012, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 1, ChronoUnit.FOREVER);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_nullStart() {
+        Recurrence.of(null, 1, ChronoUnit.DAYS);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_withCount_zero() {
+        Recurrence.of(ZonedDateTime.of(2012, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), 1, ChronoUnit.DAYS).withCount(0);
+    }
+
+    //-----------------------------------------------------------------------
+    // iterator()
+    //-----------------------------------------------------------------------
+    public void test_monthly_secondTuesday() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, PARIS);
+        Recurrence test = Recurrence.of(start, 1, ChronoUnit.MONTHS)
+                .withAdjuster(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY)).withCount(4);
+        List<ZonedDateTime> result = list(test.iterator(), 10);
+        assertEquals(result.size(), 4);
+        assertEquals(result.get(0), ZonedDateTime.of(2012, 1, 10, 9, 0, 0, 0, PARIS));
+        assertEquals(result.get(1), ZonedDateTime.of(2012, 2, 14, 9, 0, 0, 0, PARIS));
+        assertEquals(result.get(2), ZonedDateTime.of(2012, 3, 13, 9, 0, 0, 0, PARIS));
+        assertEquals(result.get(3), ZonedDateTime.of(2012, 4, 10, 9, 0, 0, 0, PARIS));
+    }
+
+    public void test_monthly_noDrift() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 31, 9, 0, 0, 0, ZoneOffset.UTC);
+        List<ZonedDateTime> result = list(Recurrence.of(start, 1, ChronoUnit.MONTHS).iterator(), 3);
+        assertEquals(result.get(0).toLocalDate(), LocalDate.of(2012, 1, 31));
+        assertEquals(result.get(1).toLocalDate(), LocalDate.of(2012, 2, 29));
+        assertEquals(result.get(2).toLocalDate(), LocalDate.of(2012, 3, 31));
+    }
+
+    public void test_quarterly_lastBusinessDay() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 17, 0, 0, 0, ZoneOffset.UTC);
+        Recurrence test = Recurrence.of(start, 1, IsoFields.QUARTER_YEARS).withAdjuster(LAST_BUSINESS_DAY_OF_QUARTER);
+        List<ZonedDateTime> result = list(test.iterator(), 4);
+        assertEquals(result.get(0).toLocalDate(), LocalDate.of(2012, 3, 30));
+        assertEquals(result.get(1).toLocalDate(), LocalDate.of(2012, 6, 29));
+        assertEquals(result.get(2).toLocalDate(), LocalDate.of(2012, 9, 28));
+        assertEquals(result.get(3).toLocalDate(), LocalDate.of(2012, 12, 31));
+    }
+
+    public void test_startExcluded() {
+        // the first day of January is before the start, so the first occurrence is in February
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 15, 9, 0, 0, 0, ZoneOffset.UTC);
+        Recurrence test = Recurrence.of(start, 1, ChronoUnit.MONTHS)
+                .withAdjuster(TemporalAdjusters.firstDayOfMonth()).withCount(2);
+        List<ZonedDateTime> result = list(test.iterator(), 10);
+        assertEquals(result.size(), 2);
+        assertEquals(result.get(0).toLocalDate(), LocalDate.of(2012, 2, 1));
+        assertEquals(result.get(1).toLocalDate(), LocalDate.of(2012, 3, 1));
+    }
+
+    public void test_daily_gap() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 3, 24, 2, 30, 0, 0, PARIS);
+        List<ZonedDateTime> result = list(Recurrence.of(start, 1, ChronoUnit.DAYS).iterator(), 3);
+        assertEquals(result.get(0).toOffsetDateTime(), OffsetDateTime.of(2012, 3, 24, 2, 30, 0, 0, ZoneOffset.ofHours(1)));
+        assertEquals(result.get(1).toOffsetDateTime(), OffsetDateTime.of(2012, 3, 25, 3, 30, 0, 0, ZoneOffset.ofHours(2)));
+        assertEquals(result.get(2).toOffsetDateTime(), OffsetDateTime.of(2012, 3, 26, 2, 30, 0, 0, ZoneOffset.ofHours(2)));
+    }
+
+    public void test_daily_overlap() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 10, 27, 2, 30, 0, 0, PARIS);
+        List<ZonedDateTime> result = list(Recurrence.of(start, 1, ChronoUnit.DAYS).iterator(), 3);
+        assertEquals(result.get(0).toOffsetDateTime(), OffsetDateTime.of(2012, 10, 27, 2, 30, 0, 0, ZoneOffset.ofHours(2)));
+        assertEquals(result.get(1).toOffsetDateTime(), OffsetDateTime.of(2012, 10, 28, 2, 30, 0, 0, ZoneOffset.ofHours(2)));
+        assertEquals(result.get(2).toOffsetDateTime(), OffsetDateTime.of(2012, 10, 29, 2, 30, 0, 0, ZoneOffset.ofHours(1)));
+    }
+
+    public void test_until_inclusive() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Recurrence test = Recurrence.of(start, 2, ChronoUnit.WEEKS)
+                .withUntil(ZonedDateTime.of(2012, 1, 29, 9, 0, 0, 0, ZoneOffset.UTC).toInstant());
+        List<ZonedDateTime> result = list(test.iterator(), 10);
+        assertEquals(result.size(), 3);
+        assertEquals(result.get(2).toLocalDate(), LocalDate.of(2012, 1, 29));
+    }
+
+    public void test_endOfRange() {
+        ZonedDateTime start = ZonedDateTime.of(Year.MAX_VALUE, 10, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        List<ZonedDateTime> result = list(Recurrence.of(start, 1, ChronoUnit.MONTHS).iterator(), 10);
+        assertEquals(result.size(), 3);
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_iterator_noMore() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Iterator<ZonedDateTime> it = Recurrence.of(start, 1, ChronoUnit.DAYS).withCount(1).iterator();
+        it.next();
+        assertFalse(it.hasNext());
+        it.next();
+    }
+
+    //-----------------------------------------------------------------------
+    // iterator(Instant)
+    //-----------------------------------------------------------------------
+    public void test_iteratorFrom_matchesFullIteration() {
+        ZonedDateTime start = ZonedDateTime.of(2011, 12, 20, 2, 30, 0, 0, PARIS);
+        Recurrence[] recurrences = {
+            Recurrence.of(start, 1, ChronoUnit.DAYS),
+            Recurrence.of(start, 3, ChronoUnit.DAYS).withCount(50),
+            Recurrence.of(start, 1, ChronoUnit.MONTHS).withAdjuster(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY)),
+            Recurrence.of(start, 1, ChronoUnit.MONTHS).withAdjuster(TemporalAdjusters.firstDayOfMonth()),
+            Recurrence.of(start, 1, ChronoUnit.MONTHS).withAdjuster(TemporalAdjusters.lastInMonth(DayOfWeek.SUNDAY)),
+            Recurrence.of(start, 2, ChronoUnit.WEEKS).withAdjuster(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY)),
+            Recurrence.of(start, 1, IsoFields.QUARTER_YEARS).withAdjuster(LAST_BUSINESS_DAY_OF_QUARTER),
+            Recurrence.of(start, 1, ChronoUnit.YEARS).withCount(3),
+        };
+        for (Recurrence test : recurrences) {
+            List<ZonedDateTime> all = list(test.iterator(), 1000);
+            Instant from = start.toInstant().minusSeconds(86400);
+            Instant end = start.plusMonths(14).toInstant();
+            while (from.isBefore(end)) {
+                List<ZonedDateTime> expected = new ArrayList<ZonedDateTime>();
+                for (ZonedDateTime zdt : all) {
+                    if (zdt.toInstant().isBefore(from) == false && expected.size() < 5) {
+                        expected.add(zdt);
+                    }
+                }
+                assertEquals(list(test.iterator(from), 5), expected, test + " from " + from);
+                from = from.plusSeconds(86400 / 2 + 3600);
+            }
+        }
+    }
+
+    public void test_iteratorFrom_farFuture() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Recurrence test = Recurrence.of(start, 1, ChronoUnit.DAYS);
+        assertFalse(test.iterator(Instant.MAX).hasNext());
+        Iterator<ZonedDateTime> it = test.iterator(ZonedDateTime.of(Year.MAX_VALUE, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC).toInstant());
+        assertEquals(it.next().toLocalDate(), LocalDate.of(Year.MAX_VALUE, 12, 31));
+        assertFalse(it.hasNext());
+    }
+
+    public void test_iteratorFrom_beforeStart() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        Recurrence test = Recurrence.of(start, 1, ChronoUnit.DAYS);
+        assertEquals(test.iterator(Instant.EPOCH).next(), start);
+    }
+
+    //-----------------------------------------------------------------------
+    // next(Instant)
+    //-----------------------------------------------------------------------
+    public void test_next() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, PARIS);
+        Recurrence test = Recurrence.of(start, 1, ChronoUnit.MONTHS)
+                .withAdjuster(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.TUESDAY));
+        ZonedDateTime occurrence = ZonedDateTime.of(2013, 6, 11, 9, 0, 0, 0, PARIS);
+        assertEquals(test.next(occurrence.toInstant().minusNanos(1)), occurrence);
+        assertEquals(test.next(occurrence.toInstant()), ZonedDateTime.of(2013, 7, 9, 9, 0, 0, 0, PARIS));
+        assertNull(test.withCount(3).next(occurrence.toInstant()));
+        assertNull(test.next(Instant.MAX));
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() / hashCode() / toString()
+    //-----------------------------------------------------------------------
+    public void test_equals() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        TemporalAdjuster adjuster = TemporalAdjusters.firstDayOfMonth();
+        Recurrence a = Recurrence.of(start, 1, ChronoUnit.MONTHS).withAdjuster(adjuster).withCount(3);
+        Recurrence b = Recurrence.of(start, 1, ChronoUnit.MONTHS).withAdjuster(adjuster).withCount(3);
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(b.withCount(4)));
+        assertFalse(a.equals(b.withAdjuster(null)));
+        assertFalse(a.equals(b.withUntil(Instant.EPOCH)));
+        assertFalse(a.equals(Recurrence.of(start, 2, ChronoUnit.MONTHS)));
+        assertFalse(a.equals(null));
+    }
+
+    public void test_toString() {
+        ZonedDateTime start = ZonedDateTime.of(2012, 1, 10, 9, 0, 0, 0, ZoneOffset.UTC);
+        assertEquals(Recurrence.of(start, 1, ChronoUnit.MONTHS).withCount(12).toString(),
+                "Recurrence[2012-01-10T09:00Z every 1 Months count 12]");
+    }
+
+}
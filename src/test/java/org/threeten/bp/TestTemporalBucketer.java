@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.ChronoUnit;
+import org.threeten.bp.temporal.IsoFields;
+import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.TemporalUnit;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+import org.threeten.bp.zone.ZoneOffsetTransition;
+
+/**
+ * Test TemporalBucketer.
+ */
+@Test
+public class TestTemporalBucketer {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @DataProvider(name = "buckets")
+    Object[][] data_buckets() {
+        String[] zones = {"UTC", "+05:30", "Europe/London", "America/New_York", "America/Sao_Paulo", "Australia/Lord_Howe"};
+        Object[][] units = {
+            {30L, ChronoUnit.SECONDS},
+            {5L, ChronoUnit.MINUTES},
+            {15L, ChronoUnit.MINUTES},
+            {1L, ChronoUnit.HOURS},
+            {1L, ChronoUnit.HALF_DAYS},
+            {1L, ChronoUnit.DAYS},
+            {1L, ChronoUnit.WEEKS},
+            {1L, ChronoUnit.MONTHS},
+            {1L, IsoFields.QUARTER_YEARS},
+            {1L, ChronoUnit.YEARS},
+        };
+        Object[][] data = new Object[zones.length * units.length][];
+        int i = 0;
+        for (String zone : zones) {
+            for (Object[] unit : units) {
+                data[i++] = new Object[] {unit[0], unit[1], ZoneId.of(zone)};
+            }
+        }
+        return data;
+    }
+
+    private static long[] epochSeconds(ZoneId zone) {
+        Random random = new Random(31);
+        long[] epochSeconds = new long[3000];
+        int i = 0;
+        // every 15 minutes through the transitions of 2012
+        long start = LocalDate.of(2012, 1, 1).atStartOfDay(ZoneOffset.UTC).toEpochSecond();
+        for (ZoneOffsetTransition trans : zone.getRules().getTransitions()) {
+            if (trans.getDateTimeBefore().getYear() == 2012 && i < 1000) {
+                for (int j = -20; j < 20; j++) {
+                    epochSeconds[i++] = trans.toEpochSecond() + j * 900 + 1;
+                }
+            }
+        }
+        for (; i < 3000; i++) {
+            // 1850 to 2150
+            epochSeconds[i] = start - 5000000000L + (long) (random.nextDouble() * 9500000000L);
+        }
+        return epochSeconds;
+    }
+
+    private static Instant expectedStart(long epochSecond, long amount, TemporalUnit unit, ZoneId zone) {
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, 0, zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)));
+        LocalDate date = ldt.toLocalDate();
+        LocalDateTime start;
+        if (unit == ChronoUnit.DAYS) {
+            start = date.atStartOfDay();
+        } else if (unit == ChronoUnit.WEEKS) {
+            start = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        } else if (unit == ChronoUnit.MONTHS) {
+            start = date.with(TemporalAdjusters.firstDayOfMonth()).atStartOfDay();
+        } else if (unit == IsoFields.QUARTER_YEARS) {
+            start = date.with(IsoFields.DAY_OF_QUARTER, 1).atStartOfDay();
+        } else if (unit == ChronoUnit.YEARS) {
+            start = date.with(TemporalAdjusters.firstDayOfYear()).atStartOfDay();
+        } else {
+            long length = unit.getDuration().getSeconds() * amount;
+            long secs = ldt.toLocalTime().toSecondOfDay();
+            start = date.atStartOfDay().plusSeconds(secs / length * length);
+        }
+        return ZonedDateTime.ofLocal(start, zone, null).withEarlierOffsetAtOverlap().toInstant();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "buckets")
+    public void test_startOf(long amount, TemporalUnit unit, ZoneId zone) {
+        TemporalBucketer test = TemporalBucketer.of(amount, unit, zone);
+        for (long epochSecond : epochSeconds(zone)) {
+            Instant expected = expectedStart(epochSecond, amount, unit, zone);
+            String msg = Instant.ofEpochSecond(epochSecond) + " " + test;
+            assertEquals(test.startOf(Instant.ofEpochSecond(epochSecond)), expected, msg);
+            long index = test.indexOf(epochSecond);
+            assertEquals(test.startOfIndex(index), expected.getEpochSecond(), msg);
+            assertEquals(test.indexOf(expected.getEpochSecond()), index, msg);
+            assertTrue(expected.getEpochSecond() <= epochSecond, msg);
+        }
+    }
+
+    @Test(dataProvider = "buckets")
+    public void test_bulk(long amount, TemporalUnit unit, ZoneId zone) {
+        TemporalBucketer test = TemporalBucketer.of(amount, unit, zone);
+        long[] epochSeconds = epochSeconds(zone);
+        for (int pass = 0; pass < 2; pass++) {
+            long[] indices = new long[epochSeconds.length];
+            long[] starts = new long[epochSeconds.length];
+            test.indexOf(epochSeconds, indices);
+            test.startOf(epochSeconds, starts);
+            for (int i = 0; i < epochSeconds.length; i++) {
+                assertEquals(indices[i], test.indexOf(epochSeconds[i]));
+                assertEquals(starts[i], test.startOf(epochSeconds[i]));
+            }
+            Arrays.sort(epochSeconds);
+        }
+    }
+
+    public void test_startOf_sameArray() {
+        TemporalBucketer test = TemporalBucketer.of(ChronoUnit.HOURS, ZoneOffset.UTC);
+        long[] epochSeconds = {3599, 3600, 7300};
+        test.startOf(epochSeconds, epochSeconds);
+        assertEquals(epochSeconds, new long[] {0, 3600, 7200});
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_indexOf_values() {
+        long epoch = 0;
+        assertEquals(TemporalBucketer.of(ChronoUnit.HOURS, ZoneOffset.UTC).indexOf(epoch + 3600), 1);
+        assertEquals(TemporalBucketer.of(ChronoUnit.HOURS, ZoneOffset.UTC).indexOf(epoch - 1), -1);
+        assertEquals(TemporalBucketer.of(ChronoUnit.DAYS, ZoneOffset.ofHours(-1)).indexOf(epoch), -1);
+        assertEquals(TemporalBucketer.of(ChronoUnit.WEEKS, ZoneOffset.UTC).indexOf(epoch), 0);
+        assertEquals(TemporalBucketer.of(ChronoUnit.WEEKS, ZoneOffset.UTC).indexOf(epoch + 4 * 86400), 1);
+        assertEquals(TemporalBucketer.of(ChronoUnit.MONTHS, ZoneOffset.UTC).indexOf(epoch), 1970 * 12);
+        assertEquals(TemporalBucketer.of(IsoFields.QUARTER_YEARS, ZoneOffset.UTC).indexOf(epoch), 1970 * 4);
+        assertEquals(TemporalBucketer.of(ChronoUnit.YEARS, ZoneOffset.UTC).indexOf(epoch), 1970);
+        assertEquals(TemporalBucketer.of(ChronoUnit.DECADES, ZoneOffset.UTC).indexOf(epoch), 197);
+    }
+
+    public void test_startOf_gap() {
+        // Paris moved from 02:00 to 03:00 on 2012-03-25
+        TemporalBucketer test = TemporalBucketer.of(ChronoUnit.HOURS, PARIS);
+        Instant instant = ZonedDateTime.of(2012, 3, 25, 3, 30, 0, 0, PARIS).toInstant();
+        assertEquals(test.startOf(instant), ZonedDateTime.of(2012, 3, 25, 3, 0, 0, 0, PARIS).toInstant());
+        long index = test.indexOf(instant.getEpochSecond());
+        assertEquals(test.startOfIndex(index - 1), test.startOfIndex(index));
+    }
+
+    public void test_startOf_overlap() {
+        // New York moved from 02:00 to 01:00 on 2012-11-04
+        TemporalBucketer test = TemporalBucketer.of(ChronoUnit.HOURS, NEW_YORK);
+        ZonedDateTime earlier = ZonedDateTime.of(2012, 11, 4, 1, 30, 0, 0, NEW_YORK).withEarlierOffsetAtOverlap();
+        ZonedDateTime later = earlier.withLaterOffsetAtOverlap();
+        Instant start = earlier.withMinute(0).toInstant();
+        assertEquals(test.startOf(earlier.toInstant()), start);
+        assertEquals(test.startOf(later.toInstant()), start);
+    }
+
+    public void test_getters() {
+        TemporalBucketer test = TemporalBucketer.of(5, ChronoUnit.MINUTES, PARIS);
+        assertEquals(test.getAmount(), 5);
+        assertEquals(test.getUnit(), ChronoUnit.MINUTES);
+        assertEquals(test.getZone(), PARIS);
+        assertEquals(test.toString(), "5 Minutes in Europe/Paris");
+        assertEquals(test, TemporalBucketer.of(5, ChronoUnit.MINUTES, PARIS));
+        assertEquals(test.hashCode(), TemporalBucketer.of(5, ChronoUnit.MINUTES, PARIS).hashCode());
+        assertEquals(test.equals(TemporalBucketer.of(5, ChronoUnit.MINUTES, NEW_YORK)), false);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_zeroAmount() {
+        TemporalBucketer.of(0, ChronoUnit.HOURS, PARIS);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_of_notDivisor() {
+        TemporalBucketer.of(7, ChronoUnit.MINUTES, PARIS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_of_nanos() {
+        TemporalBucketer.of(ChronoUnit.NANOS, PARIS);
+    }
+
+    @Test(expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_of_forever() {
+        TemporalBucketer.of(ChronoUnit.FOREVER, PARIS);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_indexOf_outputTooShort() {
+        TemporalBucketer.of(ChronoUnit.HOURS, PARIS).indexOf(new long[2], new long[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_indexOf_outOfRange() {
+        TemporalBucketer.of(ChronoUnit.HOURS, ZoneOffset.UTC).indexOf(Long.MAX_VALUE);
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test TemporalCodec.
+ */
+@Test
+public class TestTemporalCodec {
+
+    private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+    private static final ZoneId LOS_ANGELES = ZoneId.of("America/Los_Angeles");
+
+    @DataProvider(name = "values")
+    Object[][] data_values() {
+        return new Object[][] {
+            {Duration.ofSeconds(-5, 20)},
+            {Instant.ofEpochSecond(1184500000L, 123456789)},
+            {LocalDate.of(2007, 7, 15)},
+            {LocalDateTime.of(2007, 7, 15, 12, 30, 40, 987654321)},
+            {LocalTime.of(23, 59)},
+            {MonthDay.of(2, 29)},
+            {OffsetDateTime.of(2007, 7, 15, 12, 30, 40, 0, ZoneOffset.ofHours(2))},
+            {OffsetTime.of(12, 30, 40, 0, ZoneOffset.ofHours(-5))},
+            {Year.of(-20000)},
+            {YearMonth.of(2007, 7)},
+            {ZonedDateTime.of(2007, 7, 15, 12, 30, 40, 0, PARIS)},
+            {ZonedDateTime.of(2007, 7, 15, 12, 30, 40, 0, ZoneOffset.ofHours(3))},
+            {ZoneOffset.ofHoursMinutes(5, 30)},
+            {PARIS},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "values")
+    public void test_write_read(Object value) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new TemporalCodec().write(value, new DataOutputStream(baos));
+        Object read = new TemporalCodec().read(input(baos));
+        assertEquals(read, value);
+    }
+
+    @Test(dataProvider = "values")
+    public void test_read_serFormat(Object value) throws IOException {
+        if (value instanceof ZoneId || value instanceof ZonedDateTime) {
+            return;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new TemporalCodec().write(value, new DataOutputStream(baos));
+        Object read = Ser.read(input(baos));
+        assertEquals(read, value);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_write_unsupported() throws IOException {
+        new TemporalCodec().write("2007-07-15", new DataOutputStream(new ByteArrayOutputStream()));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_unknownType() throws IOException {
+        new TemporalCodec().read(new DataInputStream(new ByteArrayInputStream(new byte[] {99})));
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_invalidValue() throws IOException {
+        new TemporalCodec().readLocalDate(new DataInputStream(new ByteArrayInputStream(new byte[] {0, 0, 0, 1, 13, 1})));
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_typed() throws IOException {
+        LocalDate date = LocalDate.of(2007, 7, 15);
+        LocalTime time = LocalTime.of(12, 30, 40, 500);
+        Instant instant = Instant.ofEpochSecond(-1, 1);
+        OffsetDateTime odt = OffsetDateTime.of(date, time, ZoneOffset.ofHours(1));
+        Duration duration = Duration.ofDays(3);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TemporalCodec writer = new TemporalCodec();
+        writer.writeLocalDate(date, out);
+        writer.writeLocalTime(time, out);
+        writer.writeLocalDateTime(date.atTime(time), out);
+        writer.writeInstant(instant, out);
+        writer.writeOffsetDateTime(odt, out);
+        writer.writeDuration(duration, out);
+        DataInputStream in = input(baos);
+        TemporalCodec reader = new TemporalCodec();
+        assertEquals(reader.readLocalDate(in), date);
+        assertEquals(reader.readLocalTime(in), time);
+        assertEquals(reader.readLocalDateTime(in), date.atTime(time));
+        assertEquals(reader.readInstant(in), instant);
+        assertEquals(reader.readOffsetDateTime(in), odt);
+        assertEquals(reader.readDuration(in), duration);
+        assertEquals(in.available(), 0);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_zoneTable() throws IOException {
+        ZonedDateTime zdt1 = ZonedDateTime.of(2007, 7, 15, 12, 30, 40, 0, PARIS);
+        ZonedDateTime zdt2 = ZonedDateTime.of(2008, 1, 1, 0, 0, 0, 0, LOS_ANGELES);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TemporalCodec writer = new TemporalCodec();
+        writer.writeZonedDateTime(zdt1, out);
+        int first = baos.size();
+        writer.writeZonedDateTime(zdt1, out);
+        assertEquals(baos.size() - first, first - PARIS.getId().length());
+        writer.writeZonedDateTime(zdt2, out);
+        writer.write(zdt2, out);
+        writer.write(PARIS, out);
+        writer.writeZoneId(ZoneOffset.UTC, out);
+
+        DataInputStream in = input(baos);
+        TemporalCodec reader = new TemporalCodec();
+        ZonedDateTime read1 = reader.readZonedDateTime(in);
+        ZonedDateTime read2 = reader.readZonedDateTime(in);
+        assertEquals(read1, zdt1);
+        assertEquals(read2, zdt1);
+        assertSame(read2.getZone(), read1.getZone());
+        assertEquals(reader.readZonedDateTime(in), zdt2);
+        assertEquals(reader.read(in), zdt2);
+        assertSame(reader.read(in), read1.getZone());
+        assertEquals(reader.readZoneId(in), ZoneOffset.UTC);
+        assertEquals(in.available(), 0);
+    }
+
+    public void test_reset() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TemporalCodec writer = new TemporalCodec();
+        writer.writeZoneId(PARIS, out);
+        writer.reset();
+        writer.writeZoneId(LOS_ANGELES, out);
+        writer.writeZoneId(LOS_ANGELES, out);
+
+        DataInputStream in = input(baos);
+        TemporalCodec reader = new TemporalCodec();
+        assertEquals(reader.readZoneId(in), PARIS);
+        reader.reset();
+        assertEquals(reader.readZoneId(in), LOS_ANGELES);
+        assertEquals(reader.readZoneId(in), LOS_ANGELES);
+    }
+
+    @Test(expectedExceptions = StreamCorruptedException.class)
+    public void test_read_invalidZoneReference() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        TemporalCodec writer = new TemporalCodec();
+        writer.writeZoneId(PARIS, out);
+        writer.writeZoneId(PARIS, out);
+        DataInputStream in = input(baos);
+        in.skipBytes(PARIS.getId().length() + 3);
+        new TemporalCodec().readZoneId(in);
+    }
+
+    private static DataInputStream input(ByteArrayOutputStream baos) {
+        return new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    }
+
+}
@@ -34,6 +34,8 @@ package org.threeten.bp;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.io.IOException;
@@ -53,6 +55,7 @@ import org.threeten.bp.temporal.TemporalAccessor;
 import org.threeten.bp.zone.ZoneOffsetTransition;
 import org.threeten.bp.zone.ZoneRules;
 import org.threeten.bp.zone.ZoneRulesException;
+import org.threeten.bp.zone.ZoneRulesProvider;
 
 /**
  * Test ZoneId.
@@ -101,6 +104,24 @@ public class TestZoneId extends AbstractTest {
         assertSerializable(test);
     }
 
+    public void test_serialization_canonical() throws Exception {
+        ZoneId test = ZoneId.of("Asia/Tokyo");
+        assertSame(writeThenRead(test), writeThenRead(test));
+    }
+
+    public void test_serialization_canonical_refresh() throws Exception {
+        // the canonical instance, and the rules it holds, are replaced when the refresh count changes
+        int count = ZoneRulesProvider.getRefreshCount();
+        ZoneRegion before = ZoneRegion.ofCanonical("Asia/Seoul", count);
+        assertSame(ZoneRegion.ofCanonical("Asia/Seoul", count), before);
+        assertSame(before.getRules(), before.getRules());
+        ZoneRegion after = ZoneRegion.ofCanonical("Asia/Seoul", count + 1);
+        assertNotSame(after, before);
+        assertEquals(after, before);
+        assertSame(ZoneRegion.ofCanonical("Asia/Seoul", count + 1), after);
+        assertEquals(after.getRules(), ZoneId.of("Asia/Seoul").getRules());
+    }
+
     @Test
     public void test_serialization_format() throws ClassNotFoundException, IOException {
         assertEqualsSerialisedForm(ZoneId.of("Europe/London"), ZoneId.class);
@@ -32,6 +32,7 @@
 package org.threeten.bp;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.threeten.bp.Month.JANUARY;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
@@ -69,7 +70,11 @@ import static org.threeten.bp.temporal.ChronoUnit.MINUTES;
 import static org.threeten.bp.temporal.ChronoUnit.NANOS;
 import static org.threeten.bp.temporal.ChronoUnit.SECONDS;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -188,6 +193,56 @@ public class TestZonedDateTime extends AbstractDateTimeTest {
         assertEqualsSerialisedForm(zdt);
     }
 
+    @Test
+    public void test_serialization_zoneDictionary() throws ClassNotFoundException, IOException {
+        ZonedDateTime london = LocalDateTime.of(2012, 9, 16, 22, 17, 59).atZone(ZoneId.of("Europe/London"));
+        ZonedDateTime paris = LocalDateTime.of(2012, 9, 16, 22, 17, 59).atZone(ZoneId.of("Europe/Paris"));
+        ZonedDateTime offset = LocalDateTime.of(2012, 9, 16, 22, 17, 59).atZone(ZoneOffset.ofHours(2));
+        ZonedDateTime[] values = {london, paris, london.plusDays(1), offset, paris.plusDays(1), london.plusDays(2)};
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ZoneDictionaryOutputStream(baos);
+        for (ZonedDateTime value : values) {
+            oos.writeObject(value);
+        }
+        oos.writeObject(london.toLocalDate());
+        oos.close();
+        byte[] withDictionary = baos.toByteArray();
+        baos = new ByteArrayOutputStream();
+        oos = new ObjectOutputStream(baos);
+        for (ZonedDateTime value : values) {
+            oos.writeObject(value);
+        }
+        oos.writeObject(london.toLocalDate());
+        oos.close();
+        assertTrue(withDictionary.length < baos.size());
+
+        ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(withDictionary));
+        ZonedDateTime[] read = new ZonedDateTime[values.length];
+        for (int i = 0; i < values.length; i++) {
+            read[i] = (ZonedDateTime) ois.readObject();
+            assertEquals(read[i], values[i]);
+        }
+        assertSame(read[2].getZone(), read[0].getZone());
+        assertSame(read[5].getZone(), read[0].getZone());
+        assertSame(read[4].getZone(), read[1].getZone());
+        assertEquals(ois.readObject(), london.toLocalDate());
+    }
+
+    @Test
+    public void test_serialization_zoneDictionary_notDefault() throws ClassNotFoundException, IOException {
+        // a standard stream writes the original type, readable by earlier versions
+        ZonedDateTime zdt = LocalDateTime.of(2012, 9, 16, 22, 17, 59).atZone(ZoneId.of("Europe/London"));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(zdt);
+        oos.close();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        oos = new ObjectOutputStream(expected);
+        oos.writeObject(new Ser(Ser.ZONED_DATE_TIME_TYPE, zdt));
+        oos.close();
+        assertEquals(baos.toByteArray(), expected.toByteArray());
+    }
+
     //-----------------------------------------------------------------------
     // now()
     //-----------------------------------------------------------------------
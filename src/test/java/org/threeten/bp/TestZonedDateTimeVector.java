@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.ChronoUnit;
+
+/**
+ * Test ZonedDateTimeVector.
+ */
+@Test
+public class TestZonedDateTimeVector {
+
+    @DataProvider(name = "zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {ZoneId.of("Europe/London")},
+            {ZoneId.of("America/New_York")},
+            {ZoneId.of("Asia/Kolkata")},
+            {ZoneOffset.ofHoursMinutes(-3, -30)},
+            {ZoneOffset.UTC},
+        };
+    }
+
+    private static ZonedDateTimeVector sample(ZoneId zone) {
+        Random random = new Random(11);
+        long[] seconds = new long[1000];
+        int[] nanos = new int[1000];
+        for (int i = 0; i < seconds.length; i++) {
+            // around the 2007 and 2008 DST transitions
+            seconds[i] = 1167609600L + random.nextInt(2 * 366 * 86400);
+            nanos[i] = random.nextInt(1000000000);
+        }
+        return InstantVector.ofEpochSeconds(seconds, nanos).atZone(zone);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "zones")
+    public void test_get(ZoneId zone) {
+        ZonedDateTimeVector test = sample(zone);
+        assertEquals(test.getZone(), zone);
+        for (int i = 0; i < test.size(); i++) {
+            assertEquals(test.get(i), ZonedDateTime.ofInstant(test.toInstantVector().get(i), zone));
+        }
+    }
+
+    @Test(dataProvider = "zones")
+    public void test_get_field(ZoneId zone) {
+        ZonedDateTimeVector test = sample(zone);
+        for (ChronoField field : ChronoField.values()) {
+            if (field != ChronoField.EPOCH_DAY && field != ChronoField.PROLEPTIC_MONTH && field != ChronoField.INSTANT_SECONDS &&
+                    field != ChronoField.NANO_OF_DAY && field != ChronoField.MICRO_OF_DAY) {
+                int[] values = test.get(field);
+                for (int i = 0; i < test.size(); i++) {
+                    assertEquals(values[i], test.get(i).get(field), field.toString());
+                }
+            }
+        }
+    }
+
+    @Test(dataProvider = "zones")
+    public void test_toLocalDateVector(ZoneId zone) {
+        ZonedDateTimeVector test = sample(zone);
+        LocalDateVector dates = test.toLocalDateVector();
+        for (int i = 0; i < test.size(); i++) {
+            assertEquals(dates.get(i), test.get(i).toLocalDate());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "zones")
+    public void test_plusDays_plusSeconds(ZoneId zone) {
+        ZonedDateTimeVector test = sample(zone);
+        ZonedDateTimeVector days = test.plusDays(-45);
+        ZonedDateTimeVector seconds = test.plusSeconds(7201);
+        for (int i = 0; i < test.size(); i++) {
+            assertEquals(days.get(i), test.get(i).plusDays(-45));
+            assertEquals(seconds.get(i), test.get(i).plusSeconds(7201));
+        }
+    }
+
+    @Test(dataProvider = "zones")
+    public void test_truncatedTo(ZoneId zone) {
+        ZonedDateTimeVector test = sample(zone);
+        ChronoUnit[] units = {ChronoUnit.MILLIS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS};
+        for (ChronoUnit unit : units) {
+            ZonedDateTimeVector truncated = test.truncatedTo(unit);
+            for (int i = 0; i < test.size(); i++) {
+                assertEquals(truncated.get(i), test.get(i).truncatedTo(unit));
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_dateTimes_convertsZone() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime tokyo = ZonedDateTime.of(2008, 6, 30, 11, 30, 0, 500, ZoneId.of("Asia/Tokyo"));
+        ZonedDateTime offset = ZonedDateTime.of(2008, 6, 30, 11, 30, 0, 0, ZoneOffset.ofHours(-5));
+        ZonedDateTimeVector test = ZonedDateTimeVector.of(zone, tokyo, offset);
+        assertEquals(test.getZone(), zone);
+        assertEquals(test.get(0), tokyo.withZoneSameInstant(zone));
+        assertEquals(test.get(0).toLocalDateTime(), LocalDateTime.of(2008, 6, 30, 4, 30, 0, 500));
+        assertEquals(test.get(0).getOffset(), ZoneOffset.ofHours(2));
+        assertEquals(test.get(1), offset.withZoneSameInstant(zone));
+        assertEquals(test.get(1).toInstant(), offset.toInstant());
+    }
+
+    public void test_of_dateTimes_overlap() {
+        // the later offset in the overlap is retained as it is a different instant
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime later = ZonedDateTime.of(2008, 10, 26, 2, 30, 0, 0, zone).withLaterOffsetAtOverlap();
+        ZonedDateTimeVector test = ZonedDateTimeVector.of(zone, later);
+        assertEquals(test.get(0), later);
+        assertEquals(test.get(0).getOffset(), ZoneOffset.ofHours(1));
+    }
+
+    public void test_sorted_range() {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime a = ZonedDateTime.of(2008, 3, 30, 1, 30, 0, 0, zone);
+        ZonedDateTime b = a.plusHours(1);
+        ZonedDateTime c = a.plusHours(2);
+        ZonedDateTimeVector test = ZonedDateTimeVector.of(zone, c, a, b).sorted();
+        assertEquals(test, ZonedDateTimeVector.of(zone, a, b, c));
+        assertEquals(test.get(1), b);
+        assertEquals(test.binarySearch(c.toInstant()), 2);
+        assertEquals(test.range(b.toInstant(), c.toInstant()), ZonedDateTimeVector.of(zone, b));
+        assertEquals(test.toString(), "[" + a + ", " + b + ", " + c + "]");
+    }
+
+}
@@ -170,6 +170,23 @@ public class TestChronology {
         Assert.assertEquals(test, JapaneseChronology.INSTANCE);
     }
 
+    @Test
+    public void test_lookupLocale_repeated() {
+        Locale[] locales = {Locale.US, Locale.UK, Locale.JAPAN, new Locale("th", "TH"), new Locale("ja", "JP", "JP"), new Locale("ja", "JP", "JP")};
+        Chronology[] expected = {IsoChronology.INSTANCE, IsoChronology.INSTANCE, IsoChronology.INSTANCE,
+            IsoChronology.INSTANCE, JapaneseChronology.INSTANCE, JapaneseChronology.INSTANCE};
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < locales.length; j++) {
+                assertSame(Chronology.ofLocale(locales[j]), expected[j]);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_lookupLocale_null() {
+        Chronology.ofLocale(null);
+    }
+
     //-----------------------------------------------------------------------
     // serialization; serialize and check each calendar system
     //-----------------------------------------------------------------------
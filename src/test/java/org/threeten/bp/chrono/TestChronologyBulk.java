@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.UnsupportedTemporalTypeException;
+
+/**
+ * Test the bulk conversion methods on Chronology.
+ */
+@Test
+public class TestChronologyBulk {
+
+    private static final ChronoField[] FIELDS = {
+        ChronoField.DAY_OF_WEEK, ChronoField.DAY_OF_MONTH, ChronoField.DAY_OF_YEAR,
+        ChronoField.MONTH_OF_YEAR, ChronoField.YEAR, ChronoField.YEAR_OF_ERA, ChronoField.ERA,
+        ChronoField.ALIGNED_WEEK_OF_MONTH,
+    };
+
+    @DataProvider(name = "chronos")
+    Object[][] data_chronos() {
+        return new Object[][] {
+            {IsoChronology.INSTANCE},
+            {JapaneseChronology.INSTANCE},
+            {MinguoChronology.INSTANCE},
+            {ThaiBuddhistChronology.INSTANCE},
+            {HijrahChronology.INSTANCE},
+        };
+    }
+
+    private static long[] epochDays(Chronology chrono) {
+        Random random = new Random(47);
+        long[] epochDays = new long[2000];
+        long min = chrono.date(LocalDate.of(1873, 1, 1)).toEpochDay();
+        int i = 0;
+        for (; i < 1000; i++) {
+            epochDays[i] = min + random.nextInt(120000);
+        }
+        for (; i < 1990; i++) {
+            epochDays[i] = min + random.nextInt(2500000);
+        }
+        epochDays[i++] = min;
+        epochDays[i++] = LocalDate.of(1912, 7, 30).toEpochDay();
+        epochDays[i++] = LocalDate.of(1926, 12, 25).toEpochDay();
+        epochDays[i++] = LocalDate.of(1989, 1, 7).toEpochDay();
+        epochDays[i++] = LocalDate.of(1989, 1, 8).toEpochDay();
+        epochDays[i++] = LocalDate.of(2019, 4, 30).toEpochDay();
+        epochDays[i++] = LocalDate.of(2019, 5, 1).toEpochDay();
+        epochDays[i++] = LocalDate.of(2000, 2, 29).toEpochDay();
+        epochDays[i++] = -1;
+        epochDays[i++] = 0;
+        return epochDays;
+    }
+
+    //-----------------------------------------------------------------------
+    // fieldsFromEpochDays()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "chronos")
+    public void test_fieldsFromEpochDays(Chronology chrono) {
+        long[] epochDays = epochDays(chrono);
+        for (ChronoField field : FIELDS) {
+            if (chrono.dateEpochDay(0).isSupported(field) == false) {
+                continue;
+            }
+            int[] out = new int[epochDays.length];
+            chrono.fieldsFromEpochDays(epochDays, field, out);
+            for (int i = 0; i < epochDays.length; i++) {
+                assertEquals(out[i], chrono.dateEpochDay(epochDays[i]).getLong(field), field + " " + epochDays[i]);
+            }
+        }
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_fieldsFromEpochDays_largeOutput(Chronology chrono) {
+        int[] out = {-7, -7, -7};
+        chrono.fieldsFromEpochDays(new long[] {0, 1}, ChronoField.DAY_OF_WEEK, out);
+        assertEquals(out[0], 4);
+        assertEquals(out[1], 5);
+        assertEquals(out[2], -7);
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_fieldsFromEpochDays_outOfRange(Chronology chrono) {
+        long[] epochDays = {0, 365L * 2000000000L};
+        for (ChronoField field : FIELDS) {
+            try {
+                chrono.fieldsFromEpochDays(epochDays, field, new int[2]);
+                fail();
+            } catch (DateTimeException ex) {
+                // expected
+            }
+        }
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = UnsupportedTemporalTypeException.class)
+    public void test_fieldsFromEpochDays_timeField(Chronology chrono) {
+        chrono.fieldsFromEpochDays(new long[] {0}, ChronoField.HOUR_OF_DAY, new int[1]);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = IllegalArgumentException.class)
+    public void test_fieldsFromEpochDays_outputTooShort(Chronology chrono) {
+        chrono.fieldsFromEpochDays(new long[] {0, 1}, ChronoField.YEAR, new int[1]);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = NullPointerException.class)
+    public void test_fieldsFromEpochDays_nullField(Chronology chrono) {
+        chrono.fieldsFromEpochDays(new long[] {0}, null, new int[1]);
+    }
+
+    //-----------------------------------------------------------------------
+    // epochDaysFrom()
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "chronos")
+    public void test_epochDaysFrom(Chronology chrono) {
+        long[] epochDays = epochDays(chrono);
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            ChronoLocalDate date = chrono.dateEpochDay(epochDays[i]);
+            years[i] = date.get(ChronoField.YEAR);
+            months[i] = date.get(ChronoField.MONTH_OF_YEAR);
+            days[i] = date.get(ChronoField.DAY_OF_MONTH);
+        }
+        long[] out = new long[epochDays.length];
+        chrono.epochDaysFrom(years, months, days, out);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(out[i], epochDays[i]);
+        }
+    }
+
+    @DataProvider(name = "invalidDates")
+    Object[][] data_invalidDates() {
+        return new Object[][] {
+            {IsoChronology.INSTANCE, 2007, 2, 29},
+            {IsoChronology.INSTANCE, 2007, 13, 1},
+            {IsoChronology.INSTANCE, 1000000000, 1, 1},
+            {JapaneseChronology.INSTANCE, 1872, 12, 31},
+            {JapaneseChronology.INSTANCE, 2007, 2, 29},
+            {MinguoChronology.INSTANCE, 96, 2, 29},
+            {MinguoChronology.INSTANCE, 96, 1, 32},
+            {ThaiBuddhistChronology.INSTANCE, 2550, 2, 29},
+            {ThaiBuddhistChronology.INSTANCE, 2550, 0, 1},
+            {HijrahChronology.INSTANCE, 1430, 13, 1},
+            {HijrahChronology.INSTANCE, 1430, 1, 31},
+            {HijrahChronology.INSTANCE, 10000, 1, 1},
+        };
+    }
+
+    @Test(dataProvider = "invalidDates", expectedExceptions = DateTimeException.class)
+    public void test_epochDaysFrom_invalid(Chronology chrono, int year, int month, int day) {
+        int yearOk = chrono.date(LocalDate.of(2007, 1, 1)).get(ChronoField.YEAR);
+        chrono.epochDaysFrom(new int[] {yearOk, year}, new int[] {1, month}, new int[] {1, day}, new long[2]);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = IllegalArgumentException.class)
+    public void test_epochDaysFrom_differentLengths(Chronology chrono) {
+        chrono.epochDaysFrom(new int[] {2000, 2001}, new int[] {1}, new int[] {1, 1}, new long[2]);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = IllegalArgumentException.class)
+    public void test_epochDaysFrom_outputTooShort(Chronology chrono) {
+        chrono.epochDaysFrom(new int[] {100, 101}, new int[] {1, 1}, new int[] {1, 1}, new long[1]);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = NullPointerException.class)
+    public void test_epochDaysFrom_null(Chronology chrono) {
+        chrono.epochDaysFrom(null, new int[0], new int[0], new long[0]);
+    }
+
+}
@@ -37,6 +37,10 @@ import static org.testng.Assert.assertTrue;
 
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_WEEK_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -125,6 +129,40 @@ public class TestHijrahChronology {
         HijrahChronology.INSTANCE.date(year, month, dom);
     }
 
+    //-----------------------------------------------------------------------
+    // dateEpochDay(long)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_dateEpochDay_consecutive() {
+        HijrahDate start = HijrahChronology.INSTANCE.date(1, 1, 1);
+        HijrahDate end = HijrahChronology.INSTANCE.date(9999, 12, 29);
+        long previousYear = 1;
+        long previousMonth = 1;
+        long previousDay = 0;
+        long previousDayOfYear = 0;
+        for (long epochDay = start.toEpochDay(); epochDay <= end.toEpochDay(); epochDay += 1 + (epochDay & 3)) {
+            HijrahDate date = HijrahChronology.INSTANCE.dateEpochDay(epochDay);
+            assertEquals(date.toEpochDay(), epochDay);
+            long year = date.getLong(YEAR);
+            long month = date.getLong(MONTH_OF_YEAR);
+            long day = date.getLong(DAY_OF_MONTH);
+            long dayOfYear = date.getLong(DAY_OF_YEAR);
+            assertTrue(day <= date.lengthOfMonth());
+            assertTrue(dayOfYear <= date.lengthOfYear());
+            if (year == previousYear) {
+                assertTrue(dayOfYear > previousDayOfYear);
+                assertTrue(month > previousMonth || (month == previousMonth && day > previousDay));
+            } else {
+                assertEquals(year, previousYear + 1);
+            }
+            previousYear = year;
+            previousMonth = month;
+            previousDay = day;
+            previousDayOfYear = dayOfYear;
+        }
+        assertEquals(previousYear, 9999);
+    }
+
     //-----------------------------------------------------------------------
     // getLong(field)
     //-----------------------------------------------------------------------
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.chrono;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.ParseException;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test HijrahDeviations.
+ */
+@Test
+public class TestHijrahDeviations {
+
+    //-----------------------------------------------------------------------
+    // parse()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_parse() throws Exception {
+        HijrahDeviations test = HijrahDeviations.parse("1429/0-1429/1:1\n 1429/2-1429/7:1;1429/6-1429/11:-1 \n\n1429/11-9999/11:2");
+        assertEquals(test.size(), 4);
+        assertEquals(test.getDeviation(0), new int[] {1429, 0, 1429, 1, 1});
+        assertEquals(test.getDeviation(1), new int[] {1429, 2, 1429, 7, 1});
+        assertEquals(test.getDeviation(2), new int[] {1429, 6, 1429, 11, -1});
+        assertEquals(test.getDeviation(3), new int[] {1429, 11, 9999, 11, 2});
+        assertEquals(test.toString(), "1429/0-1429/1:1;1429/2-1429/7:1;1429/6-1429/11:-1;1429/11-9999/11:2");
+    }
+
+    @Test
+    public void test_parse_empty() throws Exception {
+        assertEquals(HijrahDeviations.parse(""), HijrahDeviations.NONE);
+        assertEquals(HijrahDeviations.NONE.size(), 0);
+        assertEquals(HijrahDeviations.NONE.toString(), "");
+    }
+
+    @Test
+    public void test_parse_toString() throws Exception {
+        HijrahDeviations base = HijrahDeviations.NONE.withDeviation(1, 0, 2, 11, 1).withDeviation(1430, 8, 1430, 8, -2);
+        assertEquals(HijrahDeviations.parse(base.toString()), base);
+    }
+
+    @DataProvider(name="badParse")
+    Object[][] data_badParse() {
+        return new Object[][] {
+            {"1429/0-1429/1"},
+            {"1429/0-1429/1:x"},
+            {"1429/0:1"},
+            {"1429/0-1429:1"},
+            {"1429-1429/1:1"},
+            {"x/0-1429/1:1"},
+            {"1429/x-1429/1:1"},
+            {"1429/0-x/1:1"},
+            {"1429/0-1429/x:1"},
+            {"0/0-1429/1:1"},
+            {"1429/12-1429/1:1"},
+            {"1429/0-10000/1:1"},
+            {"1430/0-1429/1:1"},
+            {"1429/5-1429/1:1"},
+        };
+    }
+
+    @Test(dataProvider="badParse", expectedExceptions=ParseException.class)
+    public void test_parse_invalid(String text) throws Exception {
+        HijrahDeviations.parse(text);
+    }
+
+    @Test
+    public void test_parse_invalid_lineNumber() throws Exception {
+        try {
+            HijrahDeviations.parse("1429/0-1429/1:1\n1429/0-1429/1:1;1429/0-x/1:1");
+        } catch (ParseException ex) {
+            assertEquals(ex.getErrorOffset(), 2);
+            return;
+        }
+        throw new AssertionError();
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_parse_null() throws Exception {
+        HijrahDeviations.parse(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // of(InputStream)
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_of_stream() throws Exception {
+        byte[] bytes = "1429/0-1429/1:1\r\n1429/2-1429/7:1;1429/6-1429/11:1\r\n".getBytes("UTF-8");
+        HijrahDeviations test = HijrahDeviations.of(new ByteArrayInputStream(bytes));
+        assertEquals(test, HijrahDeviations.parse("1429/0-1429/1:1;1429/2-1429/7:1;1429/6-1429/11:1"));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_of_stream_null() throws Exception {
+        HijrahDeviations.of(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // withDeviation()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_withDeviation_immutable() {
+        HijrahDeviations base = HijrahDeviations.NONE.withDeviation(1429, 0, 1429, 1, 1);
+        HijrahDeviations test = base.withDeviation(1429, 2, 1429, 7, -1);
+        assertEquals(base.size(), 1);
+        assertEquals(test.size(), 2);
+        test.getDeviation(0)[4] = 2;
+        assertEquals(test.getDeviation(0)[4], 1);
+    }
+
+    @DataProvider(name="badDeviation")
+    Object[][] data_badDeviation() {
+        return new Object[][] {
+            {0, 0, 1, 0},
+            {1, -1, 1, 0},
+            {1, 12, 2, 0},
+            {1, 0, 1, 12},
+            {1, 0, 10000, 0},
+            {2, 0, 1, 0},
+            {1, 5, 1, 4},
+        };
+    }
+
+    @Test(dataProvider="badDeviation", expectedExceptions=IllegalArgumentException.class)
+    public void test_withDeviation_invalid(int startYear, int startMonth, int endYear, int endMonth) {
+        HijrahDeviations.NONE.withDeviation(startYear, startMonth, endYear, endMonth, 1);
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_getDeviation_invalid() {
+        HijrahDeviations.NONE.getDeviation(0);
+    }
+
+    //-----------------------------------------------------------------------
+    // equals() / hashCode()
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_equals() throws Exception {
+        HijrahDeviations a = HijrahDeviations.NONE.withDeviation(1429, 0, 1429, 1, 1);
+        HijrahDeviations b = HijrahDeviations.parse("1429/0-1429/1:1");
+        HijrahDeviations c = HijrahDeviations.parse("1429/0-1429/1:-1");
+        assertTrue(a.equals(a));
+        assertTrue(a.equals(b));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertFalse(a.equals(c));
+        assertFalse(a.equals(HijrahDeviations.NONE));
+        assertFalse(a.equals(null));
+        assertFalse(a.equals(""));
+    }
+
+    //-----------------------------------------------------------------------
+    // setDeviations()
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions=IllegalStateException.class)
+    public void test_setDeviations_afterUse() {
+        HijrahChronology.INSTANCE.date(1430, 1, 1);
+        HijrahDeviations.setDeviations(HijrahDeviations.NONE);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_setDeviations_null() {
+        HijrahDeviations.setDeviations(null);
+    }
+
+    @Test
+    public void test_setDeviations_appliedToDates() throws Exception {
+        // each calculation uses a new class loader, as the deviations are applied once
+        long plain1 = epochDayWithDeviations("", 1430, 1, 1);
+        long plain2 = epochDayWithDeviations("", 1430, 2, 1);
+        long plain6 = epochDayWithDeviations("", 1430, 6, 1);
+        long plain7 = epochDayWithDeviations("", 1430, 7, 1);
+        // the months after the start month, up to and including the end month, begin a day earlier
+        assertEquals(epochDayWithDeviations("1430/0-1430/5:1", 1430, 1, 1), plain1);
+        assertEquals(epochDayWithDeviations("1430/0-1430/5:1", 1430, 2, 1), plain2 - 1);
+        assertEquals(epochDayWithDeviations("1430/0-1430/5:1", 1430, 6, 1), plain6 - 1);
+        assertEquals(epochDayWithDeviations("1430/0-1430/5:1", 1430, 7, 1), plain7);
+        // or a day later
+        assertEquals(epochDayWithDeviations("1430/0-1430/5:-1", 1430, 2, 1), plain2 + 1);
+    }
+
+    private static long epochDayWithDeviations(String deviations, int year, int month, int dayOfMonth) throws Exception {
+        URL classes = HijrahDeviations.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader loader = new URLClassLoader(new URL[] {classes}, null);
+        Class<?> deviationsClass = Class.forName(HijrahDeviations.class.getName(), true, loader);
+        Object parsed = deviationsClass.getMethod("parse", CharSequence.class).invoke(null, deviations);
+        deviationsClass.getMethod("setDeviations", deviationsClass).invoke(null, parsed);
+        Class<?> chronoClass = Class.forName(HijrahChronology.class.getName(), true, loader);
+        Object chrono = chronoClass.getField("INSTANCE").get(null);
+        Object date = chronoClass.getMethod("date", int.class, int.class, int.class).invoke(chrono, year, month, dayOfMonth);
+        return (Long) date.getClass().getMethod("toEpochDay").invoke(date);
+    }
+
+}
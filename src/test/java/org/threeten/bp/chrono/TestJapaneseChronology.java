@@ -35,6 +35,9 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR_OF_ERA;
 
 import java.util.List;
 
@@ -46,6 +49,7 @@ import org.threeten.bp.LocalDate;
 import org.threeten.bp.LocalDateTime;
 import org.threeten.bp.Month;
 import org.threeten.bp.temporal.TemporalAdjusters;
+import org.threeten.bp.temporal.ValueRange;
 
 /**
  * Test.
@@ -227,6 +231,49 @@ public class TestJapaneseChronology {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // range(DAY_OF_YEAR), range(YEAR_OF_ERA), lengthOfYear()
+    //-----------------------------------------------------------------------
+    @DataProvider(name="ranges")
+    Object[][] data_ranges() {
+        return new Object[][] {
+            {LocalDate.of(1873, 1, 1), 365, 1, 45},
+            {LocalDate.of(1912, 7, 29), 211, 1, 45},
+            {LocalDate.of(1911, 7, 30), 365, 1, 44},
+            {LocalDate.of(1912, 7, 30), 155, 1, 15},
+            {LocalDate.of(1926, 12, 24), 358, 1, 15},
+            {LocalDate.of(1913, 7, 29), 365, 2, 15},
+            {LocalDate.of(1926, 12, 25), 7, 1, 63},
+            {LocalDate.of(1988, 1, 7), 366, 2, 64},
+            {LocalDate.of(1988, 1, 8), 366, 2, 63},
+            {LocalDate.of(1988, 2, 29), 366, 2, 63},
+            {LocalDate.of(1989, 1, 7), 7, 2, 64},
+            {LocalDate.of(1989, 1, 8), 358, 1, 31},
+            {LocalDate.of(1992, 2, 29), 366, 1, 31},
+            {LocalDate.of(2019, 4, 30), 120, 1, 31},
+            {LocalDate.of(2019, 5, 1), 245, 1, -1},
+            {LocalDate.of(2020, 2, 29), 366, 2, -1},
+        };
+    }
+
+    @Test(dataProvider="ranges")
+    public void test_range(LocalDate iso, int lengthOfYear, int minYear, int maxYear) {
+        JapaneseDate test = JapaneseDate.from(iso);
+        assertEquals(test.lengthOfYear(), lengthOfYear);
+        assertEquals(test.range(DAY_OF_YEAR), ValueRange.of(1, lengthOfYear));
+        ValueRange yearRange = test.range(YEAR_OF_ERA);
+        assertEquals(yearRange.getMinimum(), minYear);
+        if (maxYear > 0) {
+            assertEquals(yearRange.getMaximum(), maxYear);
+        }
+        assertEquals(test.with(DAY_OF_YEAR, lengthOfYear).getLong(DAY_OF_YEAR), lengthOfYear);
+    }
+
+    @Test
+    public void test_range_monthOfYear() {
+        assertEquals(JapaneseChronology.INSTANCE.range(MONTH_OF_YEAR), ValueRange.of(1, 1, 12));
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
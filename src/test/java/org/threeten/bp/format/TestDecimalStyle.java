@@ -37,6 +37,7 @@ import java.util.Locale;
 import java.util.Set;
 
 import org.testng.annotations.Test;
+import org.threeten.bp.LocalDateTime;
 
 /**
  * Test DecimalStyle.
@@ -130,6 +131,35 @@ public class TestDecimalStyle {
         assertEquals(base.convertNumberToI18N("134"), "BDE");
     }
 
+    @Test
+    public void test_appendNumberI18N() {
+        StringBuilder buf = new StringBuilder("x");
+        DecimalStyle.STANDARD.appendNumberI18N(buf, "0.134", 2);
+        DecimalStyle.STANDARD.withZeroDigit('A').appendNumberI18N(buf, "0.134", 2);
+        assertEquals(buf.toString(), "x134BDE");
+    }
+
+    @Test
+    public void test_appendDigits() {
+        StringBuilder buf = new StringBuilder("x");
+        DecimalStyle.STANDARD.appendDigits(buf, 134, 3);
+        DecimalStyle.STANDARD.appendDigits(buf, 7, 4);
+        DecimalStyle.STANDARD.withZeroDigit('A').appendDigits(buf, 134, 5);
+        DecimalStyle.STANDARD.appendDigits(buf, Long.MAX_VALUE, 19);
+        assertEquals(buf.toString(), "x1340007AABDE" + Long.MAX_VALUE);
+    }
+
+    @Test
+    public void test_printParse_arabicIndic() {
+        DecimalStyle arabic = DecimalStyle.STANDARD.withZeroDigit('\u0660');
+        DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withDecimalStyle(arabic);
+        LocalDateTime dateTime = LocalDateTime.of(2012, 7, 9, 3, 5, 40, 120000000);
+        String text = f.format(dateTime);
+        assertEquals(text, "\u0662\u0660\u0661\u0662-\u0660\u0667-\u0660\u0669 " +
+                "\u0660\u0663:\u0660\u0665:\u0664\u0660.\u0661\u0662\u0660");
+        assertEquals(LocalDateTime.parse(text, f), dateTime);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void test_equalsHashCode1() {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+import org.testng.annotations.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.chrono.ThaiBuddhistDate;
+import org.threeten.bp.format.DateTimeFormatterBuilder.LocalizedPrinterParser;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Test LocalizedPrinterParser.
+ */
+@Test
+public class TestLocalizedPrinterParser {
+
+    private static final Locale[] LOCALES = {Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ENGLISH, Locale.ENGLISH};
+
+    private static DateTimeFormatter expected(Locale locale) {
+        String pattern = ((SimpleDateFormat) DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, locale)).toPattern();
+        return DateTimeFormatter.ofPattern(pattern, locale);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_print_changingLocale() {
+        LocalizedPrinterParser pp = new LocalizedPrinterParser(FormatStyle.MEDIUM, FormatStyle.MEDIUM);
+        LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, 12, 30, 40);
+        for (Locale locale : LOCALES) {
+            StringBuilder buf = new StringBuilder();
+            pp.print(new DateTimePrintContext(dateTime, locale, DecimalStyle.STANDARD), buf);
+            assertEquals(buf.toString(), expected(locale).format(dateTime), locale.toString());
+        }
+    }
+
+    public void test_print_changingChronology() {
+        LocalizedPrinterParser pp = new LocalizedPrinterParser(FormatStyle.MEDIUM, null);
+        String pattern = ((SimpleDateFormat) DateFormat.getDateInstance(DateFormat.MEDIUM, Locale.ENGLISH)).toPattern();
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+        TemporalAccessor[] dates = {
+            LocalDate.of(2012, 6, 30), ThaiBuddhistDate.of(2555, 6, 30), LocalDate.of(2012, 7, 1),
+        };
+        for (TemporalAccessor date : dates) {
+            StringBuilder buf = new StringBuilder();
+            pp.print(new DateTimePrintContext(date, Locale.ENGLISH, DecimalStyle.STANDARD), buf);
+            assertEquals(buf.toString(), expected.format(date));
+        }
+    }
+
+    public void test_parse_changingLocale() {
+        LocalizedPrinterParser pp = new LocalizedPrinterParser(FormatStyle.MEDIUM, FormatStyle.MEDIUM);
+        LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, 12, 30, 40);
+        for (Locale locale : LOCALES) {
+            String text = expected(locale).format(dateTime);
+            DateTimeParseContext context = new DateTimeParseContext(locale, DecimalStyle.STANDARD, IsoChronology.INSTANCE);
+            assertEquals(pp.parse(context, text, 0), text.length(), text);
+            assertTrue(context.toParsed().fieldValues.size() > 0);
+        }
+    }
+
+    public void test_formatter_ofLocalizedDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, 12, 30, 40);
+        for (Locale locale : LOCALES) {
+            DateTimeFormatter f = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(locale);
+            String text = f.format(dateTime);
+            assertEquals(text, expected(locale).format(dateTime));
+            assertEquals(LocalDateTime.parse(text, f), dateTime);
+        }
+    }
+
+    public void test_toString() {
+        assertEquals(new LocalizedPrinterParser(FormatStyle.MEDIUM, null).toString(), "Localized(MEDIUM,)");
+    }
+
+}
@@ -32,15 +32,25 @@
 package org.threeten.bp.format;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 import static org.threeten.bp.temporal.ChronoField.AMPM_OF_DAY;
+import static org.threeten.bp.temporal.ChronoField.DAY_OF_MONTH;
 import static org.threeten.bp.temporal.ChronoField.DAY_OF_WEEK;
+import static org.threeten.bp.temporal.ChronoField.ERA;
 import static org.threeten.bp.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.threeten.bp.temporal.ChronoField.YEAR;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.Year;
 import org.threeten.bp.temporal.TemporalField;
 
 /**
@@ -157,4 +167,73 @@ public class TestSimpleDateTimeTextProvider {
         assertEquals(tp.getText(field, value.longValue(), style, locale).equalsIgnoreCase(expected), true, expected);
     }
 
+    public void test_getText_outOfRange() {
+        DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+        assertNull(tp.getText(MONTH_OF_YEAR, 0, TextStyle.FULL, enUS));
+        assertNull(tp.getText(MONTH_OF_YEAR, 13, TextStyle.FULL, enUS));
+        assertNull(tp.getText(MONTH_OF_YEAR, Long.MIN_VALUE, TextStyle.FULL, enUS));
+        assertNull(tp.getText(MONTH_OF_YEAR, Long.MAX_VALUE, TextStyle.FULL, enUS));
+        assertNull(tp.getText(DAY_OF_MONTH, 1, TextStyle.FULL, enUS));
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "Find")
+    Object[][] data_find() {
+        return new Object[][] {
+            {MONTH_OF_YEAR, TextStyle.FULL, enUS},
+            {MONTH_OF_YEAR, TextStyle.SHORT, enUS},
+            {MONTH_OF_YEAR, null, enUS},
+            {MONTH_OF_YEAR, null, frFR},
+            {DAY_OF_WEEK, TextStyle.FULL, ptBR},
+            {DAY_OF_WEEK, null, ptBR},
+            {AMPM_OF_DAY, null, enUS},
+            {ERA, null, enUS},
+        };
+    }
+
+    @Test(dataProvider = "Find")
+    public void test_findMatch_matchesIterator(TemporalField field, TextStyle style, Locale locale) {
+        DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+        SimpleDateTimeTextProvider.LocaleStore store = tp.findStore(field, locale);
+        assertTrue(store.isParsable(style));
+        for (boolean caseSensitive : new boolean[] {true, false}) {
+            DateTimeParseContext context = new DateTimeParseContext(DateTimeFormatter.ISO_DATE.withLocale(locale));
+            context.setCaseSensitive(caseSensitive);
+            Iterator<Entry<String, Long>> it = tp.getTextIterator(field, style, locale);
+            while (it.hasNext()) {
+                String text = it.next().getKey();
+                for (String parseText : new String[] {"x" + text + "x", "x" + text.toUpperCase(locale), "x" + text.substring(0, 1)}) {
+                    Entry<String, Long> expected = null;
+                    Iterator<Entry<String, Long>> it2 = tp.getTextIterator(field, style, locale);
+                    while (it2.hasNext()) {
+                        Entry<String, Long> entry = it2.next();
+                        if (context.subSequenceEquals(entry.getKey(), 0, parseText, 1, entry.getKey().length())) {
+                            expected = entry;
+                            break;
+                        }
+                    }
+                    assertEquals(store.findMatch(style, context, parseText, 1), expected, parseText);
+                }
+            }
+        }
+    }
+
+    public void test_parse_caseInsensitive() {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().parseCaseInsensitive()
+                .appendText(MONTH_OF_YEAR).toFormatter(enUS);
+        assertEquals(f.parse("JUNE").getLong(MONTH_OF_YEAR), 6);
+        assertEquals(f.parse("june").getLong(MONTH_OF_YEAR), 6);
+    }
+
+    public void test_sparseMap() {
+        Map<Long, String> map = new HashMap<Long, String>();
+        map.put(1L, "One");
+        map.put(1000000L, "Million");
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendText(YEAR, map).toFormatter();
+        assertEquals(f.format(Year.of(1000000)), "Million");
+        assertEquals(f.format(Year.of(2)), "2");
+        assertEquals(f.parse("One").getLong(YEAR), 1);
+        assertEquals(f.parse("Million").getLong(YEAR), 1000000);
+    }
+
 }
@@ -41,11 +41,22 @@ import static org.threeten.bp.DayOfWeek.TUESDAY;
 import static org.threeten.bp.Month.DECEMBER;
 import static org.threeten.bp.Month.JANUARY;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
 import org.threeten.bp.DayOfWeek;
 import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
 import org.threeten.bp.Month;
+import org.threeten.bp.Year;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
 
 /**
  * Test DateTimeAdjusters.
@@ -559,6 +570,105 @@ public class TestTemporalAdjusters {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // ISO fast paths and adjustEpochDays()
+    //-----------------------------------------------------------------------
+    private static List<TemporalAdjuster> adjusters() {
+        List<TemporalAdjuster> adjusters = new ArrayList<TemporalAdjuster>();
+        adjusters.add(TemporalAdjusters.firstDayOfMonth());
+        adjusters.add(TemporalAdjusters.lastDayOfMonth());
+        adjusters.add(TemporalAdjusters.firstDayOfNextMonth());
+        adjusters.add(TemporalAdjusters.firstDayOfYear());
+        adjusters.add(TemporalAdjusters.lastDayOfYear());
+        adjusters.add(TemporalAdjusters.firstDayOfNextYear());
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            adjusters.add(TemporalAdjusters.next(dow));
+            adjusters.add(TemporalAdjusters.nextOrSame(dow));
+            adjusters.add(TemporalAdjusters.previous(dow));
+            adjusters.add(TemporalAdjusters.previousOrSame(dow));
+            for (int ordinal = -6; ordinal <= 6; ordinal++) {
+                adjusters.add(TemporalAdjusters.dayOfWeekInMonth(ordinal, dow));
+            }
+        }
+        return adjusters;
+    }
+
+    @Test
+    public void test_isoFastPaths_matchGeneral() {
+        LocalTime time = LocalTime.of(2, 30);
+        for (TemporalAdjuster adjuster : adjusters()) {
+            for (LocalDate date = LocalDate.of(2011, 12, 20); date.getYear() < 2013; date = date.plusDays(1)) {
+                // OffsetDateTime uses the general algorithm
+                LocalDate expected = date.atTime(time).atOffset(ZoneOffset.UTC).with(adjuster).toLocalDate();
+                assertEquals(date.with(adjuster), expected, adjuster + " " + date);
+                assertEquals(date.atTime(time).with(adjuster), expected.atTime(time));
+            }
+        }
+    }
+
+    @Test
+    public void test_zonedDateTime_overlap() {
+        // the offset in the overlap is retained from the intermediate date-time of the general algorithm
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime zdt = ZonedDateTime.of(LocalDateTime.of(2000, 10, 1, 2, 30), zone);
+        assertEquals(zdt.getOffset(), ZoneOffset.ofHours(2));
+        LocalDateTime overlap = LocalDateTime.of(2000, 10, 29, 2, 30);
+        ZonedDateTime earlier = ZonedDateTime.ofLocal(overlap, zone, ZoneOffset.ofHours(2));
+        ZonedDateTime later = ZonedDateTime.ofLocal(overlap, zone, ZoneOffset.ofHours(1));
+        assertEquals(later.getOffset(), ZoneOffset.ofHours(1));
+        // via 2000-10-31
+        assertEquals(zdt.with(TemporalAdjusters.lastInMonth(DayOfWeek.SUNDAY)), later);
+        assertEquals(zdt.with(TemporalAdjusters.dayOfWeekInMonth(-1, DayOfWeek.SUNDAY)), later);
+        // via 2000-10-01
+        assertEquals(zdt.with(TemporalAdjusters.dayOfWeekInMonth(5, DayOfWeek.SUNDAY)), earlier);
+    }
+
+    @Test
+    public void test_isoFastPaths_same() {
+        LocalDate date = LocalDate.of(2012, 7, 1);
+        assertSame(date.with(TemporalAdjusters.firstDayOfMonth()), date);
+        assertSame(date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)), date);
+        LocalDateTime dateTime = date.atTime(12, 0);
+        assertSame(dateTime.with(TemporalAdjusters.firstDayOfMonth()), dateTime);
+    }
+
+    @Test
+    public void test_adjustEpochDays() {
+        Random random = new Random(17);
+        long[] epochDays = new long[1000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = random.nextInt(3000000) - 1500000;
+        }
+        epochDays[0] = LocalDate.of(Year.MIN_VALUE + 1, 1, 1).toEpochDay();
+        epochDays[1] = LocalDate.of(Year.MAX_VALUE - 1, 12, 31).toEpochDay();
+        long[] out = new long[epochDays.length];
+        for (TemporalAdjuster adjuster : adjusters()) {
+            TemporalAdjusters.adjustEpochDays(adjuster, epochDays, out);
+            for (int i = 0; i < epochDays.length; i++) {
+                assertEquals(out[i], LocalDate.ofEpochDay(epochDays[i]).with(adjuster).toEpochDay(), adjuster + " " + epochDays[i]);
+            }
+        }
+    }
+
+    @Test
+    public void test_adjustEpochDays_otherAdjuster() {
+        long[] epochDays = {0, 40};
+        TemporalAdjusters.adjustEpochDays(LocalDate.of(2012, 6, 30), epochDays, epochDays);
+        long expected = LocalDate.of(2012, 6, 30).toEpochDay();
+        assertEquals(epochDays, new long[] {expected, expected});
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_adjustEpochDays_outOfRange() {
+        long[] epochDays = {LocalDate.MAX.toEpochDay()};
+        TemporalAdjusters.adjustEpochDays(TemporalAdjusters.firstDayOfNextMonth(), epochDays, new long[1]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_adjustEpochDays_outputTooShort() {
+        TemporalAdjusters.adjustEpochDays(TemporalAdjusters.firstDayOfMonth(), new long[2], new long[1]);
+    }
+
     private LocalDate date(int year, Month month, int day) {
         return LocalDate.of(year, month, day);
     }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2007-present, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.threeten.bp.temporal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.threeten.bp.DateTimeException;
+import org.threeten.bp.DayOfWeek;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+
+/**
+ * Test WeekFields.
+ */
+@Test
+public class TestWeekFields {
+
+    @DataProvider(name = "locales")
+    Object[][] data_locales() {
+        return new Object[][] {
+            {Locale.US},
+            {Locale.UK},
+            {Locale.FRANCE},
+            {new Locale("es", "MX")},
+            {new Locale("ar", "SA")},
+            {new Locale("en", "US", "POSIX")},
+            {new Locale("xx", "YY")},
+        };
+    }
+
+    @Test(dataProvider = "locales")
+    public void test_of_locale(Locale locale) {
+        GregorianCalendar gcal = new GregorianCalendar(new Locale(locale.getLanguage(), locale.getCountry()));
+        DayOfWeek firstDayOfWeek = DayOfWeek.SUNDAY.plus(gcal.getFirstDayOfWeek() - 1);
+        int minDays = gcal.getMinimalDaysInFirstWeek();
+        WeekFields test = WeekFields.of(locale);
+        assertEquals(test.getFirstDayOfWeek(), firstDayOfWeek);
+        assertEquals(test.getMinimalDaysInFirstWeek(), minDays);
+        assertSame(WeekFields.of(locale), test);
+        assertSame(WeekFields.of(firstDayOfWeek, minDays), test);
+    }
+
+    public void test_of_locale_matchesCalendar() {
+        for (Locale locale : Locale.getAvailableLocales()) {
+            GregorianCalendar gcal = new GregorianCalendar(new Locale(locale.getLanguage(), locale.getCountry()));
+            WeekFields test = WeekFields.of(locale);
+            assertEquals(test.getFirstDayOfWeek(), DayOfWeek.SUNDAY.plus(gcal.getFirstDayOfWeek() - 1), locale.toString());
+            assertEquals(test.getMinimalDaysInFirstWeek(), gcal.getMinimalDaysInFirstWeek(), locale.toString());
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_locale_null() {
+        WeekFields.of((Locale) null);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_of_dayOfWeek_minDays() {
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                WeekFields test = WeekFields.of(dow, minDays);
+                assertEquals(test.getFirstDayOfWeek(), dow);
+                assertEquals(test.getMinimalDaysInFirstWeek(), minDays);
+                assertSame(WeekFields.of(dow, minDays), test);
+            }
+        }
+        assertSame(WeekFields.of(DayOfWeek.MONDAY, 4), WeekFields.ISO);
+        assertSame(WeekFields.of(DayOfWeek.SUNDAY, 1), WeekFields.SUNDAY_START);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_dayOfWeek_minDays_tooSmall() {
+        WeekFields.of(DayOfWeek.MONDAY, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_of_dayOfWeek_minDays_tooLarge() {
+        WeekFields.of(DayOfWeek.MONDAY, 8);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_of_dayOfWeek_minDays_null() {
+        WeekFields.of(null, 1);
+    }
+
+    //-----------------------------------------------------------------------
+    private static TemporalField[] fields(WeekFields weekDef) {
+        return new TemporalField[] {
+            weekDef.dayOfWeek(), weekDef.weekOfMonth(), weekDef.weekOfYear(),
+            weekDef.weekOfWeekBasedYear(), weekDef.weekBasedYear(),
+        };
+    }
+
+    private static long[] epochDays() {
+        Random random = new Random(7);
+        long[] epochDays = new long[3 * 366 + 500 + 4];
+        long start = LocalDate.of(2007, 12, 20).toEpochDay();
+        int i = 0;
+        for (; i < 3 * 366; i++) {
+            epochDays[i] = start + i;
+        }
+        for (; i < 3 * 366 + 500; i++) {
+            epochDays[i] = random.nextInt(3000000) - 1500000;
+        }
+        epochDays[i++] = LocalDate.of(Year.MIN_VALUE + 1, 1, 1).toEpochDay();
+        epochDays[i++] = LocalDate.of(Year.MIN_VALUE + 1, 1, 6).toEpochDay();
+        epochDays[i++] = LocalDate.of(Year.MAX_VALUE - 1, 12, 26).toEpochDay();
+        epochDays[i++] = LocalDate.of(Year.MAX_VALUE - 1, 12, 31).toEpochDay();
+        return epochDays;
+    }
+
+    public void test_getFrom_localDate_matchesGeneral() {
+        long[] epochDays = epochDays();
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                WeekFields weekDef = WeekFields.of(dow, minDays);
+                for (TemporalField field : fields(weekDef)) {
+                    for (long epochDay : epochDays) {
+                        LocalDate date = LocalDate.ofEpochDay(epochDay);
+                        LocalDateTime dateTime = date.atStartOfDay();
+                        String msg = field + " " + date;
+                        assertEquals(date.getLong(field), dateTime.getLong(field), msg);
+                        assertEquals(date.range(field), dateTime.range(field), msg);
+                    }
+                }
+            }
+        }
+    }
+
+    public void test_fieldsFromEpochDays() {
+        long[] epochDays = epochDays();
+        for (DayOfWeek dow : DayOfWeek.values()) {
+            for (int minDays = 1; minDays <= 7; minDays++) {
+                WeekFields weekDef = WeekFields.of(dow, minDays);
+                for (TemporalField field : fields(weekDef)) {
+                    int[] out = new int[epochDays.length];
+                    weekDef.fieldsFromEpochDays(epochDays, field, out);
+                    for (int i = 0; i < epochDays.length; i++) {
+                        assertEquals(out[i], LocalDate.ofEpochDay(epochDays[i]).get(field), field + " " + epochDays[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    public void test_fieldsFromEpochDays_otherFields() {
+        long[] epochDays = {0, 365};
+        int[] out = new int[2];
+        WeekFields.ISO.fieldsFromEpochDays(epochDays, ChronoField.YEAR, out);
+        assertEquals(out[0], 1970);
+        assertEquals(out[1], 1971);
+        WeekFields.ISO.fieldsFromEpochDays(epochDays, IsoFields.WEEK_OF_WEEK_BASED_YEAR, out);
+        assertEquals(out[0], 1);
+        assertEquals(out[1], 53);
+        WeekFields.ISO.fieldsFromEpochDays(epochDays, WeekFields.SUNDAY_START.weekOfYear(), out);
+        assertEquals(out[0], 1);
+        assertEquals(out[1], 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_fieldsFromEpochDays_outputTooShort() {
+        WeekFields.ISO.fieldsFromEpochDays(new long[2], WeekFields.ISO.weekOfYear(), new int[1]);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_fieldsFromEpochDays_outOfRange() {
+        WeekFields.ISO.fieldsFromEpochDays(new long[] {0, Long.MAX_VALUE}, WeekFields.ISO.weekOfYear(), new int[2]);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_serialization_singleton() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(baos);
+        out.writeObject(WeekFields.of(DayOfWeek.TUESDAY, 3));
+        out.close();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        assertSame(in.readObject(), WeekFields.of(DayOfWeek.TUESDAY, 3));
+    }
+
+}
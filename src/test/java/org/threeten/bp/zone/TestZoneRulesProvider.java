@@ -121,7 +121,9 @@ public class TestZoneRulesProvider {
     //-----------------------------------------------------------------------
     @Test
     public void test_refresh() {
+        int count = ZoneRulesProvider.getRefreshCount();
         assertEquals(ZoneRulesProvider.refresh(), false);
+        assertEquals(ZoneRulesProvider.getRefreshCount(), count);
     }
 
     //-----------------------------------------------------------------------